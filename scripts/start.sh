@@ -0,0 +1,39 @@
+#!/bin/sh
+# 운영 실행 스크립트 (./gradlew cdsArchive [-Paot] 결과 사용)
+#   scripts/start.sh        : 실행 - CDS 아카이브가 있으면 공유 클래스 사용, AOT 로 빌드했으면 AOT 빈 정의 사용
+#   scripts/start.sh train  : 학습 실행 - 컨텍스트 refresh 직후 종료하면서 로드된 클래스로 CDS 아카이브 생성
+# APP_HOME : 풀어 둔 애플리케이션 위치 (기본 build/cds, application.jar + lib/)
+# JAVA_OPTS : 추가 JVM 옵션, 그 외 인자는 애플리케이션에 그대로 전달
+# CDS 는 학습 / 실행의 JVM 과 클래스패스가 같아야 하므로 항상 APP_HOME 에서 같은 명령으로 실행
+set -e
+
+APP_HOME=${APP_HOME:-build/cds}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+MODE=${1:-run}
+[ $# -gt 0 ] && shift
+
+cd "$APP_HOME"
+
+AOT_OPTS=""
+if [ -f aot.enabled ]; then
+  AOT_OPTS="-Dspring.aot.enabled=true"
+fi
+
+case "$MODE" in
+  train)
+    rm -f application.jsa
+    exec "$JAVA" -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh \
+      $AOT_OPTS $JAVA_OPTS -jar application.jar "$@"
+    ;;
+  run)
+    CDS_OPTS=""
+    if [ -f application.jsa ]; then
+      CDS_OPTS="-XX:SharedArchiveFile=application.jsa"
+    fi
+    exec "$JAVA" $CDS_OPTS $AOT_OPTS $JAVA_OPTS -jar application.jar "$@"
+    ;;
+  *)
+    echo "usage: $0 [run|train] [application args...]" >&2
+    exit 1
+    ;;
+esac
@@ -0,0 +1,59 @@
+package com.reservation.jmh;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.ReservationEntity;
+import com.reservation.domain.ReviewEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.reservation.ReservationDto;
+import com.reservation.dto.review.ReviewDto;
+import com.reservation.type.ArrivalStatus;
+import com.reservation.type.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private ReservationEntity reservation;
+    private ReviewEntity review;
+
+    @Setup
+    public void setUp() {
+        MemberEntity member = JmhFixtures.member();
+        StoreEntity store = JmhFixtures.store();
+        reservation = ReservationEntity.builder()
+                .id(1L)
+                .member(member)
+                .store(store)
+                .reservationStatus(ReservationStatus.STANDBY)
+                .arrivalStatus(ArrivalStatus.READY)
+                .reservationDate(LocalDate.now().plusDays(1))
+                .reservationTime(LocalTime.NOON)
+                .build();
+        review = ReviewEntity.builder()
+                .id(1L)
+                .member(member)
+                .store(store)
+                .content("음식이 맛있고 직원이 친절합니다.")
+                .rating(5)
+                .build();
+    }
+
+    @Benchmark
+    public ReservationDto reservationFromEntity() {
+        return ReservationDto.fromEntity(reservation);
+    }
+
+    @Benchmark
+    public ReviewDto reviewFromEntity() {
+        return ReviewDto.fromEntity(review);
+    }
+}
@@ -0,0 +1,95 @@
+package com.reservation.jmh;
+
+import com.reservation.exception.ApplicationException;
+import com.reservation.exception.ErrorLogLimiter;
+import com.reservation.exception.ErrorResponseDto;
+import com.reservation.exception.GlobalExceptionHandler;
+import com.reservation.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업무 거절(ALREADY_RESERVED) 1건의 예외 발생 ~ 오류 응답 생성 비용
+ * - legacy : 스택 트레이스를 채우는 예외 + 매번 응답 생성 + 매번 스택 트레이스를 포함한 ERROR 로그 (출력 I/O 는 제외하고 문자열 생성까지)
+ * - current : 스택 트레이스 없는 ApplicationException + 미리 만든 응답 + ErrorCode 별 제한 / 비동기 로그
+ * - depth : 예외가 발생하는 위치의 호출 깊이 (필터 / 프록시를 거친 실제 요청은 100 단계 이상)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorPathBenchmark {
+
+    @Param({"20", "150"})
+    private int depth;
+
+    private GlobalExceptionHandler handler;
+    private ErrorLogLimiter errorLogLimiter;
+    private PrintWriter discard;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        errorLogLimiter = new ErrorLogLimiter(meterRegistry, 5, 1.0);
+        handler = new GlobalExceptionHandler(meterRegistry, errorLogLimiter);
+        discard = new PrintWriter(Writer.nullWriter());
+    }
+
+    @TearDown
+    public void tearDown() {
+        errorLogLimiter.shutdown();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDto> legacy() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (LegacyApplicationException e) {
+            e.printStackTrace(discard);
+            return ResponseEntity.status(HttpStatus.valueOf(e.errorCode.getStatusCode()))
+                    .body(ErrorResponseDto.builder()
+                            .statusCode(e.errorCode.getStatusCode())
+                            .errorCode(e.errorCode)
+                            .errorMessage(e.errorCode.getDescription())
+                            .build());
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDto> current() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (ApplicationException e) {
+            return handler.handleApplicationException(e);
+        }
+    }
+
+    private static void throwAt(int depth, boolean legacy) {
+        if (depth > 0) {
+            throwAt(depth - 1, legacy);
+            return;
+        }
+        if (legacy) {
+            throw new LegacyApplicationException(ErrorCode.ALREADY_RESERVED);
+        }
+        throw new ApplicationException(ErrorCode.ALREADY_RESERVED);
+    }
+
+    // 변경 전 ApplicationException (스택 트레이스 포함)
+    private static final class LegacyApplicationException extends RuntimeException {
+
+        private final ErrorCode errorCode;
+
+        private LegacyApplicationException(ErrorCode errorCode) {
+            super(errorCode.getDescription());
+            this.errorCode = errorCode;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.reservation.jmh;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.etag.EntityVersionRegistry;
+import com.reservation.repository.MemberRepository;
+import com.reservation.security.TokenProvider;
+import com.reservation.service.MemberService;
+import com.reservation.type.MemberType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * JMH 벤치마크 공용 픽스처 (Spring 컨텍스트 없이 구성)
+ */
+final class JmhFixtures {
+
+    static final String SECRET = "jmh-benchmark-secret";
+
+    private JmhFixtures() {
+    }
+
+    static MemberEntity member() {
+        return MemberEntity.builder()
+                .id(1L)
+                .username("jmh-user")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .memberType(MemberType.USER)
+                .build();
+    }
+
+    static StoreEntity store() {
+        return StoreEntity.builder()
+                .id(1L)
+                .storeName("jmh-store")
+                .location("seoul")
+                .description("benchmark store")
+                .build();
+    }
+
+    /**
+     * 회원 조회를 메모리에서 응답하는 TokenProvider (DB 왕복 없이 토큰 처리 비용만 측정)
+     */
+    static TokenProvider tokenProvider(MemberEntity member) {
+        MemberRepository memberRepository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByUsername" -> Optional.of(member);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "MemberRepository(jmh)";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        TokenProvider tokenProvider = new TokenProvider(new MemberService(memberRepository, new BCryptPasswordEncoder(),
+                new EntityVersionRegistry()));
+        setField(tokenProvider, "secretKey", SECRET);
+        return tokenProvider;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
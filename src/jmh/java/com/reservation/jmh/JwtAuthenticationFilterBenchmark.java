@@ -0,0 +1,50 @@
+package com.reservation.jmh;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.security.TokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청 1건이 JwtAuthenticationFilter 를 통과하는 비용
+ * - 토큰 추출, 서명 / 만료 검증, 인증 정보 생성, 검증 시간 메트릭 기록까지 포함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        MemberEntity member = JmhFixtures.member();
+        TokenProvider tokenProvider = JmhFixtures.tokenProvider(member);
+        filter = new JwtAuthenticationFilter(null, new SimpleMeterRegistry());
+        JmhFixtures.setField(filter, "tokenProvider", tokenProvider);
+        authorization = JwtAuthenticationFilter.TOKEN_PREFIX
+                + tokenProvider.generateToken(member.getUsername(), member.getMemberType());
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reservations/1");
+        request.setServletPath("/api/v1/reservations/1");
+        request.addHeader(JwtAuthenticationFilter.TOKEN_HEADER, authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,90 @@
+package com.reservation.jmh;
+
+import com.reservation.StoreReservationApplication;
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.reservation.ReservationDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.service.ReservationService;
+import com.reservation.type.MemberType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임베디드 H2 에서 예약 등록 1건 (회원 / 매장 조회, 중복 확인, INSERT, 커밋)
+ * - 매 호출마다 매장을 돌아가며 다른 시간대로 등록해 중복 예약이 생기지 않도록 함
+ * - 반복(iteration)마다 예약 테이블을 비워 행 수 증가가 결과에 섞이지 않도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationCreateBenchmark {
+
+    private static final int STORES = 1_000;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private ReservationRepository reservationRepository;
+    private long[] memberIds;
+    private long[] storeIds;
+    private LocalDate firstDate;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(StoreReservationApplication.class)
+                .profiles("test")
+                .run("--logging.level.root=warn");
+        reservationService = context.getBean(ReservationService.class);
+        reservationRepository = context.getBean(ReservationRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        StoreRepository storeRepository = context.getBean(StoreRepository.class);
+
+        memberIds = new long[STORES];
+        storeIds = new long[STORES];
+        for (int i = 0; i < STORES; i++) {
+            memberIds[i] = memberRepository.save(MemberEntity.builder()
+                    .username("jmh-member-" + i)
+                    .password("password")
+                    .phoneNumber("010-0000-0000")
+                    .memberType(MemberType.USER)
+                    .build()).getId();
+            storeIds[i] = storeRepository.save(StoreEntity.builder()
+                    .storeName("jmh-store-" + i)
+                    .location("location-" + i % 10)
+                    .build()).getId();
+        }
+        firstDate = LocalDate.now().plusDays(1);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearReservations() {
+        reservationRepository.deleteAllInBatch();
+        sequence = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationDto createReservation() {
+        long n = sequence++;
+        int store = (int) (n % STORES);
+        long slot = n / STORES;
+        ReservationDto reservation = ReservationDto.builder()
+                .reservationDate(firstDate.plusDays(slot / MINUTES_PER_DAY))
+                .reservationTime(LocalTime.MIN.plusMinutes(slot % MINUTES_PER_DAY))
+                .build();
+        return reservationService.createReservationEntity(reservation, memberIds[store], storeIds[store]);
+    }
+}
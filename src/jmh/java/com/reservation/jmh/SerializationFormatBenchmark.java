@@ -0,0 +1,95 @@
+package com.reservation.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.reservation.dto.reservation.ReservationDto;
+import com.reservation.dto.review.ReviewDto;
+import com.reservation.type.ArrivalStatus;
+import com.reservation.type.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 1,000건 직렬화 시간 / 크기 (형식별, Blackbird 사용 여부별)
+ * - 시간은 벤치마크 결과, 크기(bytes)는 설정마다 한 번 표준 출력으로 기록
+ * - ObjectMapper 는 애플리케이션과 같은 설정(JavaTimeModule, 날짜 문자열)으로 구성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationFormatBenchmark {
+
+    private static final int ITEMS = 1_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"true", "false"})
+    private boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private List<ReservationDto> reservations;
+    private List<ReviewDto> reviews;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory());
+            case "smile" -> builder.factory(new SmileFactory());
+            default -> {
+            }
+        }
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        reservations = new ArrayList<>(ITEMS);
+        reviews = new ArrayList<>(ITEMS);
+        LocalDate date = LocalDate.now().plusDays(1);
+        for (int i = 0; i < ITEMS; i++) {
+            reservations.add(ReservationDto.builder()
+                    .id((long) i)
+                    .memberId((long) i % 100)
+                    .storeId((long) i % 20)
+                    .reservationStatus(ReservationStatus.STANDBY)
+                    .arrivalStatus(ArrivalStatus.READY)
+                    .reservationDate(date.plusDays(i % 30))
+                    .reservationTime(LocalTime.of(10 + i % 10, (i % 2) * 30))
+                    .build());
+            reviews.add(ReviewDto.builder()
+                    .reviewId((long) i)
+                    .memberId((long) i % 100)
+                    .storeId((long) i % 20)
+                    .content("음식이 맛있고 직원이 친절합니다. 다음에 또 방문할게요. #" + i)
+                    .username("member-" + i % 100)
+                    .storeName("store-" + i % 20)
+                    .rating(1 + i % 5)
+                    .build());
+        }
+
+        System.out.printf("[SerializationFormatBenchmark] format=%s, blackbird=%s, items=%d : reservations %d bytes, reviews %d bytes%n",
+                format, blackbird, ITEMS, reservationList().length, reviewList().length);
+    }
+
+    @Benchmark
+    public byte[] reservationList() throws Exception {
+        return objectMapper.writeValueAsBytes(reservations);
+    }
+
+    @Benchmark
+    public byte[] reviewList() throws Exception {
+        return objectMapper.writeValueAsBytes(reviews);
+    }
+}
@@ -0,0 +1,43 @@
+package com.reservation.jmh;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.security.TokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 검증 / 인증 정보 생성 비용 (회원 조회는 메모리 응답)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private MemberEntity member;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        member = JmhFixtures.member();
+        tokenProvider = JmhFixtures.tokenProvider(member);
+        token = tokenProvider.generateToken(member.getUsername(), member.getMemberType());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(member.getUsername(), member.getMemberType());
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,103 @@
+package com.reservation.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 개방형(open model) 부하 발생기
+ * - 시나리오마다 정해진 초당 도착률로 포아송 도착 간격을 만들어 응답을 기다리지 않고 요청 전송
+ * - 서버가 느려져도 요청 도착률은 그대로 유지되므로 포화 지점에서 지연 시간이 그대로 드러남
+ */
+final class ArrivalRateDriver {
+
+    private static final int MAX_IN_FLIGHT = 20_000;
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+    private final HttpClient client;
+    private final List<Scenario> scenarios = new ArrayList<>();
+
+    ArrivalRateDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @param name    시나리오 이름
+     * @param rate    초당 요청 수 (0 이하면 제외)
+     * @param request 난수로 다음 요청을 만드는 함수
+     */
+    void addScenario(String name, double rate, Function<SplittableRandom, HttpRequest> request) {
+        if (rate > 0) {
+            scenarios.add(new Scenario(name, rate, request));
+        }
+    }
+
+    /**
+     * 모든 시나리오를 동시에 durationSeconds 동안 실행하고 진행 중인 요청이 끝날 때까지 대기
+     * @return 시나리오별 집계
+     */
+    List<ScenarioStats> run(int durationSeconds, long seed) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        List<ScenarioStats> results = new ArrayList<>();
+        List<Thread> generators = new ArrayList<>();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (int i = 0; i < scenarios.size(); i++) {
+            Scenario scenario = scenarios.get(i);
+            ScenarioStats stats = new ScenarioStats(scenario.name());
+            SplittableRandom random = new SplittableRandom(seed + i);
+            results.add(stats);
+            Thread generator = new Thread(() -> generate(scenario, stats, random, inFlight, start, end),
+                    "load-" + scenario.name());
+            generators.add(generator);
+            generator.start();
+        }
+        for (Thread generator : generators) {
+            generator.join();
+        }
+        if (!inFlight.tryAcquire(MAX_IN_FLIGHT, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            System.err.printf("[LoadTest] %d requests still in flight after %d s%n",
+                    MAX_IN_FLIGHT - inFlight.availablePermits(), DRAIN_TIMEOUT_SECONDS);
+        }
+        return results;
+    }
+
+    private void generate(Scenario scenario, ScenarioStats stats, SplittableRandom random,
+                          Semaphore inFlight, long start, long end) {
+        double meanIntervalNanos = 1_000_000_000.0 / scenario.rate();
+        long next = start;
+        while (next < end) {
+            long now = System.nanoTime();
+            if (next > now) {
+                LockSupport.parkNanos(next - now);
+            }
+            long intendedStart = next;
+            next += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+
+            if (!inFlight.tryAcquire()) {
+                stats.recordDropped();
+                continue;
+            }
+            client.sendAsync(scenario.request().apply(random), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            stats.recordFailure(intendedStart, error);
+                        } else {
+                            stats.recordResponse(intendedStart, response.statusCode(), response.body());
+                        }
+                        inFlight.release();
+                    });
+        }
+    }
+
+    private record Scenario(String name, double rate, Function<SplittableRandom, HttpRequest> request) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.reservation.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터 적재 (다중 행 INSERT 를 ROWS_PER_STATEMENT 행씩 실행)
+ * - 회원은 모두 같은 비밀번호(PASSWORD)를 사용
+ * - 예약 / 리뷰의 매장은 Zipf 분포, 회원은 균등 분포로 선택
+ */
+@Slf4j
+final class DataSeeder {
+
+    static final String PASSWORD = "load-test-password";
+    static final String USERNAME_PREFIX = "load-member-";
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int SLOTS_PER_DAY = 24; // 10:00 ~ 21:30, 30분 단위
+    private static final LocalTime FIRST_SLOT = LocalTime.of(10, 0);
+    private static final int[] RATING_WEIGHTS = {5, 7, 15, 33, 40}; // 1점 ~ 5점 비율 (%)
+    private static final String[] REVIEW_WORDS = {
+            "맛있어요", "친절해요", "분위기", "좋아요", "재방문", "의사", "있어요", "가성비",
+            "깔끔해요", "웨이팅", "길어요", "주차", "불편해요", "추천", "합니다", "양이", "많아요"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+    private final ZipfDistribution storePopularity;
+
+    DataSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings, ZipfDistribution storePopularity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.storePopularity = storePopularity;
+    }
+
+    /**
+     * 회원 / 매장 / 예약 / 리뷰 적재
+     * @param encodedPassword PASSWORD 의 BCrypt 해시 (회원마다 해시하지 않도록 한 번만 계산)
+     * @return 적재된 회원 / 매장 ID
+     */
+    SeededData seed(String encodedPassword) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long start = System.nanoTime();
+
+        List<Object[]> members = new ArrayList<>(settings.members());
+        for (int i = 0; i < settings.members(); i++) {
+            members.add(new Object[]{USERNAME_PREFIX + i, encodedPassword, "010-0000-" + String.format("%04d", i % 10_000), "USER", 0L});
+        }
+        insert("member_entity", "username, password, phone_number, member_type, version", members);
+        long[] memberIds = ids("member_entity");
+
+        List<Object[]> stores = new ArrayList<>(settings.stores());
+        for (int i = 0; i < settings.stores(); i++) {
+            stores.add(new Object[]{"load-store-" + i, "location-" + i % 50, "load test store " + i,
+                    37.40 + random.nextDouble() * 0.30, 126.80 + random.nextDouble() * 0.40, 0L});
+        }
+        insert("store_entity", "store_name, location, description, latitude, longitude, version", stores);
+        long[] storeIds = ids("store_entity");
+
+        // 매장별 다음 빈 슬롯 번호로 예약해 같은 매장 / 시간 중복 없이 적재
+        int[] nextSlot = new int[storeIds.length];
+        LocalDate firstDate = LocalDate.now().plusDays(1);
+        List<Object[]> reservations = new ArrayList<>(settings.reservations());
+        for (int i = 0; i < settings.reservations(); i++) {
+            int store = storePopularity.sample(random);
+            int slot = nextSlot[store]++;
+            reservations.add(new Object[]{
+                    memberIds[random.nextInt(memberIds.length)], storeIds[store], "STANDBY", "READY",
+                    Date.valueOf(firstDate.plusDays(slot / SLOTS_PER_DAY)),
+                    Time.valueOf(FIRST_SLOT.plusMinutes(30L * (slot % SLOTS_PER_DAY)))});
+        }
+        insert("reservation_entity",
+                "member_id, store_id, reservation_status, arrival_status, reservation_date, reservation_time", reservations);
+
+        List<Object[]> reviews = new ArrayList<>(settings.reviews());
+        LocalDateTime firstReviewAt = LocalDateTime.now().minusSeconds(settings.reviews());
+        for (int i = 0; i < settings.reviews(); i++) {
+            reviews.add(new Object[]{(long) i + 1, reviewContent(random), rating(random),
+                    memberIds[random.nextInt(memberIds.length)], storeIds[storePopularity.sample(random)],
+                    Timestamp.valueOf(firstReviewAt.plusSeconds(i)), 0L});
+        }
+        insert("review_entity", "id, content, rating, member_id, store_id, created_at, version", reviews);
+
+        log.warn("부하 테스트 데이터 적재 완료 - 회원 {}, 매장 {}, 예약 {}, 리뷰 {} ({} ms)",
+                memberIds.length, storeIds.length, reservations.size(), reviews.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new SeededData(memberIds, storeIds);
+    }
+
+    static String reviewContent(SplittableRandom random) {
+        StringBuilder content = new StringBuilder();
+        int words = 3 + random.nextInt(8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                content.append(' ');
+            }
+            content.append(REVIEW_WORDS[random.nextInt(REVIEW_WORDS.length)]);
+        }
+        return content.toString();
+    }
+
+    static int rating(SplittableRandom random) {
+        int value = random.nextInt(100);
+        for (int i = 0; i < RATING_WEIGHTS.length; i++) {
+            value -= RATING_WEIGHTS[i];
+            if (value < 0) {
+                return i + 1;
+            }
+        }
+        return RATING_WEIGHTS.length;
+    }
+
+    private void insert(String table, String columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int width = rows.get(0).length;
+        String placeholders = "(" + "?, ".repeat(width - 1) + "?)";
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            StringBuilder sql = new StringBuilder("insert into ").append(table)
+                    .append(" (").append(columns).append(") values ");
+            Object[] args = new Object[chunk.size() * width];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(placeholders);
+                System.arraycopy(chunk.get(i), 0, args, i * width, width);
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+
+    private long[] ids(String table) {
+        return jdbcTemplate.queryForList("select id from " + table + " order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 적재된 회원 / 매장 ID (시나리오에서 요청 대상 선택에 사용)
+     */
+    record SeededData(long[] memberIds, long[] storeIds) {
+    }
+}
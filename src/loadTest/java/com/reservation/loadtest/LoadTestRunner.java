@@ -0,0 +1,224 @@
+package com.reservation.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.StoreReservationApplication;
+import com.reservation.loadtest.DataSeeder.SeededData;
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.service.StoreRatingService;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 종단 간 부하 테스트 (./gradlew loadTest -Dloadtest.duration-seconds=120 ...)
+ * 1. 임베디드 H2 로 애플리케이션 기동, 기동 직후(메모리 색인 초기화 전) 합성 데이터 적재
+ * 2. 회원 일부를 미리 로그인해 토큰 확보
+ * 3. 로그인 / 예약 등록 / 매장 예약 목록 / 매장 조회 / 리뷰 등록 시나리오를 각자의 도착률로 동시에 실행
+ * 4. 시나리오별 처리량, p50 / p99 / p999 응답 시간, 상태 코드 / ErrorCode 별 건수 출력
+ * 5. loadtest.write-storm-factor 가 1 보다 크면 로그인 / 예약 등록 도착률만 그 배수로 올려 한 번 더 측정하고 조회 p99 비교
+ */
+public final class LoadTestRunner {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final int RESERVATION_DAYS = 30;
+    private static final int SLOTS_PER_DAY = 24;
+    private static final List<String> READ_SCENARIOS = List.of("get-store", "list-store-reservations");
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ZipfDistribution storePopularity = new ZipfDistribution(settings.stores(), settings.zipfExponent(), settings.seed());
+        AtomicReference<SeededData> seeded = new AtomicReference<>();
+
+        ApplicationContextInitializer<ConfigurableApplicationContext> seeder = context ->
+                context.getBeanFactory().registerSingleton("loadTestDataSeeder", (ApplicationRunner) arguments -> {
+                    String encodedPassword = context.getBean(PasswordEncoder.class).encode(DataSeeder.PASSWORD);
+                    seeded.set(new DataSeeder(context.getBean(JdbcTemplate.class), settings, storePopularity)
+                            .seed(encodedPassword));
+                    context.getBean(StoreRatingService.class).rebuildAll();
+                });
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreReservationApplication.class)
+                .initializers(seeder)
+                .profiles("test")
+                // properties() 는 기본값이라 application.yml 보다 우선순위가 낮으므로 명령행 인자로 전달
+                .run(
+                        // 모든 요청이 같은 IP 에서 오므로 로그인 시도 제한 해제
+                        "--login.throttle.username-limit=1000000000",
+                        "--login.throttle.ip-limit=1000000000",
+                        "--logging.level.root=warn")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            SeededData data = seeded.get();
+            List<Session> sessions = signIn(client, baseUrl, settings, data);
+
+            ArrivalRateDriver driver = driver(client, baseUrl, settings, data, sessions, storePopularity, 1.0);
+            if (settings.warmUpSeconds() > 0) {
+                driver.run(settings.warmUpSeconds(), settings.seed());
+            }
+            List<ScenarioStats> results = driver.run(settings.durationSeconds(), settings.seed() + 1);
+            report(settings, "steady", results);
+
+            // 쓰기 폭주 : 로그인 / 예약 등록만 write-storm-factor 배로 올리고 조회 도착률은 그대로 유지
+            if (settings.writeStormFactor() > 1.0) {
+                List<ScenarioStats> storm = driver(client, baseUrl, settings, data, sessions, storePopularity,
+                        settings.writeStormFactor()).run(settings.durationSeconds(), settings.seed() + 2);
+                report(settings, "write storm x" + settings.writeStormFactor(), storm);
+                compareReads(results, storm);
+            }
+        }
+    }
+
+    /**
+     * 시나리오 구성
+     * @param writeFactor 로그인 / 예약 등록 도착률 배수
+     */
+    private static ArrivalRateDriver driver(HttpClient client, String baseUrl, LoadTestSettings settings, SeededData data,
+                                            List<Session> sessions, ZipfDistribution storePopularity, double writeFactor) {
+        ArrivalRateDriver driver = new ArrivalRateDriver(client);
+        driver.addScenario("sign-in", settings.signInRate() * writeFactor, random -> {
+            int member = random.nextInt(data.memberIds().length);
+            return post(baseUrl + "/api/v1/members/sign-in", null,
+                    Map.of("username", DataSeeder.USERNAME_PREFIX + member, "password", DataSeeder.PASSWORD));
+        });
+        driver.addScenario("create-reservation", settings.createReservationRate() * writeFactor, random -> {
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            long storeId = data.storeIds()[storePopularity.sample(random)];
+            LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(RESERVATION_DAYS));
+            LocalTime time = LocalTime.of(10, 0).plusMinutes(30L * random.nextInt(SLOTS_PER_DAY));
+            return post(baseUrl + "/api/v1/reservations?memberId=" + session.memberId() + "&storeId=" + storeId,
+                    session.token(), Map.of("reservationDate", date.toString(), "reservationTime", time.toString()));
+        });
+        driver.addScenario("list-store-reservations", settings.listReservationsRate(), random -> {
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            long storeId = data.storeIds()[storePopularity.sample(random)];
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/reservations/store/" + storeId))
+                    .header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + session.token())
+                    .GET()
+                    .build();
+        });
+        driver.addScenario("get-store", settings.getStoreRate(), random -> {
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            long storeId = data.storeIds()[storePopularity.sample(random)];
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/stores/" + storeId))
+                    .header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + session.token())
+                    .GET()
+                    .build();
+        });
+        driver.addScenario("post-review", settings.postReviewRate(), random -> {
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            long storeId = data.storeIds()[storePopularity.sample(random)];
+            return post(baseUrl + "/api/v1/reviews", session.token(), Map.of(
+                    "memberId", session.memberId(),
+                    "storeId", storeId,
+                    "content", DataSeeder.reviewContent(random),
+                    "rating", DataSeeder.rating(random)));
+        });
+        return driver;
+    }
+
+    /**
+     * 부하 시작 전 settings.sessions() 명 로그인 (동시에 요청)
+     */
+    private static List<Session> signIn(HttpClient client, String baseUrl, LoadTestSettings settings, SeededData data) {
+        int count = Math.min(settings.sessions(), data.memberIds().length);
+        List<CompletableFuture<Session>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = post(baseUrl + "/api/v1/members/sign-in", null,
+                    Map.of("username", DataSeeder.USERNAME_PREFIX + i, "password", DataSeeder.PASSWORD));
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenApply(LoadTestRunner::toSession));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static Session toSession(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패 (" + response.statusCode() + "): " + response.body());
+        }
+        try {
+            JsonNode body = JSON.readTree(response.body());
+            return new Session(body.get("userId").asLong(), body.get("token").asText());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpRequest post(String url, String token, Map<String, ?> body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + token);
+        }
+        try {
+            return builder.POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body))).build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void report(LoadTestSettings settings, String phase, List<ScenarioStats> results) {
+        System.out.printf("[LoadTest] %s : stores=%d, members=%d, reservations=%d, reviews=%d, zipf=%.2f, seed=%d, duration=%ds%n",
+                phase, settings.stores(), settings.members(), settings.reservations(), settings.reviews(),
+                settings.zipfExponent(), settings.seed(), settings.durationSeconds());
+        System.out.printf("  %-24s %10s %12s %9s %9s %9s %9s%n",
+                "scenario", "completed", "throughput/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (ScenarioStats stats : results) {
+            System.out.printf("  %-24s %10d %12.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.name(), stats.completed(), (double) stats.completed() / settings.durationSeconds(),
+                    stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(99.9),
+                    stats.maxMillis());
+            System.out.printf("  %-24s %s%n", "", stats.outcomes());
+        }
+    }
+
+    /**
+     * 평상시 / 쓰기 폭주 중 조회 시나리오의 p99 비교 (격벽이 조회를 보호하면 두 값이 비슷해야 함)
+     */
+    private static void compareReads(List<ScenarioStats> steady, List<ScenarioStats> storm) {
+        System.out.printf("[LoadTest] read p99 steady vs write storm%n");
+        for (String name : READ_SCENARIOS) {
+            ScenarioStats before = find(steady, name);
+            ScenarioStats during = find(storm, name);
+            if (before != null && during != null) {
+                System.out.printf("  %-24s %9.2f ms -> %9.2f ms%n",
+                        name, before.percentileMillis(99), during.percentileMillis(99));
+            }
+        }
+    }
+
+    private static ScenarioStats find(List<ScenarioStats> results, String name) {
+        return results.stream().filter(stats -> stats.name().equals(name)).findFirst().orElse(null);
+    }
+
+    private record Session(long memberId, String token) {
+    }
+}
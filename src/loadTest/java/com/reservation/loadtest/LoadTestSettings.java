@@ -0,0 +1,60 @@
+package com.reservation.loadtest;
+
+/**
+ * 부하 테스트 설정 (시스템 속성 loadtest.* 로 변경)
+ * @param stores               생성할 매장 수
+ * @param members              생성할 회원 수
+ * @param reservations         생성할 예약 수 (매장은 Zipf 분포로 선택)
+ * @param reviews              생성할 리뷰 수 (매장은 Zipf 분포로 선택)
+ * @param zipfExponent         매장 인기도 Zipf 지수 (클수록 소수 매장에 집중)
+ * @param seed                 데이터 / 요청 생성 난수 시드
+ * @param sessions             부하 시작 전에 미리 로그인해 둘 회원 수
+ * @param warmUpSeconds        측정 전 예열 시간 (결과에서 제외)
+ * @param durationSeconds      측정 시간
+ * @param signInRate           로그인 초당 요청 수
+ * @param createReservationRate 예약 등록 초당 요청 수
+ * @param listReservationsRate 매장 예약 목록 조회 초당 요청 수
+ * @param postReviewRate       리뷰 등록 초당 요청 수
+ * @param getStoreRate         매장 단건 조회 초당 요청 수
+ * @param writeStormFactor     쓰기 폭주 단계의 로그인 / 예약 등록 도착률 배수 (1 이하면 생략)
+ */
+record LoadTestSettings(int stores,
+                        int members,
+                        int reservations,
+                        int reviews,
+                        double zipfExponent,
+                        long seed,
+                        int sessions,
+                        int warmUpSeconds,
+                        int durationSeconds,
+                        double signInRate,
+                        double createReservationRate,
+                        double listReservationsRate,
+                        double postReviewRate,
+                        double getStoreRate,
+                        double writeStormFactor) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.stores", 1_000),
+                Integer.getInteger("loadtest.members", 10_000),
+                Integer.getInteger("loadtest.reservations", 20_000),
+                Integer.getInteger("loadtest.reviews", 50_000),
+                doubleProperty("loadtest.zipf-exponent", 1.0),
+                Long.getLong("loadtest.seed", 42L),
+                Integer.getInteger("loadtest.sessions", 200),
+                Integer.getInteger("loadtest.warm-up-seconds", 10),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                doubleProperty("loadtest.rate.sign-in", 5),
+                doubleProperty("loadtest.rate.create-reservation", 100),
+                doubleProperty("loadtest.rate.list-reservations", 200),
+                doubleProperty("loadtest.rate.post-review", 50),
+                doubleProperty("loadtest.rate.get-store", 200),
+                doubleProperty("loadtest.write-storm-factor", 0));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reservation.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시나리오별 응답 시간 분포와 결과(상태 코드 / ErrorCode) 집계
+ * - 응답 시간은 실제 전송 시각이 아니라 예정된 도착 시각부터 측정 (coordinated omission 보정)
+ */
+final class ScenarioStats {
+
+    private static final Pattern ERROR_CODE = Pattern.compile("\"errorCode\"\\s*:\\s*\"([A-Z0-9_]+)\"");
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    ScenarioStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void recordResponse(long intendedStartNanos, int status, String body) {
+        record(intendedStartNanos, status < 400 ? String.valueOf(status) : status + " " + errorCode(body));
+    }
+
+    void recordFailure(long intendedStartNanos, Throwable error) {
+        record(intendedStartNanos, error.getClass().getSimpleName());
+    }
+
+    void recordDropped() {
+        outcomes.computeIfAbsent("DROPPED (client in-flight limit)", key -> new LongAdder()).increment();
+    }
+
+    long completed() {
+        return latencies.getTotalCount();
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    private void record(long intendedStartNanos, String outcome) {
+        long micros = Math.min((System.nanoTime() - intendedStartNanos) / 1000, MAX_LATENCY_MICROS);
+        latencies.recordValue(Math.max(micros, 0));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    private static String errorCode(String body) {
+        Matcher matcher = ERROR_CODE.matcher(body == null ? "" : body);
+        return matcher.find() ? matcher.group(1) : "UNKNOWN";
+    }
+}
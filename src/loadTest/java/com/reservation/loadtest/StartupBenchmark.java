@@ -0,0 +1,158 @@
+package com.reservation.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 비교 (./gradlew startupBenchmark [-Paot] -Dstartup.runs=5)
+ * 1. 실행 형태별로 애플리케이션 프로세스를 새로 띄움 (부트 jar, 풀어 둔 jar, CDS, AOT, AOT + CDS)
+ * 2. 프로세스 시작부터 첫 요청(GET /api/v1/members/available)에 응답할 때까지 시간 측정 후 종료
+ * 3. 형태별 최소 / 중앙값 / 최대 출력
+ * - 애플리케이션은 운영 설정 그대로 기동하므로 DB 접속 정보(MYSQL_* 등)를 환경 변수나 프로젝트의 .env 로 전달해야 함
+ * - AOT 형태는 -Paot 로 빌드한 경우(build/cds/aot.enabled)에만 측정
+ * - 프로세스 로그는 build/startup/형태-회차.log
+ *
+ * 시스템 속성
+ * - startup.runs : 형태별 반복 횟수 (기본 3)
+ * - startup.timeout-seconds : 첫 응답 대기 시간 (기본 120)
+ * - startup.jvm-args : 모든 형태에 추가할 JVM 옵션 (공백 구분)
+ */
+public final class StartupBenchmark {
+
+    private static final String PROBE_PATH = "/api/v1/members/available?username=startup-probe";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        File bootJar = new File(System.getProperty("startup.boot-jar"));
+        File appHome = new File(System.getProperty("startup.app-home"));
+        int runs = Integer.getInteger("startup.runs", 3);
+        Duration timeout = Duration.ofSeconds(Integer.getInteger("startup.timeout-seconds", 120));
+        List<String> extraJvmArgs = splitArgs(System.getProperty("startup.jvm-args", ""));
+        Path logDir = Files.createDirectories(Path.of("build", "startup"));
+
+        boolean aot = new File(appHome, "aot.enabled").isFile();
+        boolean cds = new File(appHome, "application.jsa").isFile();
+        if (!cds) {
+            System.err.println("[Startup] build/cds/application.jsa not found, CDS modes skipped");
+        }
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("boot-jar", new File("."), List.of(), bootJar.getAbsolutePath()));
+        modes.add(new Mode("extracted", appHome, List.of(), "application.jar"));
+        if (cds) {
+            modes.add(new Mode("cds", appHome, List.of("-XX:SharedArchiveFile=application.jsa"), "application.jar"));
+        }
+        if (aot) {
+            modes.add(new Mode("aot", appHome, List.of("-Dspring.aot.enabled=true"), "application.jar"));
+            if (cds) {
+                modes.add(new Mode("aot+cds", appHome,
+                        List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa"), "application.jar"));
+            }
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+
+        System.out.printf("[Startup] runs=%d, java=%s%n", runs, System.getProperty("java.version"));
+        System.out.printf("  %-12s %12s %12s %12s%n", "mode", "min(ms)", "median(ms)", "max(ms)");
+        for (Mode mode : modes) {
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = timeToFirstRequest(client, mode, extraJvmArgs, logDir.resolve(mode.name() + "-" + run + ".log"), timeout);
+            }
+            Arrays.sort(millis);
+            System.out.printf("  %-12s %12d %12d %12d%n", mode.name(), millis[0], millis[runs / 2], millis[runs - 1]);
+        }
+    }
+
+    /**
+     * 프로세스 시작부터 첫 응답까지 시간 (응답 상태 코드와 무관하게 HTTP 응답을 받으면 종료)
+     * @return 밀리초
+     */
+    private static long timeToFirstRequest(HttpClient client, Mode mode, List<String> extraJvmArgs,
+                                           Path log, Duration timeout) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs());
+        command.addAll(extraJvmArgs);
+        command.add("-jar");
+        command.add(mode.jar());
+        command.add("--server.port=" + port);
+        command.add("--management.server.port=" + freePort());
+        // 풀어 둔 jar 는 build/cds 에서 실행하므로 프로젝트의 .env 를 직접 지정
+        command.add("--spring.config.import=optional:file:" + new File(".env").getAbsolutePath() + "[.properties]");
+
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE_PATH))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(mode.directory())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    client.send(probe, HttpResponse.BodyHandlers.discarding());
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                } catch (IOException notListening) {
+                    Thread.sleep(POLL_INTERVAL.toMillis());
+                }
+            }
+            throw new IllegalStateException(mode.name() + " did not answer within " + timeout + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> splitArgs(String value) {
+        return value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+    }
+
+    /**
+     * 실행 형태
+     * @param name      출력 이름
+     * @param directory 작업 디렉터리 (CDS 는 학습 때와 같은 상대 경로 클래스패스 필요)
+     * @param jvmArgs   형태별 JVM 옵션
+     * @param jar       실행할 jar
+     */
+    private record Mode(String name, File directory, List<String> jvmArgs, String jar) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.reservation.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 추출 (순위 k 의 확률이 1 / k^s 에 비례)
+ * - 누적 분포를 미리 계산해 두고 이분 탐색으로 추출
+ * - 순위 -> 항목 매핑을 시드로 섞어 인기 항목이 ID 순서와 무관하게 분포
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+    private final int[] itemByRank;
+
+    ZipfDistribution(int size, double exponent, long seed) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+
+        itemByRank = new int[size];
+        for (int i = 0; i < size; i++) {
+            itemByRank[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = itemByRank[i];
+            itemByRank[i] = itemByRank[j];
+            itemByRank[j] = tmp;
+        }
+    }
+
+    /**
+     * @return 0 ~ size-1 사이의 항목 번호
+     */
+    int sample(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return itemByRank[Math.min(rank, itemByRank.length - 1)];
+    }
+}
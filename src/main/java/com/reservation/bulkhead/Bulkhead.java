@@ -0,0 +1,131 @@
+package com.reservation.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 그룹 하나의 격벽
+ * - 요청 자리 : maxConcurrent 개, 자리가 없으면 maxQueue 개까지 maxWait 동안 대기, 그 외에는 즉시 거절
+ * - 커넥션 자리 : 요청 처리 중 동시에 빌릴 수 있는 DB 커넥션 수 (BulkheadDataSource 에서 사용)
+ *
+ * 메트릭 (bulkhead 태그 = 그룹 key)
+ * - bulkhead.active / bulkhead.queued / bulkhead.connections.active : 처리 중 / 대기 중 요청 수, 빌린 커넥션 수
+ * - bulkhead.rejected{reason} : queue_full, wait_timeout, connection_timeout 별 거절 수
+ * - bulkhead.wait : 대기열에서 기다린 시간 (자리가 바로 있었던 요청은 제외)
+ */
+public class Bulkhead {
+
+    @Getter
+    private final BulkheadGroup group;
+    @Getter
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    @Getter
+    private final int connections;
+    private final long connectionTimeoutNanos;
+    @Getter
+    private final long retryAfterSeconds;
+
+    private final Semaphore permits;
+    private final Semaphore connectionPermits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Counter queueFull;
+    private final Counter waitTimeout;
+    private final Counter connectionTimeout;
+    private final Timer waitTimer;
+
+    public Bulkhead(BulkheadGroup group, int maxConcurrent, int maxQueue, long maxWaitMillis,
+                    int connections, long connectionTimeoutMillis, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.group = group;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.connections = connections;
+        this.connectionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(connectionTimeoutMillis);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permits = new Semaphore(maxConcurrent);
+        this.connectionPermits = new Semaphore(Math.max(connections, 0));
+
+        String name = group.getKey();
+        Gauge.builder("bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+                .tag("bulkhead", name).register(meterRegistry);
+        Gauge.builder("bulkhead.queued", queued, AtomicInteger::get)
+                .tag("bulkhead", name).register(meterRegistry);
+        Gauge.builder("bulkhead.connections.active", connectionPermits, p -> Math.max(connections, 0) - p.availablePermits())
+                .tag("bulkhead", name).register(meterRegistry);
+        this.queueFull = rejected(meterRegistry, name, "queue_full");
+        this.waitTimeout = rejected(meterRegistry, name, "wait_timeout");
+        this.connectionTimeout = rejected(meterRegistry, name, "connection_timeout");
+        this.waitTimer = Timer.builder("bulkhead.wait")
+                .tag("bulkhead", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 자리 확보 (자리가 없으면 대기열에서 maxWait 까지 대기)
+     * @return 확보하면 true (처리 후 반드시 release), 대기열이 가득 찼거나 시간 안에 자리가 나지 않으면 false
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            queueFull.increment();
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            waitTimeout.increment();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 커넥션 자리 확보 (connection-timeout 까지 대기)
+     * @return 확보하면 true (커넥션 반납 시 releaseConnection), 제한이 없으면 항상 true
+     */
+    boolean tryAcquireConnection() throws InterruptedException {
+        if (connections <= 0) {
+            return true;
+        }
+        if (connectionPermits.tryAcquire(connectionTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        connectionTimeout.increment();
+        return false;
+    }
+
+    void releaseConnection() {
+        if (connections > 0) {
+            connectionPermits.release();
+        }
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String name, String reason) {
+        return Counter.builder("bulkhead.rejected")
+                .tag("bulkhead", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.reservation.bulkhead;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 격벽별 커넥션 할당량을 적용하는 DataSource
+ * - 하나의 커넥션 풀을 격벽별 할당량으로 나눠 쓰는 방식 (할당량 합이 풀 크기 이하이면 서로의 커넥션을 빼앗지 않음)
+ * - 요청이 처음 빌리는 커넥션만 할당량을 차지하고, 같은 요청 안의 추가 커넥션(REQUIRES_NEW 등)은 그대로 통과
+ *   (요청이 자기 할당량을 기다리며 멈추지 않도록)
+ * - 격벽 밖의 커넥션은 제한하지 않음 : 매장 / 회원 정보 수정 같은 관리용 쓰기, 비동기 리뷰 적재, 검색 색인 준비 /
+ *   스냅샷, 스케줄러 등은 어느 할당량에도 속하지 않고 같은 풀에서 격벽 요청과 경쟁
+ *   (커넥션 풀은 할당량 합보다 크게 두어야 이들이 쓸 커넥션이 남음, 풀이 할당량 합과 같으면 격벽 요청이 몰릴 때
+ *   이들은 풀 대기 시간(connection-timeout)까지 기다리고, 반대로 이들이 오래 잡으면 격벽 요청이 풀에서 기다림)
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    public BulkheadDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limit(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limit(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection limit(ConnectionSupplier supplier) throws SQLException {
+        BulkheadScope scope = BulkheadScope.current();
+        if (scope == null) {
+            return supplier.get();
+        }
+        Bulkhead bulkhead = scope.bulkhead();
+        boolean first = scope.open();
+        boolean acquired = false;
+        try {
+            if (first) {
+                if (!acquire(bulkhead)) {
+                    throw new ConnectionQuotaExceededException(bulkhead.getGroup(), bulkhead.getRetryAfterSeconds());
+                }
+                acquired = true;
+            }
+            Connection connection = supplier.get();
+            return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                    new Class<?>[]{ConnectionProxy.class}, new ReleasingHandler(connection, scope));
+        } catch (SQLException | RuntimeException e) {
+            scope.close();
+            if (acquired) {
+                bulkhead.releaseConnection();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean acquire(Bulkhead bulkhead) throws SQLException {
+        try {
+            return bulkhead.tryAcquireConnection();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("interrupted while waiting for a bulkhead connection", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * close 시 한 번만 요청 범위에 반납하고, 마지막 커넥션이면 격벽 커넥션 자리 반납
+     */
+    private static final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final BulkheadScope scope;
+        private boolean closed;
+
+        private ReleasingHandler(Connection target, BulkheadScope scope) {
+            this.target = target;
+            this.scope = scope;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    if (closed) {
+                        return null;
+                    }
+                    closed = true;
+                    try {
+                        target.close();
+                    } finally {
+                        if (scope.close()) {
+                            scope.bulkhead().releaseConnection();
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    if (closed) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.reservation.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.exception.ErrorResponseDto;
+import com.reservation.type.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청을 그룹별 격벽에 넣어 처리하는 필터
+ * - 인증 / 컨트롤러보다 먼저 자리를 확보하므로, 자리가 없으면 JWT 검증이나 DB 조회 없이 503 + Retry-After 로 거절
+ * - 처리 중에는 BulkheadScope 로 격벽을 알려 BulkheadDataSource 가 커넥션 할당량을 적용
+ * - 컨트롤러에 닿기 전(JWT 인증의 회원 조회 등)에 커넥션 할당량을 얻지 못하면 GlobalExceptionHandler 를 거치지 않으므로
+ *   여기서 원인을 따라가 같은 503 + Retry-After 로 응답
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final byte[] rejectedBody;
+
+    public BulkheadFilter(BulkheadRegistry bulkheadRegistry, ObjectMapper objectMapper) throws IOException {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.rejectedBody = objectMapper.writeValueAsBytes(ErrorResponseDto.builder()
+                .statusCode(ErrorCode.SERVICE_BUSY.getStatusCode())
+                .errorCode(ErrorCode.SERVICE_BUSY)
+                .errorMessage(ErrorCode.SERVICE_BUSY.getDescription())
+                .build());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BulkheadGroup group = BulkheadGroup.of(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Bulkhead bulkhead = bulkheadRegistry.get(group);
+        if (!acquire(bulkhead)) {
+            reject(response, bulkhead.getRetryAfterSeconds());
+            return;
+        }
+        BulkheadScope.begin(bulkhead);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            ConnectionQuotaExceededException quotaExceeded = findQuotaExceeded(e);
+            if (quotaExceeded == null || response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            reject(response, quotaExceeded.getRetryAfterSeconds());
+        } finally {
+            BulkheadScope.end();
+            bulkhead.release();
+        }
+    }
+
+    // 트랜잭션 / JPA / 서블릿 예외에 감싸진 할당량 초과 찾기
+    private static ConnectionQuotaExceededException findQuotaExceeded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionQuotaExceededException quotaExceeded) {
+                return quotaExceeded;
+            }
+        }
+        return null;
+    }
+
+    private static boolean acquire(Bulkhead bulkhead) throws ServletException {
+        try {
+            return bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("interrupted while waiting for bulkhead " + bulkhead.getGroup().getKey(), e);
+        }
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(ErrorCode.SERVICE_BUSY.getStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+}
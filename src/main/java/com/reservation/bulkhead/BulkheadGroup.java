@@ -0,0 +1,55 @@
+package com.reservation.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 그룹별 격벽(bulkhead)과 기본 한도
+ * - 그룹마다 동시 처리 수, 대기열, 커넥션 할당량을 따로 두어 한 그룹이 몰려도 다른 그룹의 스레드 / 커넥션을 빼앗지 않음
+ * - 동시 처리 수 + 대기열 합(192)은 Tomcat 기본 스레드 수(200) 이하, 커넥션 합(10)은 Hikari 기본 풀 크기 이하
+ * - 한도는 bulkhead.{key}.* 로 변경 (BulkheadRegistry 참고)
+ */
+@Getter
+@AllArgsConstructor
+public enum BulkheadGroup {
+
+    AUTH("auth", 16, 16, 500, 2),                           // 로그인 / 회원가입 (BCrypt)
+    RESERVATION_WRITE("reservation-write", 32, 32, 500, 3), // 예약 등록 / 수정 / 상태 변경
+    REVIEW("review", 16, 16, 500, 2),                       // 리뷰 조회 / 등록 / 검색
+    READ("read", 48, 16, 100, 3);                           // 그 외 조회 (매장, 회원, 예약 목록)
+
+    private static final String API_PREFIX = "/api/v1/";
+
+    private final String key;                 // 설정 / 메트릭 태그 이름
+    private final int defaultMaxConcurrent;   // 동시에 처리할 요청 수
+    private final int defaultMaxQueue;        // 자리가 날 때까지 기다릴 수 있는 요청 수
+    private final long defaultMaxWaitMillis;  // 대기열에서 기다릴 최대 시간
+    private final int defaultConnections;     // 동시에 빌릴 수 있는 DB 커넥션 수 (0 이면 제한 없음)
+
+    /**
+     * 요청이 속한 그룹
+     * @param request 요청
+     * @return 그룹, API 가 아니거나 매장 / 회원 정보 수정처럼 드문 쓰기 요청이면 null
+     *         (격벽 없이 처리, 커넥션도 어느 할당량에도 속하지 않고 풀에서 바로 빌림 - BulkheadDataSource 참고)
+     */
+    public static BulkheadGroup of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(API_PREFIX)) {
+            return null;
+        }
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+
+        if (path.equals("/api/v1/members/sign-in") || path.equals("/api/v1/members/sign-up")) {
+            return AUTH;
+        }
+        if (path.startsWith("/api/v1/reviews")) {
+            return REVIEW;
+        }
+        if (path.startsWith("/api/v1/reservations") && !read) {
+            return RESERVATION_WRITE;
+        }
+        return read ? READ : null;
+    }
+}
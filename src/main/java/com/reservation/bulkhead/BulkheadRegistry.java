@@ -0,0 +1,47 @@
+package com.reservation.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 요청 그룹별 격벽 생성
+ * - bulkhead.{key}.max-concurrent / max-queue / max-wait-ms / connections 로 그룹별 한도 변경 (없으면 BulkheadGroup 기본값)
+ * - bulkhead.connection-timeout-ms : 커넥션 할당량을 기다릴 최대 시간, bulkhead.retry-after-seconds : 거절 응답의 Retry-After
+ */
+@Component
+@Slf4j
+public class BulkheadRegistry {
+
+    private static final String PREFIX = "bulkhead.";
+
+    private final Map<BulkheadGroup, Bulkhead> bulkheads = new EnumMap<>(BulkheadGroup.class);
+
+    public BulkheadRegistry(Environment environment,
+                            MeterRegistry meterRegistry,
+                            @Value("${bulkhead.connection-timeout-ms:1000}") long connectionTimeoutMillis,
+                            @Value("${bulkhead.retry-after-seconds:1}") long retryAfterSeconds) {
+        for (BulkheadGroup group : BulkheadGroup.values()) {
+            String prefix = PREFIX + group.getKey() + ".";
+            Bulkhead bulkhead = new Bulkhead(group,
+                    environment.getProperty(prefix + "max-concurrent", Integer.class, group.getDefaultMaxConcurrent()),
+                    environment.getProperty(prefix + "max-queue", Integer.class, group.getDefaultMaxQueue()),
+                    environment.getProperty(prefix + "max-wait-ms", Long.class, group.getDefaultMaxWaitMillis()),
+                    environment.getProperty(prefix + "connections", Integer.class, group.getDefaultConnections()),
+                    connectionTimeoutMillis,
+                    retryAfterSeconds,
+                    meterRegistry);
+            bulkheads.put(group, bulkhead);
+            log.info("격벽 {} - 동시 처리 {}, 커넥션 {}", group.getKey(), bulkhead.getMaxConcurrent(), bulkhead.getConnections());
+        }
+    }
+
+    public Bulkhead get(BulkheadGroup group) {
+        return bulkheads.get(group);
+    }
+}
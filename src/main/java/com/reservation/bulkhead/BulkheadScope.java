@@ -0,0 +1,52 @@
+package com.reservation.bulkhead;
+
+/**
+ * 현재 요청이 들어온 격벽과 요청이 빌린 커넥션 수
+ * - BulkheadFilter 가 요청 시작 / 종료 시 범위를 열고 닫음 (요청 밖에서는 격벽 없음)
+ */
+final class BulkheadScope {
+
+    private static final ThreadLocal<BulkheadScope> CURRENT = new ThreadLocal<>();
+
+    private final Bulkhead bulkhead;
+    private int openConnections;
+
+    private BulkheadScope(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    static void begin(Bulkhead bulkhead) {
+        CURRENT.set(new BulkheadScope(bulkhead));
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return 현재 요청의 범위, 격벽 밖이면 null
+     */
+    static BulkheadScope current() {
+        return CURRENT.get();
+    }
+
+    Bulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * 커넥션을 빌림 (요청 스레드에서만 호출)
+     * @return 요청이 빌린 첫 커넥션이면 true (커넥션 자리를 차지해야 함)
+     */
+    boolean open() {
+        return openConnections++ == 0;
+    }
+
+    /**
+     * 커넥션을 반납
+     * @return 요청이 빌린 마지막 커넥션이면 true (커넥션 자리를 반납해야 함)
+     */
+    boolean close() {
+        return --openConnections == 0;
+    }
+}
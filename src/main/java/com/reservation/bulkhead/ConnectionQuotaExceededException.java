@@ -0,0 +1,21 @@
+package com.reservation.bulkhead;
+
+import lombok.Getter;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 격벽의 커넥션 할당량을 connection-timeout 안에 얻지 못함
+ * - 트랜잭션 / JPA 예외로 감싸져 올라오므로 GlobalExceptionHandler 가 원인을 따라가 503 으로 응답
+ *   (컨트롤러에 닿기 전 필터에서 발생하면 BulkheadFilter 가 같은 방식으로 응답)
+ */
+@Getter
+public class ConnectionQuotaExceededException extends SQLTransientConnectionException {
+
+    private final long retryAfterSeconds;
+
+    public ConnectionQuotaExceededException(BulkheadGroup group, long retryAfterSeconds) {
+        super("bulkhead " + group.getKey() + " connection quota exhausted");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.reservation.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화 (virtual-threads 프로필에서만)
+ * - 실행기는 Spring Boot 기본 applicationTaskExecutor 사용, 작업마다 virtual thread 로 실행
+ * - 그 외 프로필에서는 @Async 가 적용되지 않아 시작 시 색인 / 순위표 / Bloom 필터 초기화가 ApplicationReadyEvent 안에서 차례로 실행되고,
+ *   초기화가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀜 (초기화 전 트래픽을 받지 않음)
+ */
+@Configuration
+@EnableAsync
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class AsyncConfig {
+}
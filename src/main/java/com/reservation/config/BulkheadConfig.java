@@ -0,0 +1,57 @@
+package com.reservation.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.bulkhead.BulkheadDataSource;
+import com.reservation.bulkhead.BulkheadFilter;
+import com.reservation.bulkhead.BulkheadRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * 요청 그룹별 격벽 (인증, 예약 쓰기, 리뷰, 조회)
+ * - 필터 : 요청 관측(http.server.requests) 다음, Spring Security 보다 먼저 실행해 거절된 요청도 메트릭에 남기고 인증 비용은 쓰지 않음
+ * - dataSource 빈을 BulkheadDataSource 로 감싸 격벽별 커넥션 할당량 적용
+ * - SQL 계측(SqlInstrumentationConfig)보다 나중에 감싸 가장 바깥에 위치 : 격벽 → SQL 계측 → 라우팅 / 커넥션 풀
+ *   (할당량을 얻은 뒤에야 계측 / 풀에서 커넥션을 빌리고, 반납은 안쪽 커넥션을 닫은 뒤 할당량 순)
+ */
+@Configuration
+public class BulkheadConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(BulkheadRegistry bulkheadRegistry, ObjectMapper objectMapper)
+            throws IOException {
+        FilterRegistrationBean<BulkheadFilter> registration =
+                new FilterRegistrationBean<>(new BulkheadFilter(bulkheadRegistry, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor() {
+        return new BulkheadDataSourcePostProcessor();
+    }
+
+    private static final class BulkheadDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                return new BulkheadDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return SqlInstrumentationConfig.DATA_SOURCE_WRAP_ORDER + 10;
+        }
+    }
+}
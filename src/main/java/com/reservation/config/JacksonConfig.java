@@ -0,0 +1,36 @@
+package com.reservation.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 응답 / 요청 본문 형식
+ * - Accept / Content-Type 에 따라 JSON 외에 application/cbor, application/x-jackson-smile 로도 주고받음 (모든 컨트롤러 공통)
+ * - CBOR / Smile 변환기도 Spring Boot 의 Jackson 설정(날짜 형식, 모듈)을 그대로 사용
+ * - Blackbird 모듈 : 속성 접근을 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 처리 (모든 ObjectMapper 에 등록)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // Jackson2ObjectMapperBuilder 는 prototype 빈이라 변환기마다 새 빌더를 받음
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
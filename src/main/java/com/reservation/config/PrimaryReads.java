@@ -0,0 +1,50 @@
+package com.reservation.config;
+
+import com.reservation.config.ReadWriteRoutingDataSource.Target;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 여러 요청이 공유할 값(매장 캐시 등)을 primary 에서 조회
+ * - 커밋 후 캐시를 비운 직후 지연된 replica 에서 변경 전 행을 읽어 캐시에 다시 채우지 않도록 함
+ * - 현재 트랜잭션이 replica 를 쓰면 별도 읽기 전용 트랜잭션(primary 커넥션)에서 조회, 이미 primary 면 그대로 조회
+ * - replica 를 설정하지 않았으면 그대로 조회
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate primaryTransaction;
+    private final boolean routing;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${spring.datasource.replica.jdbc-url:}") String replicaUrl) {
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryTransaction.setReadOnly(true);
+        this.routing = !replicaUrl.isEmpty();
+    }
+
+    /**
+     * primary 에서 조회
+     * @param query 조회 작업
+     * @return 조회 결과
+     */
+    public <T> T read(Supplier<T> query) {
+        if (!routing) {
+            return query.get();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return ReadWriteRoutingDataSource.onPrimary(query);
+        }
+        if (ReadWriteRoutingDataSource.currentTarget() == Target.PRIMARY) {
+            return query.get();
+        }
+        return primaryTransaction.execute(status -> ReadWriteRoutingDataSource.onPrimary(query));
+    }
+}
@@ -0,0 +1,58 @@
+package com.reservation.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica 로 커넥션을 나누는 DataSource
+ * - 읽기 전용 트랜잭션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary
+ * - 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * - 커넥션은 트랜잭션에서 처음 쿼리할 때 정해지므로, 요청 전체가 커넥션 하나를 잡는 open-in-view 는 끔
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    /**
+     * 작업 안에서 새로 얻는 커넥션은 읽기 전용 트랜잭션이라도 primary 사용
+     * - 이미 커넥션을 얻은 트랜잭션에는 영향이 없으므로 새 트랜잭션에서 사용 (PrimaryReads)
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentTarget();
+    }
+
+    /**
+     * 현재 스레드의 트랜잭션이 사용할 대상
+     */
+    public static Target currentTarget() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReadYourWrites.isPinnedToPrimary() || PRIMARY_ONLY.get() != null ? Target.PRIMARY : Target.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWrites.pinToPrimary();
+        }
+        return Target.PRIMARY;
+    }
+}
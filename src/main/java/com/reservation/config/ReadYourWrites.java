@@ -0,0 +1,46 @@
+package com.reservation.config;
+
+/**
+ * 요청 단위 read-your-writes 보장
+ * - 요청 안에서 쓰기 트랜잭션이 primary 커넥션을 사용하면, 이후 같은 요청의 읽기 전용 트랜잭션도 primary 로 보냄
+ * - ReadYourWritesFilter 가 요청 시작 / 종료 시 범위를 열고 닫음 (요청 밖에서는 항상 false)
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<boolean[]> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * 요청 범위 시작
+     */
+    public static void begin() {
+        PINNED.set(new boolean[1]);
+    }
+
+    /**
+     * 요청 범위 종료
+     */
+    public static void end() {
+        PINNED.remove();
+    }
+
+    /**
+     * 현재 요청을 primary 에 고정
+     */
+    public static void pinToPrimary() {
+        boolean[] pinned = PINNED.get();
+        if (pinned != null) {
+            pinned[0] = true;
+        }
+    }
+
+    /**
+     * 현재 요청이 primary 에 고정되었는지 여부
+     */
+    public static boolean isPinnedToPrimary() {
+        boolean[] pinned = PINNED.get();
+        return pinned != null && pinned[0];
+    }
+}
@@ -22,6 +22,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    // 인증 없이 접근 가능한 API
+    public static final String[] PUBLIC_PATHS = {
+            "/api/v1/members/sign-up",
+            "/api/v1/members/sign-in",
+            "/api/v1/members/available",
+            "/actuator/health",
+            "/actuator/prometheus" // management.server.port 로 분리된 내부 포트에서만 노출
+    };
+
     private final JwtAuthenticationFilter authenticationFilter;
 
     /**
@@ -38,8 +47,8 @@ public class SecurityConfig {
                 .sessionManagement(sessionManagement -> // STATELESS -> 서버에서 세션을 생성하거나 사용하지 않음
                         sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
-                        // 회원가입 / 로그인 API 누구나 접근 허용
-                        .requestMatchers("/api/v1/members/sign-up", "/api/v1/members/sign-in").permitAll()
+                        // 회원가입 / 로그인 / 사용자 이름 확인 API, 헬스 체크 / 메트릭 수집 누구나 접근 허용
+                        .requestMatchers(PUBLIC_PATHS).permitAll()
                         .anyRequest().authenticated() // 그 외 모든 요청 인증 필요
                 )
                 .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,80 @@
+package com.reservation.config;
+
+import com.reservation.sql.SqlRequestInterceptor;
+import com.reservation.sql.SqlStatementListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 계측
+ * - 애플리케이션이 사용하는 dataSource 빈을 datasource-proxy 로 감싸 모든 문장의 실행 시간 / 요청별 문장 수 측정
+ * - 라우팅 구성(DataSourceRoutingConfig)에서는 primary / replica 풀이 아니라 라우팅 dataSource 만 감싸 중복 측정 방지
+ * - 격벽 할당량(BulkheadConfig)보다 먼저 감싸 안쪽에 위치 : 격벽 → SQL 계측 → 라우팅 / 커넥션 풀
+ */
+@Configuration
+public class SqlInstrumentationConfig implements WebMvcConfigurer {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // dataSource 를 감싸는 BeanPostProcessor 순서 (작을수록 먼저 감싸 안쪽에 위치)
+    static final int DATA_SOURCE_WRAP_ORDER = Ordered.LOWEST_PRECEDENCE - 20;
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlInstrumentationConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public SqlStatementListener sqlStatementListener(
+            @Value("${sql.slow-query.threshold-ms:200}") long slowThresholdMillis,
+            @Value("${sql.slow-query.sample-rate:1.0}") double slowSampleRate,
+            @Value("${sql.budget.fail-on-exceed:false}") boolean failOnBudgetExceeded) {
+        return new SqlStatementListener(meterRegistry, slowThresholdMillis, slowSampleRate, failOnBudgetExceeded);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationDataSourcePostProcessor(ObjectProvider<SqlStatementListener> listener) {
+        return new SqlInstrumentationDataSourcePostProcessor(listener);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlRequestInterceptor(meterRegistry));
+    }
+
+    private static final class SqlInstrumentationDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<SqlStatementListener> listener;
+
+        private SqlInstrumentationDataSourcePostProcessor(ObjectProvider<SqlStatementListener> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(DATA_SOURCE_BEAN)
+                        .listener(listener.getObject())
+                        .build();
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return DATA_SOURCE_WRAP_ORDER;
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package com.reservation.controller;
 
 import com.reservation.dto.member.*;
+import com.reservation.etag.ConditionalResponses;
+import com.reservation.etag.EntityVersionRegistry;
+import com.reservation.exception.ApplicationException;
+import com.reservation.security.LoginAttemptThrottler;
 import com.reservation.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/members")
 @RequiredArgsConstructor
 public class MemberController {
 
     private final MemberService memberService;
+    private final LoginAttemptThrottler loginAttemptThrottler;
+    private final EntityVersionRegistry entityVersionRegistry;
 
     /**
      * 회원가입 API
@@ -27,23 +37,61 @@ public class MemberController {
     /**
      * 로그인 API
      * @param signInRequest 로그인 요청 데이터를 담은 객체
+     * @param request       클라이언트 IP 확인용 요청 객체 (프록시 뒤에서는 X-Forwarded-For 반영)
      * @return 로그인한 회원 정보를 담은 MemberDto
      */
     @PostMapping("/sign-in")
-    public ResponseEntity<SignInDto.Response> signIn(@RequestBody SignInDto.Request signInRequest) {
-        SignInDto.Response signInResponse = memberService.signIn(signInRequest);
-        return ResponseEntity.ok(signInResponse);
+    public ResponseEntity<SignInDto.Response> signIn(@RequestBody SignInDto.Request signInRequest,
+                                                     HttpServletRequest request) {
+        // 회원 조회, 비밀번호 비교 전에 실패 횟수 제한
+        String clientIp = request.getRemoteAddr();
+        loginAttemptThrottler.checkAttempt(signInRequest.getUsername(), clientIp);
+        try {
+            SignInDto.Response signInResponse = memberService.signIn(signInRequest);
+            return ResponseEntity.ok(signInResponse);
+        } catch (ApplicationException e) {
+            // 회원 없음 / 비밀번호 불일치만 실패로 집계
+            loginAttemptThrottler.recordFailure(signInRequest.getUsername(), clientIp);
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 이름 사용 가능 여부 확인 API
+     * @param username 확인할 사용자 이름
+     * @return 사용 가능 여부를 담은 UsernameAvailabilityDto
+     */
+    @GetMapping("/available")
+    public ResponseEntity<UsernameAvailabilityDto> checkUsernameAvailability(@RequestParam String username) {
+        UsernameAvailabilityDto availability = memberService.checkUsernameAvailability(username);
+        return ResponseEntity.ok(availability);
     }
 
     /**
      * 특정 회원 조회 API
-     * @param memberId 조회할 회원의 ID
+     * - If-None-Match 가 버전 맵의 ETag 와 같으면 회원 조회 없이 304
+     * @param memberId    조회할 회원의 ID
+     * @param ifNoneMatch 이전 응답의 ETag
      * @return 조회된 회원 정보를 담은 MemberDto
      */
-    @GetMapping("/{memberId}")
-    public ResponseEntity<MemberDto> getMemberById(@PathVariable Long memberId) {
-        MemberDto member = memberService.getMemberById(memberId);
-        return ResponseEntity.ok(member);
+    @GetMapping("/{memberId:\\d+}")
+    public ResponseEntity<MemberDto> getMemberById(@PathVariable Long memberId,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String cachedTag = entityVersionRegistry.cachedMemberTag(memberId);
+        if (ConditionalResponses.matches(ifNoneMatch, cachedTag)) {
+            return ConditionalResponses.notModified(cachedTag);
+        }
+        return memberWithTag(memberService.getMemberById(memberId));
+    }
+
+    /**
+     * 여러 회원 조회 API (GET /api/v1/members?ids=1,2,3)
+     * @param ids 조회할 회원 ID 목록 (중복 제외 최대 multi-get.max-ids 개)
+     * @return 조회된 회원 정보 목록 (요청 순서, 없는 회원은 제외)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<MemberDto>> getMembersByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(memberService.getMembersByIds(ids));
     }
 
     /**
@@ -51,10 +99,9 @@ public class MemberController {
      * @param username 조회할 회원의 ID
      * @return 조회된 회원 정보를 담은 MemberDto
      */
-    @GetMapping("/{username}")
+    @GetMapping("/{username:.*\\D.*}")
     public ResponseEntity<MemberDto> getMemberByUsername(@PathVariable String username) {
-        MemberDto member = memberService.getMemberByUsername(username);
-        return ResponseEntity.ok(member);
+        return memberWithTag(memberService.getMemberByUsername(username));
     }
 
     /**
@@ -79,4 +126,9 @@ public class MemberController {
         memberService.deleteMember(memberId);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<MemberDto> memberWithTag(MemberDto member) {
+        entityVersionRegistry.recordMember(member.getId(), member.getVersion());
+        return ConditionalResponses.ok(entityVersionRegistry.memberTag(member.getId(), member.getVersion()), member);
+    }
 }
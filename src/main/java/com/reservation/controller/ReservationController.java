@@ -3,6 +3,7 @@ package com.reservation.controller;
 import com.reservation.dto.reservation.ReservationDto;
 import com.reservation.dto.reservation.ReservationUpdateDto;
 import com.reservation.service.ReservationService;
+import com.reservation.sql.SqlBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -26,6 +27,7 @@ public class ReservationController {
      */
     @PostMapping
     @PreAuthorize("hasRole('USER')")
+    @SqlBudget(4) // 회원, 매장, 중복 확인, INSERT (회원 / 매장은 2차 캐시 적중 시 생략)
     public ResponseEntity<ReservationDto> createReservation(
             @RequestBody ReservationDto reservationDto,
             @RequestParam Long memberId,
@@ -41,11 +43,25 @@ public class ReservationController {
      */
     @GetMapping("/{reservationId}")
     @PreAuthorize("hasRole('USER') or hasRole('MANAGER')")
+    @SqlBudget(1)
     public ResponseEntity<ReservationDto> getReservationById(@PathVariable Long reservationId) {
         ReservationDto reservation = reservationService.getReservationById(reservationId);
         return ResponseEntity.ok(reservation);
     }
 
+    /**
+     * 여러 예약 정보 한 번에 조회 (GET /api/v1/reservations?ids=1,2,3)
+     * @param ids 예약 ID 목록 (중복 제외 최대 multi-get.max-ids 개)
+     * @return 예약 정보 목록 (요청 순서, 없는 예약은 제외)
+     */
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER')")
+    @SqlBudget(2) // 기본 설정(최대 100 개, 50 개씩)에서 IN 쿼리 2 번
+    public ResponseEntity<List<ReservationDto>> getReservationsByIds(@RequestParam List<Long> ids) {
+        List<ReservationDto> reservations = reservationService.getReservationsByIds(ids);
+        return ResponseEntity.ok(reservations);
+    }
+
     /**
      * 특정 매장 모든 예약 정보 조회
      * @param storeId 조회할 매장의 ID
@@ -53,6 +69,7 @@ public class ReservationController {
      */
     @GetMapping("/store/{storeId}")
     @PreAuthorize("hasRole('USER') or hasRole('MANAGER')")
+    @SqlBudget(1)
     public ResponseEntity<List<ReservationDto>> getReservationsByStoreId(@PathVariable Long storeId) {
         List<ReservationDto> reservations = reservationService.getReservationsByStoreId(storeId);
         return ResponseEntity.ok(reservations);
@@ -65,6 +82,7 @@ public class ReservationController {
      */
     @GetMapping("/member/{memberId}")
     @PreAuthorize("hasRole('USER') or hasRole('MANAGER')")
+    @SqlBudget(1)
     public ResponseEntity<List<ReservationDto>> getReservationsByMemberId(@PathVariable Long memberId) {
         List<ReservationDto> reservations = reservationService.getReservationsByMemberId(memberId);
         return ResponseEntity.ok(reservations);
@@ -78,6 +96,7 @@ public class ReservationController {
      */
     @PutMapping("/{reservationId}")
     @PreAuthorize("hasRole('USER')")
+    @SqlBudget(2)
     public ResponseEntity<ReservationDto> updateReservation(
             @PathVariable Long reservationId,
             @RequestBody ReservationUpdateDto updateDto) {
@@ -92,6 +111,7 @@ public class ReservationController {
      */
     @DeleteMapping("/{reservationId}")
     @PreAuthorize("hasRole('USER')")
+    @SqlBudget(2)
     public ResponseEntity<Void> deleteReservation(@PathVariable Long reservationId) {
         reservationService.deleteReservation(reservationId);
         return ResponseEntity.noContent().build();
@@ -1,14 +1,25 @@
 package com.reservation.controller;
 
+import com.reservation.dto.review.ReviewAcceptedDto;
 import com.reservation.dto.review.ReviewDeleteDto;
 import com.reservation.dto.review.ReviewDto;
+import com.reservation.dto.review.ReviewIngestStatusDto;
+import com.reservation.dto.review.ReviewPageDto;
 import com.reservation.dto.review.ReviewRegisterDto;
 import com.reservation.dto.review.ReviewUpdateDto;
+import com.reservation.etag.ConditionalResponses;
+import com.reservation.etag.EntityVersionRegistry;
+import com.reservation.service.ReviewIngestionService;
+import com.reservation.service.ReviewSearchService;
 import com.reservation.service.ReviewService;
+import com.reservation.service.StoreService;
+import com.reservation.sql.SqlBudget;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,6 +30,10 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewSearchService reviewSearchService;
+    private final ReviewIngestionService reviewIngestionService;
+    private final StoreService storeService;
+    private final EntityVersionRegistry entityVersionRegistry;
 
     /**
      * 리뷰 생성
@@ -31,15 +46,45 @@ public class ReviewController {
         return new ResponseEntity<>(createdReview, HttpStatus.CREATED);
     }
 
+    /**
+     * 리뷰 비동기 생성 (요청을 저널에 기록한 뒤 접수, 이후 일괄 저장)
+     * @param reviewRegisterDto 생성할 리뷰 정보
+     * @return 발급된 리뷰 ID (저장 결과는 GET /async/{reviewId} 로 확인)
+     */
+    @PostMapping("/async")
+    public ResponseEntity<ReviewAcceptedDto> createReviewAsync(@Valid @RequestBody ReviewRegisterDto reviewRegisterDto) {
+        ReviewAcceptedDto accepted = reviewIngestionService.submit(reviewRegisterDto);
+        return new ResponseEntity<>(accepted, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * 비동기 생성 요청의 저장 상태 조회
+     * @param reviewId 접수 시 발급된 리뷰 ID
+     * @return 저장 상태 (PENDING / SAVED / FAILED)
+     */
+    @GetMapping("/async/{reviewId}")
+    public ResponseEntity<ReviewIngestStatusDto> getReviewIngestStatus(@PathVariable Long reviewId) {
+        ReviewIngestStatusDto status = reviewIngestionService.getStatus(reviewId);
+        return new ResponseEntity<>(status, HttpStatus.OK);
+    }
+
     /**
      * 매장명으로 리뷰 조회
-     * @param storeName 조회할 매장의 이름
+     * - If-None-Match 가 매장 리뷰 목록 버전의 ETag 와 같으면 리뷰 조회 없이 304
+     * @param storeName   조회할 매장의 이름
+     * @param ifNoneMatch 이전 응답의 ETag
      * @return 해당 매장의 리뷰 목록
      */
     @GetMapping("/store/{storeName}")
-    public ResponseEntity<List<ReviewDto>> getReviewsByStoreName(@PathVariable String storeName) {
+    public ResponseEntity<List<ReviewDto>> getReviewsByStoreName(@PathVariable String storeName,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long storeId = storeService.getStoreEntityByName(storeName).getId();
+        String etag = entityVersionRegistry.storeReviewsTag(storeId, "");
+        if (ConditionalResponses.matches(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag);
+        }
         List<ReviewDto> reviews = reviewService.getReviewByStoreName(storeName);
-        return new ResponseEntity<>(reviews, HttpStatus.OK);
+        return ConditionalResponses.ok(etag, reviews);
     }
 
     /**
@@ -53,6 +98,64 @@ public class ReviewController {
         return new ResponseEntity<>(reviews, HttpStatus.OK);
     }
 
+    /**
+     * 매장 리뷰 피드 조회 (최신순)
+     * @param storeId 매장 ID
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size    페이지 크기 (최대 100)
+     * @return 리뷰 목록과 다음 페이지 커서
+     */
+    @GetMapping("/store/{storeId}/feed")
+    @SqlBudget(1)
+    public ResponseEntity<ReviewPageDto> getStoreReviewFeed(@PathVariable Long storeId,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = entityVersionRegistry.storeReviewsTag(storeId, page(cursor, pageSize(size)));
+        if (ConditionalResponses.matches(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag);
+        }
+        ReviewPageDto page = reviewService.getStoreReviewFeed(storeId, cursor, pageSize(size));
+        return ConditionalResponses.ok(etag, page);
+    }
+
+    /**
+     * 회원 리뷰 피드 조회 (최신순)
+     * @param memberId 회원 ID
+     * @param cursor   이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size     페이지 크기 (최대 100)
+     * @return 리뷰 목록과 다음 페이지 커서
+     */
+    @GetMapping("/member/{memberId}/feed")
+    @SqlBudget(1)
+    public ResponseEntity<ReviewPageDto> getMemberReviewFeed(@PathVariable Long memberId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = entityVersionRegistry.memberReviewsTag(memberId, page(cursor, pageSize(size)));
+        if (ConditionalResponses.matches(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag);
+        }
+        ReviewPageDto page = reviewService.getMemberReviewFeed(memberId, cursor, pageSize(size));
+        return ConditionalResponses.ok(etag, page);
+    }
+
+    /**
+     * 리뷰 내용 검색
+     * @param query   검색어
+     * @param storeId 매장 ID (생략하면 전체 매장)
+     * @param limit   최대 결과 수 (최대 100)
+     * @return 검색어를 모두 포함하는 최신순 리뷰 목록
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<List<ReviewDto>> searchReviews(@RequestParam("q") String query,
+                                                         @RequestParam(required = false) Long storeId,
+                                                         @RequestParam(defaultValue = "20") int limit) {
+        List<ReviewDto> reviews = reviewSearchService.searchReviews(query, storeId, pageSize(limit));
+        return new ResponseEntity<>(reviews, HttpStatus.OK);
+    }
+
     /**
      * 리뷰 수정
      * @param reviewUpdateDto 수정할 리뷰 정보
@@ -74,4 +177,13 @@ public class ReviewController {
         reviewService.deleteReview(new ReviewDeleteDto(reviewId));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+
+    // 같은 목록이라도 커서 / 페이지 크기가 다르면 다른 ETag
+    private static String page(String cursor, int size) {
+        return "-" + (cursor == null ? "first" : cursor) + "-" + size;
+    }
 }
@@ -1,15 +1,29 @@
 package com.reservation.controller;
 
+import com.reservation.dto.store.NearbyStoreDto;
+import com.reservation.dto.store.RankedStoreDto;
 import com.reservation.dto.store.StoreDto;
 import com.reservation.dto.store.StoreRegisterDto;
 import com.reservation.dto.store.StoreUpdateDto;
+import com.reservation.etag.ConditionalResponses;
+import com.reservation.etag.EntityVersionRegistry;
+import com.reservation.exception.ApplicationException;
+import com.reservation.service.SecondLevelCacheService;
+import com.reservation.service.StoreRatingService;
 import com.reservation.service.StoreService;
+import com.reservation.util.CacheStats;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.reservation.type.ErrorCode.INVALID_REQUEST;
 
 @RestController
 @RequestMapping("/api/v1/stores")
@@ -17,6 +31,9 @@ import org.springframework.web.bind.annotation.*;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreRatingService storeRatingService;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final EntityVersionRegistry entityVersionRegistry;
 
     /**
      * 매장 등록
@@ -31,24 +48,107 @@ public class StoreController {
 
     /**
      * 매장 ID로 조회
-     * @param storeId 조회할 매장 ID
+     * - If-None-Match 가 버전 맵의 ETag 와 같으면 매장 조회 없이 304
+     * @param storeId     조회할 매장 ID
+     * @param ifNoneMatch 이전 응답의 ETag
      * @return 매장 정보 DTO
      */
-    @GetMapping("/{storeId}")
-    public ResponseEntity<StoreDto> getStoreById(@PathVariable Long storeId) {
-        StoreDto store = storeService.getStoreById(storeId);
-        return new ResponseEntity<>(store, HttpStatus.OK);
+    @GetMapping("/{storeId:\\d+}")
+    public ResponseEntity<StoreDto> getStoreById(@PathVariable Long storeId,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String cachedTag = entityVersionRegistry.cachedStoreTag(storeId);
+        if (ConditionalResponses.matches(ifNoneMatch, cachedTag)) {
+            return ConditionalResponses.notModified(cachedTag);
+        }
+        return storeWithTag(storeId);
+    }
+
+    /**
+     * 여러 매장 한 번에 조회 (GET /api/v1/stores?ids=1,2,3)
+     * @param ids 조회할 매장 ID 목록 (중복 제외 최대 multi-get.max-ids 개)
+     * @return 매장 정보 DTO 목록 (요청 순서, 없는 매장은 제외)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<StoreDto>> getStoresByIds(@RequestParam List<Long> ids) {
+        return new ResponseEntity<>(storeService.getStoresByIds(ids), HttpStatus.OK);
     }
 
     /**
-     * 매장 이름으로 조회
+     * 매장 이름으로 조회 (숫자로만 된 경로는 매장 ID 조회로 처리)
      * @param storeName 조회할 매장 이름
      * @return 매장 정보 DTO
      */
-    @GetMapping("/{storeName}")
+    @GetMapping("/{storeName:.*\\D.*}")
     public ResponseEntity<StoreDto> getStoreByStoreName(@PathVariable String storeName) {
-        StoreDto store = storeService.getStoreByStoreName(storeName);
-        return new ResponseEntity<>(store, HttpStatus.OK);
+        return storeWithTag(storeService.getStoreEntityByName(storeName).getId());
+    }
+
+    /**
+     * 매장 검색 (매장명 / 위치 / 설명)
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 관련도 순 매장 정보 DTO 목록
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<StoreDto>> searchStores(@RequestParam("q") String query,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        List<StoreDto> stores = storeService.searchStores(query, Math.min(limit, 100));
+        return new ResponseEntity<>(stores, HttpStatus.OK);
+    }
+
+    /**
+     * 주변 매장 조회
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  검색 반경 (km, 최대 50)
+     * @param limit     최대 결과 수
+     * @return 거리 순 매장 목록
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyStoreDto>> getNearbyStores(@RequestParam("lat") double latitude,
+                                                                @RequestParam("lng") double longitude,
+                                                                @RequestParam(defaultValue = "3") double radiusKm,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180 || radiusKm <= 0 || radiusKm > 50) {
+            throw new ApplicationException(INVALID_REQUEST);
+        }
+        List<NearbyStoreDto> stores = storeService.getNearbyStores(latitude, longitude, radiusKm, Math.min(limit, 100));
+        return new ResponseEntity<>(stores, HttpStatus.OK);
+    }
+
+    /**
+     * 평점 상위 매장 조회
+     * @param location 매장 위치 (생략하면 전체)
+     * @param limit    최대 결과 수
+     * @return 베이지안 평균 순 매장 목록
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<RankedStoreDto>> getTopStores(@RequestParam(required = false) String location,
+                                                             @RequestParam(defaultValue = "50") int limit) {
+        List<RankedStoreDto> stores = storeService.getTopStores(location, Math.min(limit, 100));
+        return new ResponseEntity<>(stores, HttpStatus.OK);
+    }
+
+    /**
+     * 캐시 통계 조회 (매장 캐시 + Hibernate 2차 캐시 영역)
+     * @return 캐시별 적중률, 평균 적재 시간
+     */
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<List<CacheStats>> getCacheStats() {
+        List<CacheStats> stats = new ArrayList<>(storeService.getCacheStats());
+        stats.addAll(secondLevelCacheService.getRegionStats());
+        return new ResponseEntity<>(stats, HttpStatus.OK);
+    }
+
+    /**
+     * 전체 매장 평점 집계 재계산
+     * @return 재계산한 매장 수
+     */
+    @PostMapping("/ratings/rebuild")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Long> rebuildRatings() {
+        return new ResponseEntity<>(storeRatingService.rebuildAll(), HttpStatus.OK);
     }
 
     /**
@@ -74,4 +174,12 @@ public class StoreController {
         storeService.deleteStore(storeId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    // 평점 요약이 바뀌었는데 이전 ETag 가 붙지 않도록 리뷰 목록 버전은 매장 조회 전에 읽음
+    private ResponseEntity<StoreDto> storeWithTag(Long storeId) {
+        long reviews = entityVersionRegistry.storeReviewsVersion(storeId);
+        StoreDto store = storeService.getStoreById(storeId);
+        entityVersionRegistry.recordStore(storeId, store.getVersion());
+        return ConditionalResponses.ok(entityVersionRegistry.storeTag(storeId, store.getVersion(), reviews), store);
+    }
 }
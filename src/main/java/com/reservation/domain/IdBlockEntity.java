@@ -0,0 +1,50 @@
+package com.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * ID 블록 발급 현황 (이름별 다음에 발급할 ID)
+ * - 애플리케이션이 블록 단위로 ID 를 예약하고 메모리에서 하나씩 발급
+ * - 행은 마이그레이션(V5)으로 미리 만들고, 예약은 잠금을 잡는 UPDATE 로 처리
+ */
+@Entity
+@Table(name = "id_block")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdBlockEntity implements Persistable<String> {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long nextId;
+
+    // 이름을 직접 지정하므로 save 가 merge(조회 후 INSERT) 대신 바로 INSERT 하도록 새 엔티티 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted = false;
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -5,6 +5,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +17,10 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = MemberEntity.CACHE_REGION)
+@NaturalIdCache(region = MemberEntity.NATURAL_ID_CACHE_REGION)
+@Table(uniqueConstraints = @UniqueConstraint(name = MemberEntity.USERNAME_CONSTRAINT, columnNames = "username"))
 @Getter
 @Setter
 @Builder
@@ -20,10 +28,16 @@ import java.util.List;
 @AllArgsConstructor
 public class MemberEntity implements UserDetails {
 
+    // 2차 캐시 영역 이름 (ehcache.xml 과 일치해야 함)
+    public static final String CACHE_REGION = "member";
+    public static final String NATURAL_ID_CACHE_REGION = "member-natural-id";
+    public static final String USERNAME_CONSTRAINT = "uk_member_username";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @NotNull
     @Size(min = 3, max = 50)
     @Column(nullable = false)
@@ -41,6 +55,11 @@ public class MemberEntity implements UserDetails {
     @Enumerated(EnumType.STRING)
     private MemberType memberType;
 
+    // 수정마다 증가 (낙관적 잠금, 조회 응답 ETag)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // MemberType 에 따라 다르게 반환
@@ -5,17 +5,25 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_review_store_id_created_at", columnList = "store_id, created_at, id"),
+        @Index(name = "idx_review_member_id_created_at", columnList = "member_id, created_at, id")
+})
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ReviewEntity {
+public class ReviewEntity implements Persistable<Long> {
 
+    // ReviewIdGenerator 가 블록 단위로 미리 발급한 ID 사용 (배치 INSERT 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Size(max = 200, message = "내용은 200자를 초과할 수 없습니다.")
@@ -26,15 +34,56 @@ public class ReviewEntity {
     @Max(5)
     private int rating;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private MemberEntity member;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id", nullable = false)
     private StoreEntity store;
 
-    @ManyToOne
-    @JoinColumn(name = "reservation_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id")
     private ReservationEntity reservation;
+
+    // 작성 시각 (피드 정렬 / 커서 기준), ID 는 인스턴스마다 블록 단위로 발급되어 시간 순서가 아님
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 수정마다 증가 (낙관적 잠금)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // ID 를 직접 지정하므로 save 시 조회 없이 INSERT 하도록 새 엔티티 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted = false;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        persisted = true;
+    }
+
+    @PrePersist
+    void initCreatedAt() {
+        if (createdAt == null) {
+            createdAt = now();
+        }
+    }
+
+    /**
+     * 작성 시각으로 저장할 현재 시각 (DB 컬럼 정밀도인 마이크로초까지)
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
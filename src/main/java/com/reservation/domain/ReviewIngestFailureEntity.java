@@ -0,0 +1,30 @@
+package com.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 등록으로 접수했지만 저장할 수 없는 리뷰 (제약 조건 위반 등)
+ * - 접수 후 회원이 탈퇴한 경우처럼 재시도해도 저장되지 않는 리뷰만 기록
+ */
+@Entity
+@Table(name = "review_ingest_failure")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewIngestFailureEntity {
+
+    // 접수 시 발급된 리뷰 ID
+    @Id
+    private Long reviewId;
+
+    @Column(nullable = false)
+    private String reason;
+
+    @Column(nullable = false)
+    private LocalDateTime failedAt;
+}
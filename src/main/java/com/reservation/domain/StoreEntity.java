@@ -1,11 +1,21 @@
 package com.reservation.domain;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = StoreEntity.CACHE_REGION)
+@NaturalIdCache(region = StoreEntity.NATURAL_ID_CACHE_REGION)
+@Table(uniqueConstraints = @UniqueConstraint(name = StoreEntity.STORE_NAME_CONSTRAINT, columnNames = "storeName"))
 @Getter
 @Setter
 @Builder
@@ -13,10 +23,16 @@ import lombok.*;
 @AllArgsConstructor
 public class StoreEntity {
 
+    // 2차 캐시 영역 이름 (ehcache.xml 과 일치해야 함)
+    public static final String CACHE_REGION = "store";
+    public static final String NATURAL_ID_CACHE_REGION = "store-natural-id";
+    public static final String STORE_NAME_CONSTRAINT = "uk_store_store_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @NotNull
     @Size(min = 1, max = 50)
     @Column(nullable = false, length = 50)
@@ -30,4 +46,17 @@ public class StoreEntity {
     @Size(max = 100)
     @Column(length = 100)
     private String description;
+
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double latitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double longitude;
+
+    // 수정마다 증가 (낙관적 잠금, 조회 응답 ETag)
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
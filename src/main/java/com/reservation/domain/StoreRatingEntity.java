@@ -0,0 +1,46 @@
+package com.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 매장별 리뷰 평점 집계 (리뷰 수, 평점 합, 1~5점 분포)
+ * - 리뷰 생성 / 수정 / 삭제 트랜잭션에서 증분 갱신
+ * - 네이티브 upsert 로만 갱신하므로 version 도 upsert 가 직접 올림 (@Version 아님)
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreRatingEntity {
+
+    @Id
+    private Long storeId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count;
+
+    // 집계 행이 바뀔 때마다 1 씩 증가 (순위표가 늦게 도착한 이전 집계를 무시하는 기준)
+    @Column(nullable = false)
+    private long version;
+}
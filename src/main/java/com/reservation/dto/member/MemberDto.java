@@ -15,6 +15,7 @@ public class MemberDto {
     private String username;
     private String phoneNumber;
     private MemberType memberType;
+    private Long version;
 
     public static MemberDto fromEntity(MemberEntity member) {
         return MemberDto.builder()
@@ -22,6 +23,7 @@ public class MemberDto {
                 .username(member.getUsername())
                 .phoneNumber(member.getPhoneNumber())
                 .memberType(member.getMemberType())
+                .version(member.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,14 @@
+package com.reservation.dto.member;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsernameAvailabilityDto {
+
+    private String username;
+    private boolean available;
+}
@@ -5,31 +5,28 @@ import com.reservation.type.ArrivalStatus;
 import com.reservation.type.ReservationStatus;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
-import lombok.*;
+import lombok.Builder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
-@Getter
-@Setter
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class ReservationDto {
-    private Long id;
-    private Long memberId;
-    private Long storeId;
-    private ReservationStatus reservationStatus;
-    private ArrivalStatus arrivalStatus;
+public record ReservationDto(
+        Long id,
+        Long memberId,
+        Long storeId,
+        ReservationStatus reservationStatus,
+        ArrivalStatus arrivalStatus,
 
-    @NotNull(message = "예약 날짜는 필수입니다.")
-    @Future(message = "예약 날짜는 현재 날짜 이후여야 합니다.")
-    private LocalDate reservationDate;
+        @NotNull(message = "예약 날짜는 필수입니다.")
+        @Future(message = "예약 날짜는 현재 날짜 이후여야 합니다.")
+        LocalDate reservationDate,
 
-    @NotNull(message = "예약 시간은 필수입니다.")
-    private LocalTime reservationTime;
+        @NotNull(message = "예약 시간은 필수입니다.")
+        LocalTime reservationTime) {
 
+    // 응답의 reservationDateTime 속성 (기존 JSON 형식 유지)
     public LocalDateTime getReservationDateTime() {
         return LocalDateTime.of(reservationDate, reservationTime);
     }
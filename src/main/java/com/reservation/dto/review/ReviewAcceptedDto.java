@@ -0,0 +1,14 @@
+package com.reservation.dto.review;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewAcceptedDto {
+
+    private Long reviewId; // 저장 예정인 리뷰 ID
+    private String message;
+}
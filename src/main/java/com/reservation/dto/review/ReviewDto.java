@@ -1,22 +1,23 @@
 package com.reservation.dto.review;
 
 import com.reservation.domain.ReviewEntity;
-import lombok.*;
+import lombok.Builder;
 
-@Getter
-@Setter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class ReviewDto {
+import java.time.LocalDateTime;
 
-    private Long reviewId;
-    private Long memberId;
-    private Long storeId;
-    private String content;
-    private String username;
-    private String storeName;
-    private int rating;
+/**
+ * 리뷰 응답 (구성 요소 순서는 ReviewRepository 의 JPQL 생성자 표현식과 같아야 함)
+ */
+@Builder
+public record ReviewDto(
+        Long reviewId,
+        Long memberId,
+        Long storeId,
+        String content,
+        String username,
+        String storeName,
+        int rating,
+        LocalDateTime createdAt) {
 
     public static ReviewDto fromEntity(ReviewEntity review) {
         return ReviewDto.builder()
@@ -27,6 +28,7 @@ public class ReviewDto {
                 .rating(review.getRating())
                 .username(review.getMember().getUsername())
                 .storeName(review.getStore().getStoreName())
+                .createdAt(review.getCreatedAt())
                 .build();
     }
 }
@@ -0,0 +1,15 @@
+package com.reservation.dto.review;
+
+import com.reservation.type.ReviewIngestStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewIngestStatusDto {
+
+    private Long reviewId; // 접수 시 발급된 리뷰 ID
+    private ReviewIngestStatus status;
+}
@@ -0,0 +1,16 @@
+package com.reservation.dto.review;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageDto {
+
+    private List<ReviewDto> reviews;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 값 (마지막 리뷰의 작성 시각과 ID), 마지막 페이지면 null
+}
@@ -0,0 +1,14 @@
+package com.reservation.dto.store;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyStoreDto {
+
+    private StoreDto store;
+    private double distanceKm;
+}
@@ -0,0 +1,16 @@
+package com.reservation.dto.store;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedStoreDto {
+
+    private StoreDto store;
+    private double score; // 베이지안 평균 평점
+    private long reviewCount;
+    private double averageRating;
+}
@@ -0,0 +1,31 @@
+package com.reservation.dto.store;
+
+import com.reservation.domain.StoreRatingEntity;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDto {
+
+    private long reviewCount;
+    private double averageRating;
+    private List<Long> histogram; // 1점 ~ 5점 리뷰 수
+
+    public static RatingSummaryDto empty() {
+        return new RatingSummaryDto(0, 0.0, List.of(0L, 0L, 0L, 0L, 0L));
+    }
+
+    public static RatingSummaryDto fromEntity(StoreRatingEntity rating) {
+        return RatingSummaryDto.builder()
+                .reviewCount(rating.getReviewCount())
+                .averageRating(rating.getReviewCount() == 0 ? 0.0 : (double) rating.getRatingSum() / rating.getReviewCount())
+                .histogram(List.of(rating.getRating1Count(), rating.getRating2Count(), rating.getRating3Count(),
+                        rating.getRating4Count(), rating.getRating5Count()))
+                .build();
+    }
+}
@@ -14,6 +14,10 @@ public class StoreDto {
     private String storeName;
     private String location;
     private String description;
+    private Double latitude;
+    private Double longitude;
+    private RatingSummaryDto rating;
+    private Long version;
 
     public static StoreDto fromEntity(StoreEntity store) {
         return StoreDto.builder()
@@ -21,6 +25,9 @@ public class StoreDto {
                 .storeName(store.getStoreName())
                 .location(store.getLocation())
                 .description(store.getDescription())
+                .latitude(store.getLatitude())
+                .longitude(store.getLongitude())
+                .version(store.getVersion())
                 .build();
     }
 }
@@ -1,5 +1,7 @@
 package com.reservation.dto.store;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -22,6 +24,14 @@ public class StoreUpdateDto {
 
         @Size(max = 100)
         private String description;
+
+        @DecimalMin("-90.0")
+        @DecimalMax("90.0")
+        private Double latitude;
+
+        @DecimalMin("-180.0")
+        @DecimalMax("180.0")
+        private Double longitude;
     }
 
     @Getter
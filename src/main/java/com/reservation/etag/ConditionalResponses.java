@@ -0,0 +1,54 @@
+package com.reservation.etag;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag 조건부 조회 응답
+ * - 클라이언트가 캐시한 응답을 매번 다시 검증하도록 Cache-Control: private, no-cache 를 함께 보냄
+ */
+public final class ConditionalResponses {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * If-None-Match 가 ETag 와 일치하는지 확인 (약한 비교, * 포함)
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     * @param etag        따옴표 없는 ETag
+     * @return 일치하면 true
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String quoted = "\"" + etag + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 본문 없는 304 응답
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * ETag 를 붙인 200 응답 (요청의 If-None-Match 와 일치하면 Spring 이 본문 없이 304 로 응답)
+     */
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+}
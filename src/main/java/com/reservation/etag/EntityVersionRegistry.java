@@ -0,0 +1,175 @@
+package com.reservation.etag;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 응답 ETag 용 메모리 버전 맵
+ * - 매장 / 회원 : 엔티티 @Version 값 (조회 / 수정 커밋 시 기록, 더 작은 값으로 되돌리지 않음)
+ *   다른 인스턴스의 수정은 알 수 없으므로 기록 후 ttl-seconds(매장 캐시와 같은 60초)가 지나면 버전을 모르는 것으로 보고 다시 조회
+ * - 매장별 / 회원별 리뷰 목록 : 리뷰 변경 커밋마다 전역 순번을 새로 받아 기록
+ * - 매장명 / 사용자 이름 변경, 평점 전체 재계산처럼 여러 목록에 걸친 변경은 기준 순번(baseline)을 올려 모든 목록 버전을 한 번에 올림
+ * - 버전 맵은 메모리에만 있으므로 모든 ETag 에 인스턴스 시작 시각(epoch)을 넣어 재시작 전 / 다른 인스턴스의 ETag 와 겹치지 않게 함
+ * - 맵이 max-entries 를 넘으면 비움 (엔티티 버전은 다음 조회에서 다시 기록, 리뷰 목록 버전은 baseline 을 올려 비움)
+ * - 리뷰 목록 버전은 매장 캐시와 같이 단일 인스턴스 기준 (다른 인스턴스의 리뷰 변경은 알 수 없음)
+ */
+@Component
+public class EntityVersionRegistry {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long baseline;
+
+    private final Map<Long, RecordedVersion> storeVersions = new ConcurrentHashMap<>();
+    private final Map<Long, RecordedVersion> memberVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> storeReviewVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> memberReviewVersions = new ConcurrentHashMap<>();
+
+    @Value("${etag.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${etag.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 버전을 알고 있는 매장의 현재 ETag
+     * @param storeId 매장 ID
+     * @return ETag, 버전을 모르거나 기록한 지 ttl-seconds 가 지났으면 null
+     */
+    public String cachedStoreTag(Long storeId) {
+        Long version = liveVersion(storeVersions, storeId);
+        return version == null ? null : storeTag(storeId, version, storeReviewsVersion(storeId));
+    }
+
+    /**
+     * 매장 ETag (매장 응답에 평점 요약이 포함되므로 리뷰 목록 버전도 포함)
+     * @param storeId 매장 ID
+     * @param version 매장 엔티티 버전
+     * @param reviews 매장 조회 전에 읽은 리뷰 목록 버전
+     * @return ETag
+     */
+    public String storeTag(Long storeId, long version, long reviews) {
+        return "store-" + storeId + "-" + version + "-" + epoch + "." + reviews;
+    }
+
+    public void recordStore(Long storeId, Long version) {
+        record(storeVersions, storeId, version);
+    }
+
+    public void evictStore(Long storeId) {
+        storeVersions.remove(storeId);
+    }
+
+    /**
+     * 버전을 알고 있는 회원의 현재 ETag
+     * @param memberId 회원 ID
+     * @return ETag, 버전을 모르거나 기록한 지 ttl-seconds 가 지났으면 null
+     */
+    public String cachedMemberTag(Long memberId) {
+        Long version = liveVersion(memberVersions, memberId);
+        return version == null ? null : memberTag(memberId, version);
+    }
+
+    public String memberTag(Long memberId, long version) {
+        return "member-" + memberId + "-" + version + "-" + epoch;
+    }
+
+    public void recordMember(Long memberId, Long version) {
+        record(memberVersions, memberId, version);
+    }
+
+    public void evictMember(Long memberId) {
+        memberVersions.remove(memberId);
+    }
+
+    /**
+     * 매장 리뷰 목록 ETag
+     * @param storeId 매장 ID
+     * @param page    페이지 구분 (커서, 크기 등, 전체 목록이면 빈 문자열)
+     * @return ETag
+     */
+    public String storeReviewsTag(Long storeId, String page) {
+        return "store-reviews-" + storeId + "-" + epoch + "." + storeReviewsVersion(storeId) + page;
+    }
+
+    /**
+     * 회원 리뷰 목록 ETag
+     * @param memberId 회원 ID
+     * @param page     페이지 구분 (커서, 크기 등, 전체 목록이면 빈 문자열)
+     * @return ETag
+     */
+    public String memberReviewsTag(Long memberId, String page) {
+        return "member-reviews-" + memberId + "-" + epoch + "." + memberReviewsVersion(memberId) + page;
+    }
+
+    public long storeReviewsVersion(Long storeId) {
+        return Math.max(storeReviewVersions.getOrDefault(storeId, 0L), baseline);
+    }
+
+    public long memberReviewsVersion(Long memberId) {
+        return Math.max(memberReviewVersions.getOrDefault(memberId, 0L), baseline);
+    }
+
+    /**
+     * 매장 리뷰 변경 (등록 / 수정 / 삭제 커밋 후 호출)
+     */
+    public void storeReviewsChanged(Long storeId) {
+        bump(storeReviewVersions, storeId);
+    }
+
+    /**
+     * 회원 리뷰 변경 (등록 / 수정 / 삭제 커밋 후 호출)
+     */
+    public void memberReviewsChanged(Long memberId) {
+        bump(memberReviewVersions, memberId);
+    }
+
+    /**
+     * 모든 리뷰 목록 / 매장 응답에 영향을 주는 변경 (매장명 / 사용자 이름 변경, 평점 전체 재계산)
+     */
+    public void allReviewsChanged() {
+        baseline = sequence.incrementAndGet();
+    }
+
+    // 기록 시각은 매번 갱신 (조회로 버전을 다시 확인했으므로), 버전은 더 작은 값으로 되돌리지 않음
+    private void record(Map<Long, RecordedVersion> versions, Long id, Long version) {
+        if (id == null || version == null) {
+            return;
+        }
+        if (versions.size() >= maxEntries && !versions.containsKey(id)) {
+            versions.clear();
+        }
+        RecordedVersion recorded = new RecordedVersion(version, System.nanoTime());
+        versions.merge(id, recorded, (previous, current) -> previous.version() > current.version()
+                ? new RecordedVersion(previous.version(), current.recordedAt())
+                : current);
+    }
+
+    private Long liveVersion(Map<Long, RecordedVersion> versions, Long id) {
+        RecordedVersion recorded = versions.get(id);
+        if (recorded == null) {
+            return null;
+        }
+        if (System.nanoTime() - recorded.recordedAt() >= TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+            versions.remove(id, recorded);
+            return null;
+        }
+        return recorded.version();
+    }
+
+    private void bump(Map<Long, Long> versions, Long id) {
+        if (versions.size() >= maxEntries && !versions.containsKey(id)) {
+            baseline = sequence.incrementAndGet();
+            versions.clear();
+        }
+        versions.merge(id, sequence.incrementAndGet(), Math::max);
+    }
+
+    private record RecordedVersion(long version, long recordedAt) {
+    }
+}
@@ -3,12 +3,16 @@ package com.reservation.exception;
 import com.reservation.type.ErrorCode;
 import lombok.Getter;
 
+/**
+ * ErrorCode 로 응답하는 업무 예외
+ * - 예약 중복, 회원 없음 같은 예상된 거절이므로 스택 트레이스를 만들지 않음 (ErrorCode 로 발생 위치를 구분)
+ */
 @Getter
 public class ApplicationException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public ApplicationException(ErrorCode errorCode) {
-        super(errorCode.getDescription());
+        super(errorCode.getDescription(), null, false, false);
         this.errorCode = errorCode;
     }
 }
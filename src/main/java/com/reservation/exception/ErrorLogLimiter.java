@@ -0,0 +1,115 @@
+package com.reservation.exception;
+
+import com.reservation.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ErrorCode 별 오류 로그 제한
+ * - 4xx 는 표본 추출(sample-rate) 후, 5xx(예상하지 못한 예외 포함)는 표본 추출 없이 ErrorCode 별 초당 rate-per-second 건까지만 기록
+ * - 한도를 넘어 생략한 건수는 같은 ErrorCode 의 다음 로그에 함께 기록
+ * - 별도 스레드에서 로그 (요청 스레드는 로그 I/O 를 기다리지 않음), 큐가 가득 차면 버리고 app.errors.log.dropped 증가
+ * - 4xx 는 WARN, 5xx 는 ERROR 로 기록
+ */
+@Component
+@Slf4j
+public class ErrorLogLimiter {
+
+    private static final int LOG_QUEUE_CAPACITY = 1000;
+
+    private final Map<ErrorCode, Window> windows = new EnumMap<>(ErrorCode.class);
+    private final int ratePerSecond;
+    private final double sampleRate;
+    private final Counter droppedLogs;
+    private final ThreadPoolExecutor logWriter;
+
+    public ErrorLogLimiter(MeterRegistry meterRegistry,
+                           @Value("${error-log.rate-per-second:5}") int ratePerSecond,
+                           @Value("${error-log.sample-rate:1.0}") double sampleRate) {
+        this.ratePerSecond = ratePerSecond;
+        this.sampleRate = sampleRate;
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            windows.put(errorCode, new Window());
+        }
+        this.droppedLogs = meterRegistry.counter("app.errors.log.dropped");
+        this.logWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(LOG_QUEUE_CAPACITY),
+                task -> {
+                    Thread thread = new Thread(task, "error-logger");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> droppedLogs.increment());
+    }
+
+    /**
+     * 오류 로그 요청 (한도 안이면 비동기로 기록, 아니면 생략 건수만 증가)
+     * @param errorCode 응답한 ErrorCode
+     * @param message   로그 메시지
+     * @param cause     함께 기록할 예외 (스택 트레이스가 없는 ApplicationException 이면 메시지만 기록)
+     */
+    public void log(ErrorCode errorCode, String message, Throwable cause) {
+        boolean serverError = errorCode.getStatusCode() >= 500;
+        if (!serverError && sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        Window window = windows.get(errorCode);
+        if (!window.tryAcquire(System.currentTimeMillis() / 1000, ratePerSecond)) {
+            return;
+        }
+        long suppressed = window.suppressed.getAndSet(0);
+        Throwable logged = cause instanceof ApplicationException ? null : cause;
+        logWriter.execute(() -> write(serverError, errorCode, message, suppressed, logged));
+    }
+
+    /**
+     * 남은 오류 로그 처리 후 로그 스레드 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        logWriter.shutdown();
+    }
+
+    private static void write(boolean serverError, ErrorCode errorCode, String message, long suppressed, Throwable cause) {
+        String suffix = suppressed > 0 ? " (같은 오류 " + suppressed + "건 생략)" : "";
+        if (serverError) {
+            log.error("[{}] {}{}", errorCode, message, suffix, cause);
+        } else if (cause != null) {
+            log.warn("[{}] {}{}", errorCode, message, suffix, cause);
+        } else {
+            log.warn("[{}] {}{}", errorCode, message, suffix);
+        }
+    }
+
+    // ErrorCode 별 1초 고정 윈도우 (윈도우가 바뀌는 순간의 경쟁으로 한도를 약간 넘는 것은 허용)
+    private static final class Window {
+
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        boolean tryAcquire(long nowSecond, int limit) {
+            long current = second.get();
+            if (current != nowSecond && second.compareAndSet(current, nowSecond)) {
+                count.set(0);
+            }
+            if (count.incrementAndGet() <= limit) {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+    }
+}
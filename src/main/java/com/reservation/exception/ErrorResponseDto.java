@@ -1,17 +1,14 @@
 package com.reservation.exception;
 
 import com.reservation.type.ErrorCode;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
+// 불변 (GlobalExceptionHandler 가 ErrorCode 별로 미리 만든 응답을 모든 요청이 공유)
+@Value
 @Builder
-@AllArgsConstructor
-@NoArgsConstructor
 public class ErrorResponseDto {
-    private int statusCode;
-    private ErrorCode errorCode;
-    private String errorMessage;
+    int statusCode;
+    ErrorCode errorCode;
+    String errorMessage;
 }
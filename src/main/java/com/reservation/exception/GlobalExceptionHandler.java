@@ -1,62 +1,115 @@
 package com.reservation.exception;
 
+import com.reservation.bulkhead.ConnectionQuotaExceededException;
+import com.reservation.jfr.ErrorResponseEvent;
 import com.reservation.type.ErrorCode;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import static com.reservation.type.ErrorCode.*;
 
 @ControllerAdvice // 모든 컨트롤러에서 발생하는 예외 처리
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    // 응답한 ErrorCode 별 횟수 (app_errors_total{code, status})
+    private static final String ERROR_COUNTER = "app.errors";
+
+    // ErrorCode 별 응답은 항상 같으므로 미리 만들어 재사용 (ErrorResponseDto 는 불변)
+    private static final Map<ErrorCode, ResponseEntity<ErrorResponseDto>> RESPONSES = prebuildResponses();
+
+    private final MeterRegistry meterRegistry;
+    private final ErrorLogLimiter errorLogLimiter;
 
     // 커스텀 애플리케이션 예외 처리
     @ExceptionHandler(ApplicationException.class)
     public ResponseEntity<ErrorResponseDto> handleApplicationException(ApplicationException e) {
-        logError(e);
+        errorLogLimiter.log(e.getErrorCode(), e.getMessage(), e);
         return buildErrorResponse(e.getErrorCode());
     }
 
     // 데이터 무결성 위반 예외 처리
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponseDto> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
-        logger.error("데이터 무결성 위반 오류가 발생했습니다.", e);
+        errorLogLimiter.log(INVALID_REQUEST, "데이터 무결성 위반 오류가 발생했습니다.", e);
         return buildErrorResponse(INVALID_REQUEST);
     }
 
+    // 낙관적 잠금(@Version) 충돌 예외 처리
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        errorLogLimiter.log(CONCURRENT_MODIFICATION, "동시 수정 충돌이 발생했습니다.", e);
+        return buildErrorResponse(CONCURRENT_MODIFICATION);
+    }
+
     // 사용자 이름을 찾을 수 없는 예외 처리
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ErrorResponseDto> handleUsernameNotFoundException(UsernameNotFoundException e) {
-        logger.error("사용자를 찾을 수 없는 오류가 발생했습니다.", e);
+        errorLogLimiter.log(USER_NOT_FOUND, "사용자를 찾을 수 없는 오류가 발생했습니다.", e);
         return buildErrorResponse(USER_NOT_FOUND);
     }
 
-    // 일반 예외 처리
+    // 일반 예외 처리 (격벽 커넥션 할당량 초과는 트랜잭션 / JPA 예외에 감싸져 오므로 원인을 확인해 503)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleGenericException(Exception e) {
-        logger.error("예외가 발생했습니다.", e);
+        ConnectionQuotaExceededException quotaExceeded = findCause(e, ConnectionQuotaExceededException.class);
+        if (quotaExceeded != null) {
+            errorLogLimiter.log(SERVICE_BUSY, quotaExceeded.getMessage(), null);
+            ResponseEntity<ErrorResponseDto> busy = buildErrorResponse(SERVICE_BUSY);
+            return ResponseEntity.status(busy.getStatusCode())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(quotaExceeded.getRetryAfterSeconds()))
+                    .body(busy.getBody());
+        }
+        errorLogLimiter.log(INTERNAL_SERVER_ERROR, "예외가 발생했습니다.", e);
         return buildErrorResponse(INTERNAL_SERVER_ERROR);
     }
 
     // 에러 응답 생성 메소드
     private ResponseEntity<ErrorResponseDto> buildErrorResponse(ErrorCode errorCode) {
-        ErrorResponseDto response = ErrorResponseDto.builder()
-                .statusCode(errorCode.getStatusCode())
-                .errorCode(errorCode)
-                .errorMessage(errorCode.getDescription())
-                .build();
-        return new ResponseEntity<>(response, HttpStatus.valueOf(errorCode.getStatusCode()));
+        meterRegistry.counter(ERROR_COUNTER,
+                "code", errorCode.name(),
+                "status", String.valueOf(errorCode.getStatusCode())).increment();
+
+        ErrorResponseEvent event = new ErrorResponseEvent();
+        if (event.shouldCommit()) {
+            event.setErrorCode(errorCode.name());
+            event.setStatusCode(errorCode.getStatusCode());
+            event.commit();
+        }
+
+        return RESPONSES.get(errorCode);
+    }
+
+    private static <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
     }
 
-    // 에러 로깅 메소드
-    private void logError(Exception e) {
-        logger.error("{} 오류가 발생했습니다.", e.getClass().getSimpleName(), e);
+    private static Map<ErrorCode, ResponseEntity<ErrorResponseDto>> prebuildResponses() {
+        Map<ErrorCode, ResponseEntity<ErrorResponseDto>> responses = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ErrorResponseDto response = ErrorResponseDto.builder()
+                    .statusCode(errorCode.getStatusCode())
+                    .errorCode(errorCode)
+                    .errorMessage(errorCode.getDescription())
+                    .build();
+            responses.put(errorCode, new ResponseEntity<>(response, HttpStatus.valueOf(errorCode.getStatusCode())));
+        }
+        return responses;
     }
 }
@@ -0,0 +1,87 @@
+package com.reservation.geo;
+
+/**
+ * 고정 정밀도 geohash 셀 계산
+ * - 위도 12비트, 경도 13비트를 교차 배치한 25비트 geohash (base32 5자리와 동일한 셀)
+ * - 셀 크기는 약 4.9km(위도) x 4.9km * cos(위도)(경도)
+ */
+public final class GeoHash {
+
+    static final int LAT_BITS = 12;
+    static final int LNG_BITS = 13;
+    static final int LAT_CELLS = 1 << LAT_BITS;
+    static final int LNG_CELLS = 1 << LNG_BITS;
+
+    static final double CELL_LAT_DEGREES = 180.0 / LAT_CELLS;
+    static final double CELL_LNG_DEGREES = 360.0 / LNG_CELLS;
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표가 속한 셀
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return geohash 셀 값
+     */
+    public static long cellOf(double latitude, double longitude) {
+        return cell(latIndex(latitude), lngIndex(longitude));
+    }
+
+    static int latIndex(double latitude) {
+        return Math.min(LAT_CELLS - 1, (int) ((latitude + 90.0) / CELL_LAT_DEGREES));
+    }
+
+    static int lngIndex(double longitude) {
+        return Math.min(LNG_CELLS - 1, (int) ((longitude + 180.0) / CELL_LNG_DEGREES));
+    }
+
+    /**
+     * 위도 / 경도 인덱스로 셀 계산 (경도는 날짜변경선에서 순환, 위도는 범위 밖이면 -1)
+     */
+    static long cell(int latIndex, int lngIndex) {
+        if (latIndex < 0 || latIndex >= LAT_CELLS) {
+            return -1;
+        }
+        int wrappedLng = Math.floorMod(lngIndex, LNG_CELLS);
+
+        // geohash 는 경도 비트부터 경도 / 위도를 번갈아 배치
+        long hash = 0;
+        for (int bit = LNG_BITS - 1; bit >= 0; bit--) {
+            hash = (hash << 1) | ((wrappedLng >>> bit) & 1);
+            if (bit > 0) {
+                hash = (hash << 1) | ((latIndex >>> (bit - 1)) & 1);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 좌표 사이 거리 (haversine, km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 셀 높이 (km)
+     */
+    static double cellHeightKm() {
+        return CELL_LAT_DEGREES * KM_PER_DEGREE;
+    }
+
+    /**
+     * 주어진 위도에서 셀 너비 (km)
+     */
+    static double cellWidthKm(double latitude) {
+        return CELL_LNG_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(Math.min(89.9, Math.abs(latitude))));
+    }
+}
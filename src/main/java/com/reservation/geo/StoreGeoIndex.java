@@ -0,0 +1,156 @@
+package com.reservation.geo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 좌표 geohash 셀 색인
+ * - 셀 -> 매장 ID 집합, 매장 ID -> 좌표를 ConcurrentHashMap 으로 관리
+ * - 근접 검색은 질의 좌표의 셀에서 시작해 바깥 링으로 넓혀가며 반경 안의 셀만 확인
+ */
+public class StoreGeoIndex {
+
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+    /**
+     * 매장 좌표 색인 (좌표가 없으면 색인에서 제거)
+     * @param storeId   매장 ID
+     * @param latitude  위도
+     * @param longitude 경도
+     */
+    public void put(Long storeId, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            remove(storeId);
+            return;
+        }
+
+        Point point = new Point(latitude, longitude, GeoHash.cellOf(latitude, longitude));
+        Point previous = points.put(storeId, point);
+        if (previous != null && previous.cell() != point.cell()) {
+            removeFromCell(previous.cell(), storeId);
+        }
+        cells.compute(point.cell(), (cell, storeIds) -> {
+            Set<Long> updated = storeIds == null ? ConcurrentHashMap.newKeySet() : storeIds;
+            updated.add(storeId);
+            return updated;
+        });
+    }
+
+    /**
+     * 매장 좌표 색인 제거
+     * @param storeId 매장 ID
+     */
+    public void remove(Long storeId) {
+        Point previous = points.remove(storeId);
+        if (previous != null) {
+            removeFromCell(previous.cell(), storeId);
+        }
+    }
+
+    /**
+     * 반경 안에서 가까운 매장 조회
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  검색 반경 (km)
+     * @param limit     최대 결과 수
+     * @return 거리 오름차순 매장 목록
+     */
+    public List<NearbyStore> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        if (limit < 1 || radiusKm <= 0) {
+            return List.of();
+        }
+
+        int latIndex = GeoHash.latIndex(latitude);
+        int lngIndex = GeoHash.lngIndex(longitude);
+
+        // 반경 안에서 가장 극에 가까운 위도의 셀 너비를 기준으로 확인할 링 수 계산
+        double farthestLatitude = Math.min(90.0, Math.abs(latitude) + radiusKm / GeoHash.cellHeightKm() * GeoHash.CELL_LAT_DEGREES);
+        double cellHeight = GeoHash.cellHeightKm();
+        double cellWidth = GeoHash.cellWidthKm(farthestLatitude);
+        int latRings = (int) Math.ceil(radiusKm / cellHeight);
+        int lngRings = (int) Math.min(GeoHash.LNG_CELLS / 2 - 1, Math.ceil(radiusKm / cellWidth));
+        double cellMinKm = Math.min(cellHeight, cellWidth);
+
+        // 현재까지 가장 먼 결과가 맨 앞에 오는 힙
+        PriorityQueue<NearbyStore> nearest = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(NearbyStore::distanceKm).reversed());
+
+        for (int ring = 0; ring <= Math.max(latRings, lngRings); ring++) {
+            // 링 안쪽 경계까지의 거리가 이미 찾은 결과보다 멀면 종료
+            if (nearest.size() == limit && (ring - 1) * cellMinKm > nearest.peek().distanceKm()) {
+                break;
+            }
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                if (Math.abs(dLat) > latRings) {
+                    continue;
+                }
+                int step = Math.abs(dLat) == ring ? 1 : ring * 2;
+                for (int dLng = -ring; dLng <= ring; dLng += step) {
+                    if (Math.abs(dLng) <= lngRings) {
+                        scanCell(GeoHash.cell(latIndex + dLat, lngIndex + dLng), latitude, longitude, radiusKm, limit, nearest);
+                    }
+                }
+            }
+        }
+
+        List<NearbyStore> result = new ArrayList<>(nearest);
+        Collections.sort(result, Comparator.comparingDouble(NearbyStore::distanceKm));
+        return result;
+    }
+
+    /**
+     * 색인된 매장 수
+     */
+    public int size() {
+        return points.size();
+    }
+
+    private void scanCell(long cell, double latitude, double longitude, double radiusKm, int limit,
+                          PriorityQueue<NearbyStore> nearest) {
+        Set<Long> storeIds = cell < 0 ? null : cells.get(cell);
+        if (storeIds == null) {
+            return;
+        }
+        for (Long storeId : storeIds) {
+            Point point = points.get(storeId);
+            if (point == null) {
+                continue;
+            }
+            double distance = GeoHash.distanceKm(latitude, longitude, point.latitude(), point.longitude());
+            if (distance > radiusKm) {
+                continue;
+            }
+            if (nearest.size() < limit) {
+                nearest.offer(new NearbyStore(storeId, distance));
+            } else if (distance < nearest.peek().distanceKm()) {
+                nearest.poll();
+                nearest.offer(new NearbyStore(storeId, distance));
+            }
+        }
+    }
+
+    private void removeFromCell(long cell, Long storeId) {
+        cells.computeIfPresent(cell, (key, storeIds) -> {
+            storeIds.remove(storeId);
+            return storeIds.isEmpty() ? null : storeIds;
+        });
+    }
+
+    private record Point(double latitude, double longitude, long cell) {
+    }
+
+    /**
+     * 근접 검색 결과
+     * @param storeId    매장 ID
+     * @param distanceKm 기준 좌표로부터 거리 (km)
+     */
+    public record NearbyStore(Long storeId, double distanceKm) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.reservation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 오류 응답 1건 (GlobalExceptionHandler)
+ */
+@Name("com.reservation.ErrorResponse")
+@Label("Error Response")
+@Category({"Store Reservation", "Error"})
+@Description("ErrorCode 로 응답한 요청")
+@Enabled(false)
+@StackTrace(false)
+@Setter
+public class ErrorResponseEvent extends Event {
+
+    @Label("Error Code")
+    private String errorCode;
+
+    @Label("Status Code")
+    private int statusCode;
+}
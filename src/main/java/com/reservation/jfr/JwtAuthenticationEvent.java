@@ -0,0 +1,41 @@
+package com.reservation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * 요청 1건의 JWT 인증 (JwtAuthenticationFilter)
+ * - 헤더 파싱 / 서명·만료 검증 / 회원 조회 단계별 시간
+ */
+@Name("com.reservation.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"Store Reservation", "Security"})
+@Description("JWT 인증 필터 단계별 시간")
+@Enabled(false)
+@StackTrace(false)
+@Setter
+public class JwtAuthenticationEvent extends Event {
+
+    @Label("Outcome")
+    @Description("VALID 또는 실패한 ErrorCode")
+    private String outcome;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Verify Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long verifyDuration;
+
+    @Label("Lookup Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lookupDuration;
+}
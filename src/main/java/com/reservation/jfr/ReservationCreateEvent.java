@@ -0,0 +1,43 @@
+package com.reservation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * 예약 등록 1건 (ReservationService.createReservationEntity)
+ * - 중복 예약 확인 시간과 INSERT 시간을 나눠 기록해 슬롯 경합 / DB 지연 구분
+ */
+@Name("com.reservation.ReservationCreate")
+@Label("Reservation Create")
+@Category({"Store Reservation", "Reservation"})
+@Description("예약 등록 처리 (중복 확인 / 저장 단계별 시간)")
+@Enabled(false)
+@StackTrace(false)
+@Setter
+public class ReservationCreateEvent extends Event {
+
+    @Label("Store Id")
+    private long storeId;
+
+    @Label("Member Id")
+    private long memberId;
+
+    @Label("Conflict")
+    @Description("이미 예약된 시간이라 거절되었는지 여부")
+    private boolean conflict;
+
+    @Label("Conflict Check Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long checkDuration;
+
+    @Label("Insert Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long insertDuration;
+}
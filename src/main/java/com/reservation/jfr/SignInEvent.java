@@ -0,0 +1,39 @@
+package com.reservation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * 로그인 1건 (MemberService.signIn)
+ * - BCrypt 비밀번호 비교 시간을 따로 기록
+ */
+@Name("com.reservation.SignIn")
+@Label("Sign In")
+@Category({"Store Reservation", "Security"})
+@Description("로그인 처리 (회원 조회 / BCrypt 비교 시간)")
+@Enabled(false)
+@StackTrace(false)
+@Setter
+public class SignInEvent extends Event {
+
+    @Label("Member Id")
+    private long memberId;
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Lookup Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lookupDuration;
+
+    @Label("Password Check Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long passwordCheckDuration;
+}
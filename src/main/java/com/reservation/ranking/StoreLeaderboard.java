@@ -0,0 +1,199 @@
+package com.reservation.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 평점 순 매장 순위표
+ * - 매장별 리뷰 수 / 평점 합으로 베이지안 평균을 계산해 ConcurrentSkipListSet 에 점수 순으로 보관
+ * - 전체 순위와 위치별 순위를 함께 관리하고, 리뷰 변경 시 해당 매장 항목만 다시 정렬
+ * - 베이지안 평균 = (priorWeight * priorMean + 평점 합) / (priorWeight + 리뷰 수)
+ * - setRatings 는 집계 버전을 함께 받아 이미 반영된 버전보다 오래된 값은 무시 (반영 순서와 무관하게 최신 집계 유지)
+ */
+public class StoreLeaderboard {
+
+    private static final Comparator<Ranked> ORDER =
+            Comparator.comparingDouble(Ranked::score).reversed().thenComparing(Ranked::storeId);
+
+    private final double priorWeight;
+    private volatile double priorMean;
+
+    private final Map<Long, Ranked> stores = new ConcurrentHashMap<>();
+    private final NavigableSet<Ranked> overall = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<String, NavigableSet<Ranked>> byLocation = new ConcurrentHashMap<>();
+
+    /**
+     * @param priorWeight 사전 평균에 줄 가중치 (리뷰 수로 환산)
+     * @param priorMean   사전 평균 평점
+     */
+    public StoreLeaderboard(double priorWeight, double priorMean) {
+        this.priorWeight = priorWeight;
+        this.priorMean = priorMean;
+    }
+
+    /**
+     * 리뷰 변화량 반영 (집계 버전은 그대로 유지)
+     * @param storeId 매장 ID
+     * @param count   리뷰 수 변화
+     * @param sum     평점 합 변화
+     */
+    public void addRatings(Long storeId, long count, long sum) {
+        stores.compute(storeId, (id, previous) -> previous == null
+                ? relink(null, ranked(id, null, 0, count, sum))
+                : relink(previous, ranked(id, previous.location(), previous.version(), previous.count() + count, previous.sum() + sum)));
+    }
+
+    /**
+     * 리뷰 수 / 평점 합 설정
+     * - 같은 매장의 집계가 여러 스레드에서 순서 없이 도착해도 버전이 가장 큰 값이 남음
+     * @param storeId 매장 ID
+     * @param version 집계 버전 (반영된 버전보다 작으면 무시)
+     * @param count   리뷰 수
+     * @param sum     평점 합
+     */
+    public void setRatings(Long storeId, long version, long count, long sum) {
+        stores.compute(storeId, (id, previous) -> {
+            if (previous == null) {
+                return relink(null, ranked(id, null, version, count, sum));
+            }
+            if (version < previous.version()) {
+                return previous;
+            }
+            return relink(previous, ranked(id, previous.location(), version, count, sum));
+        });
+    }
+
+    /**
+     * 매장 위치 설정 (위치별 순위 분류용)
+     * @param storeId  매장 ID
+     * @param location 매장 위치
+     */
+    public void setLocation(Long storeId, String location) {
+        String key = locationKey(location);
+        stores.compute(storeId, (id, previous) -> previous == null
+                ? relink(null, ranked(id, key, 0, 0, 0))
+                : relink(previous, ranked(id, key, previous.version(), previous.count(), previous.sum())));
+    }
+
+    /**
+     * 매장 제거
+     * @param storeId 매장 ID
+     */
+    public void remove(Long storeId) {
+        stores.computeIfPresent(storeId, (id, previous) -> relink(previous, null));
+    }
+
+    /**
+     * 사전 평균을 바꾸고 전체 매장 점수 재계산
+     * @param priorMean 새 사전 평균 평점
+     */
+    public void rescore(double priorMean) {
+        this.priorMean = priorMean;
+        for (Long storeId : stores.keySet()) {
+            stores.computeIfPresent(storeId, (id, previous) ->
+                    relink(previous, ranked(id, previous.location(), previous.version(), previous.count(), previous.sum())));
+        }
+    }
+
+    /**
+     * 상위 매장 조회 - 앞에서부터 limit 건만 순회
+     * @param location 매장 위치 (null 이면 전체)
+     * @param limit    최대 결과 수
+     * @return 점수 내림차순 매장 목록
+     */
+    public List<RankedStore> top(String location, int limit) {
+        NavigableSet<Ranked> ranking = location == null ? overall : byLocation.get(locationKey(location));
+        if (ranking == null || limit < 1) {
+            return List.of();
+        }
+
+        List<RankedStore> result = new ArrayList<>(limit);
+        for (Ranked ranked : ranking) {
+            // 순회 중 갱신된 매장의 이전 항목은 건너뜀
+            if (stores.get(ranked.storeId()) != ranked) {
+                continue;
+            }
+            result.add(new RankedStore(ranked.storeId(), ranked.score(), ranked.count(),
+                    (double) ranked.sum() / ranked.count()));
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 리뷰가 있는 매장 수
+     */
+    public int size() {
+        return overall.size();
+    }
+
+    /**
+     * 현재 사전 평균 평점
+     */
+    public double getPriorMean() {
+        return priorMean;
+    }
+
+    // 이전 항목을 순위에서 빼고 새 항목을 추가, 매장 단위로 compute 안에서만 호출
+    private Ranked relink(Ranked previous, Ranked updated) {
+        if (previous != null) {
+            overall.remove(previous);
+            if (previous.location() != null) {
+                byLocation.computeIfPresent(previous.location(), (key, ranking) -> {
+                    ranking.remove(previous);
+                    return ranking.isEmpty() ? null : ranking;
+                });
+            }
+        }
+        if (updated == null) {
+            return null;
+        }
+        // 리뷰가 없는 매장은 순위에 넣지 않고 위치만 기억
+        if (updated.count() > 0) {
+            overall.add(updated);
+            if (updated.location() != null) {
+                byLocation.compute(updated.location(), (key, ranking) -> {
+                    NavigableSet<Ranked> target = ranking == null ? new ConcurrentSkipListSet<>(ORDER) : ranking;
+                    target.add(updated);
+                    return target;
+                });
+            }
+        } else if (updated.location() == null && updated.version() == 0) {
+            // 집계 버전이 있으면 남겨 두어야 늦게 도착한 이전 집계를 걸러냄
+            return null;
+        }
+        return updated;
+    }
+
+    private Ranked ranked(Long storeId, String location, long version, long count, long sum) {
+        double score = (priorWeight * priorMean + sum) / (priorWeight + count);
+        return new Ranked(storeId, location, version, count, sum, score);
+    }
+
+    private static String locationKey(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim();
+    }
+
+    private record Ranked(Long storeId, String location, long version, long count, long sum, double score) {
+    }
+
+    /**
+     * 순위표 항목
+     * @param storeId       매장 ID
+     * @param score         베이지안 평균 점수
+     * @param reviewCount   리뷰 수
+     * @param averageRating 평균 평점
+     */
+    public record RankedStore(Long storeId, double score, long reviewCount, double averageRating) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.reservation.repository;
+
+import com.reservation.domain.IdBlockEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdBlockRepository extends JpaRepository<IdBlockEntity, String> {
+
+    // 다음 ID 를 size 만큼 올림 (행 잠금은 트랜잭션 끝까지 유지), 행이 없으면 0 반환
+    @Modifying
+    @Query("update IdBlockEntity b set b.nextId = b.nextId + :size where b.name = :name")
+    int advance(@Param("name") String name, @Param("size") long size);
+
+    // 다음에 발급할 ID (같은 트랜잭션에서 advance 한 뒤 조회)
+    @Query("select b.nextId from IdBlockEntity b where b.name = :name")
+    long findNextId(@Param("name") String name);
+}
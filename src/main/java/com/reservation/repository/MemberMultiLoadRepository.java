@@ -0,0 +1,18 @@
+package com.reservation.repository;
+
+import com.reservation.domain.MemberEntity;
+
+import java.util.List;
+
+/**
+ * 여러 회원 한 번에 조회 - 영속성 컨텍스트 / 2차 캐시에 있는 회원은 제외하고 나머지만 IN 쿼리로 조회
+ */
+public interface MemberMultiLoadRepository {
+
+    /**
+     * @param ids       회원 ID 목록 (중복 없음)
+     * @param batchSize IN 쿼리 한 번에 넣을 최대 ID 수
+     * @return 찾은 회원 (ids 순서, 없는 ID 는 제외)
+     */
+    List<MemberEntity> findAllByIdThroughCache(List<Long> ids, int batchSize);
+}
@@ -0,0 +1,27 @@
+package com.reservation.repository;
+
+import com.reservation.domain.MemberEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.List;
+import java.util.Objects;
+
+class MemberMultiLoadRepositoryImpl implements MemberMultiLoadRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MemberEntity> findAllByIdThroughCache(List<Long> ids, int batchSize) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(MemberEntity.class)
+                .withBatchSize(batchSize)
+                .enableSessionCheck(true)
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.reservation.repository;
+
+import com.reservation.domain.MemberEntity;
+
+import java.util.Optional;
+
+/**
+ * 사용자 이름(natural id) 조회 - 2차 캐시의 natural id 영역을 거쳐 조회
+ */
+public interface MemberNaturalIdRepository {
+
+    Optional<MemberEntity> findByUsername(String username);
+}
@@ -0,0 +1,21 @@
+package com.reservation.repository;
+
+import com.reservation.domain.MemberEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<MemberEntity> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(MemberEntity.class)
+                .loadOptional(username);
+    }
+}
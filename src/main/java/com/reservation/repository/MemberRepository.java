@@ -1,14 +1,25 @@
 package com.reservation.repository;
 
 import com.reservation.domain.MemberEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
-    Optional<MemberEntity> findByUsername(String username);
+public interface MemberRepository extends JpaRepository<MemberEntity, Long>, MemberNaturalIdRepository, MemberMultiLoadRepository {
 
     boolean existsByUsername(String username); // 사용자 이름 존재 여부 확인
+
+    // id 기준 키셋 페이징으로 사용자 이름만 조회 (Bloom 필터 초기화용)
+    @Query("select m.id as id, m.username as username from MemberEntity m where m.id > :lastId order by m.id")
+    List<UsernameView> findUsernamesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    interface UsernameView {
+        Long getId();
+        String getUsername();
+    }
 }
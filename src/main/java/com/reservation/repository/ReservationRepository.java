@@ -1,15 +1,27 @@
 package com.reservation.repository;
 
 import com.reservation.domain.ReservationEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<ReservationEntity, Long> {
+    // 회원 / 매장을 함께 조회 (ReservationDto.fromEntity 에서 행마다 추가 조회하지 않도록)
+    @EntityGraph(attributePaths = {"member", "store"})
     List<ReservationEntity> findByMemberId(Long memberId);
+
+    @EntityGraph(attributePaths = {"member", "store"})
     List<ReservationEntity> findByStoreId(Long storeId);
-    boolean existsByStoreIdAndReservationTime(Long storeId, LocalDateTime reservationTime);
+
+    // 여러 예약 한 번에 조회 (IN 쿼리 한 번에 회원 / 매장까지)
+    @Override
+    @EntityGraph(attributePaths = {"member", "store"})
+    List<ReservationEntity> findAllById(Iterable<Long> ids);
+
+    boolean existsByStoreIdAndReservationDateAndReservationTime(Long storeId, LocalDate reservationDate, LocalTime reservationTime);
 }
@@ -0,0 +1,9 @@
+package com.reservation.repository;
+
+import com.reservation.domain.ReviewIngestFailureEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewIngestFailureRepository extends JpaRepository<ReviewIngestFailureEntity, Long> {
+}
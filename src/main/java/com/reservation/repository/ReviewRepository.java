@@ -1,13 +1,86 @@
 package com.reservation.repository;
 
 import com.reservation.domain.ReviewEntity;
+import com.reservation.dto.review.ReviewDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
-    List<ReviewEntity> findByStoreId(Long storeId);
-    List<ReviewEntity> findByMemberId(Long memberId);
+    // 매장 리뷰 피드 (커서(작성 시각, 리뷰 ID) 다음부터 최신순), ReviewDto 컬럼만 한 번에 조회
+    @Query("select new com.reservation.dto.review.ReviewDto(r.id, m.id, s.id, r.content, m.username, s.storeName, r.rating, r.createdAt) "
+            + "from ReviewEntity r join r.member m join r.store s "
+            + "where r.store.id = :storeId "
+            + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :reviewId)) "
+            + "order by r.createdAt desc, r.id desc")
+    List<ReviewDto> findStoreFeed(@Param("storeId") Long storeId, @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("reviewId") Long reviewId, Pageable pageable);
+
+    // 회원 리뷰 피드 (커서(작성 시각, 리뷰 ID) 다음부터 최신순), ReviewDto 컬럼만 한 번에 조회
+    @Query("select new com.reservation.dto.review.ReviewDto(r.id, m.id, s.id, r.content, m.username, s.storeName, r.rating, r.createdAt) "
+            + "from ReviewEntity r join r.member m join r.store s "
+            + "where r.member.id = :memberId "
+            + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :reviewId)) "
+            + "order by r.createdAt desc, r.id desc")
+    List<ReviewDto> findMemberFeed(@Param("memberId") Long memberId, @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("reviewId") Long reviewId, Pageable pageable);
+
+    // 매장 리뷰 전체 목록 (매장명 조회 API), 피드 도입 전과 같은 리뷰 ID 오름차순
+    @Query("select new com.reservation.dto.review.ReviewDto(r.id, m.id, s.id, r.content, m.username, s.storeName, r.rating, r.createdAt) "
+            + "from ReviewEntity r join r.member m join r.store s "
+            + "where r.store.id = :storeId order by r.id")
+    List<ReviewDto> findStoreReviews(@Param("storeId") Long storeId);
+
+    // 회원 리뷰 전체 목록 (사용자 이름 조회 API), 피드 도입 전과 같은 리뷰 ID 오름차순
+    @Query("select new com.reservation.dto.review.ReviewDto(r.id, m.id, s.id, r.content, m.username, s.storeName, r.rating, r.createdAt) "
+            + "from ReviewEntity r join r.member m join r.store s "
+            + "where r.member.id = :memberId order by r.id")
+    List<ReviewDto> findMemberReviews(@Param("memberId") Long memberId);
+
+    // 매장별 평점 분포 집계 (매장 ID, 평점, 리뷰 수)
+    @Query("select r.store.id, r.rating, count(r) from ReviewEntity r "
+            + "where r.store.id in :storeIds group by r.store.id, r.rating")
+    List<Object[]> countRatingsByStoreIds(@Param("storeIds") Collection<Long> storeIds);
+
+    // 현재 가장 큰 리뷰 ID (ID 블록 최초 생성용)
+    @Query("select coalesce(max(r.id), 0) from ReviewEntity r")
+    long findMaxId();
+
+    // ID 목록으로 리뷰 조회 (검색 결과용), ReviewDto 컬럼만 한 번에 조회
+    @Query("select new com.reservation.dto.review.ReviewDto(r.id, m.id, s.id, r.content, m.username, s.storeName, r.rating, r.createdAt) "
+            + "from ReviewEntity r join r.member m join r.store s where r.id in :ids")
+    List<ReviewDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // id 기준 키셋 페이징으로 리뷰 내용만 조회 (검색 색인 초기화용)
+    @Query("select r.id as id, r.store.id as storeId, r.version as version, r.content as content "
+            + "from ReviewEntity r where r.id > :lastId order by r.id")
+    List<ReviewContentView> findContentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // ID 목록으로 리뷰 내용만 조회 (복원한 검색 색인에서 바뀐 리뷰 재색인용)
+    @Query("select r.id as id, r.store.id as storeId, r.version as version, r.content as content "
+            + "from ReviewEntity r where r.id in :ids")
+    List<ReviewContentView> findContentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // id 기준 키셋 페이징으로 리뷰 ID 와 version 만 조회 (복원한 검색 색인과 비교용)
+    @Query("select r.id as id, r.version as version from ReviewEntity r where r.id > :lastId order by r.id")
+    List<ReviewVersionView> findVersionsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    interface ReviewContentView {
+        Long getId();
+        Long getStoreId();
+        Long getVersion();
+        String getContent();
+    }
+
+    interface ReviewVersionView {
+        Long getId();
+        Long getVersion();
+    }
 }
@@ -0,0 +1,13 @@
+package com.reservation.repository;
+
+import com.reservation.domain.StoreEntity;
+
+import java.util.Optional;
+
+/**
+ * 매장명(natural id) 조회 - 2차 캐시의 natural id 영역을 거쳐 조회
+ */
+public interface StoreNaturalIdRepository {
+
+    Optional<StoreEntity> findByStoreName(String storeName);
+}
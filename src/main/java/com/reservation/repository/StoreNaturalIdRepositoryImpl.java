@@ -0,0 +1,21 @@
+package com.reservation.repository;
+
+import com.reservation.domain.StoreEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class StoreNaturalIdRepositoryImpl implements StoreNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<StoreEntity> findByStoreName(String storeName) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(StoreEntity.class)
+                .loadOptional(storeName);
+    }
+}
@@ -0,0 +1,20 @@
+package com.reservation.repository;
+
+import com.reservation.domain.StoreRatingEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StoreRatingRepository extends JpaRepository<StoreRatingEntity, Long>, StoreRatingUpsertRepository {
+
+    List<StoreRatingEntity> findByStoreIdGreaterThanOrderByStoreIdAsc(Long storeId, Pageable pageable);
+
+    // 재계산할 매장들의 집계 행 잠금 (행이 없는 매장은 갭 잠금), 커밋 전까지 addRatings 는 대기
+    @Query(value = "select store_id from store_rating_entity where store_id in (:storeIds) order by store_id for update", nativeQuery = true)
+    List<Long> lockRatings(@Param("storeIds") List<Long> storeIds);
+}
@@ -0,0 +1,27 @@
+package com.reservation.repository;
+
+/**
+ * 매장 평점 집계 INSERT ... ON DUPLICATE KEY UPDATE
+ * - 네이티브 DML 은 영향받는 테이블을 알려주지 않으면 Hibernate 가 2차 캐시 영역 전체를 비우므로
+ *   store_rating_entity 만 바뀐다고 등록해 매장 / 회원 캐시를 유지
+ */
+public interface StoreRatingUpsertRepository {
+
+    // 집계 증분 반영 (행이 없으면 생성), 행 잠금으로 동시 갱신에도 원자적
+    int addRatings(Long storeId, long count, long sum, long r1, long r2, long r3, long r4, long r5);
+
+    // 집계 덮어쓰기 (재계산 작업용, lockRatings 로 잠근 뒤 호출)
+    int replaceRatings(Long storeId, long count, long sum, long r1, long r2, long r3, long r4, long r5);
+
+    // 집계 행의 현재 버전 / 리뷰 수 / 평점 합 (upsert 한 트랜잭션에서 호출하면 그 트랜잭션이 만든 값)
+    RatingTotals findTotals(Long storeId);
+
+    /**
+     * 집계 행의 현재 값
+     * @param version     집계 행 버전 (갱신마다 1 씩 증가)
+     * @param reviewCount 리뷰 수
+     * @param ratingSum   평점 합
+     */
+    record RatingTotals(long version, long reviewCount, long ratingSum) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.reservation.repository;
+
+import com.reservation.domain.StoreRatingEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+class StoreRatingUpsertRepositoryImpl implements StoreRatingUpsertRepository {
+
+    private static final String INSERT = "insert into store_rating_entity "
+            + "(store_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, version) "
+            + "values (:storeId, :count, :sum, :r1, :r2, :r3, :r4, :r5, 1) ";
+
+    private static final String ADD_RATINGS = INSERT
+            + "on duplicate key update review_count = review_count + :count, rating_sum = rating_sum + :sum, "
+            + "rating1_count = rating1_count + :r1, rating2_count = rating2_count + :r2, rating3_count = rating3_count + :r3, "
+            + "rating4_count = rating4_count + :r4, rating5_count = rating5_count + :r5, version = version + 1";
+
+    private static final String REPLACE_RATINGS = INSERT
+            + "on duplicate key update review_count = :count, rating_sum = :sum, "
+            + "rating1_count = :r1, rating2_count = :r2, rating3_count = :r3, rating4_count = :r4, rating5_count = :r5, "
+            + "version = version + 1";
+
+    // 잠금 읽기로 스냅숏이 아닌 최신 행을 읽음 (upsert 한 트랜잭션은 이미 행 잠금을 잡고 있음)
+    private static final String FIND_TOTALS = "select version, review_count, rating_sum from store_rating_entity "
+            + "where store_id = :storeId for update";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int addRatings(Long storeId, long count, long sum, long r1, long r2, long r3, long r4, long r5) {
+        return upsert(ADD_RATINGS, storeId, count, sum, r1, r2, r3, r4, r5);
+    }
+
+    @Override
+    public int replaceRatings(Long storeId, long count, long sum, long r1, long r2, long r3, long r4, long r5) {
+        return upsert(REPLACE_RATINGS, storeId, count, sum, r1, r2, r3, r4, r5);
+    }
+
+    @Override
+    public RatingTotals findTotals(Long storeId) {
+        Object[] row = (Object[]) entityManager.createNativeQuery(FIND_TOTALS)
+                .setParameter("storeId", storeId)
+                .getSingleResult();
+        return new RatingTotals(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+    }
+
+    private int upsert(String sql, Long storeId, long count, long sum, long r1, long r2, long r3, long r4, long r5) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(StoreRatingEntity.class)
+                .setParameter("storeId", storeId)
+                .setParameter("count", count)
+                .setParameter("sum", sum)
+                .setParameter("r1", r1)
+                .setParameter("r2", r2)
+                .setParameter("r3", r3)
+                .setParameter("r4", r4)
+                .setParameter("r5", r5)
+                .executeUpdate();
+    }
+}
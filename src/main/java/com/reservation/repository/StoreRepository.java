@@ -1,12 +1,15 @@
 package com.reservation.repository;
 
 import com.reservation.domain.StoreEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface StoreRepository extends JpaRepository<StoreEntity, Long> {
-    Optional<StoreEntity> findByStoreName(String storeName);
+public interface StoreRepository extends JpaRepository<StoreEntity, Long>, StoreNaturalIdRepository {
+
+    // id 기준 키셋 페이징 (메모리 색인 초기화용)
+    List<StoreEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -0,0 +1,193 @@
+package com.reservation.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 압축 posting 목록
+ * - 오름차순 문서 ID 의 차이값을 varint(7비트 단위)로 인코딩해 byte 배열 하나에 저장
+ * - 새 문서는 대부분 가장 큰 ID 로 들어오므로 뒤에 덧붙이고, 그 외 추가 / 삭제는 다시 인코딩
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금 필요
+ */
+final class PostingList {
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int size;
+    private long last;
+
+    /**
+     * 문서 ID 추가 (이미 있으면 무시)
+     */
+    void add(long id) {
+        if (size == 0 || id > last) {
+            append(id);
+            return;
+        }
+        long[] ids = toArray();
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        encode(updated);
+    }
+
+    /**
+     * 문서 ID 제거
+     * @return 제거했으면 true
+     */
+    boolean remove(long id) {
+        if (size == 0 || id > last) {
+            return false;
+        }
+        long[] ids = toArray();
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return false;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        System.arraycopy(ids, position + 1, updated, position, ids.length - position - 1);
+        encode(updated);
+        return true;
+    }
+
+    /**
+     * 여러 문서 ID 를 한 번에 제거 (한 번만 다시 인코딩)
+     * @return 하나라도 제거했으면 true
+     */
+    boolean removeAll(Set<Long> removed) {
+        long[] ids = toArray();
+        long[] kept = new long[ids.length];
+        int count = 0;
+        for (long id : ids) {
+            if (!removed.contains(id)) {
+                kept[count++] = id;
+            }
+        }
+        if (count == ids.length) {
+            return false;
+        }
+        encode(Arrays.copyOf(kept, count));
+        return true;
+    }
+
+    /**
+     * 오름차순 문서 ID 배열로 디코딩
+     */
+    long[] toArray() {
+        long[] ids = new long[size];
+        long current = 0;
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += delta;
+            ids[i] = current;
+        }
+        return ids;
+    }
+
+    /**
+     * 정렬된 후보 중 이 목록에도 있는 ID 만 남김
+     * @param candidates 오름차순 후보 ID (앞에서부터 count 개 사용)
+     * @param count      후보 수
+     * @return 남은 후보 수
+     */
+    int retain(long[] candidates, int count) {
+        int kept = 0;
+        int candidate = 0;
+        long current = 0;
+        int offset = 0;
+        for (int i = 0; i < size && candidate < count; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += delta;
+
+            while (candidate < count && candidates[candidate] < current) {
+                candidate++;
+            }
+            if (candidate < count && candidates[candidate] == current) {
+                candidates[kept++] = current;
+                candidate++;
+            }
+        }
+        return kept;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 인코딩된 크기 (byte)
+     */
+    int encodedBytes() {
+        return length;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        out.writeLong(last);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingList readFrom(DataInput in) throws IOException {
+        PostingList list = new PostingList();
+        list.size = in.readInt();
+        list.last = in.readLong();
+        list.length = in.readInt();
+        list.data = new byte[Math.max(4, list.length)];
+        in.readFully(list.data, 0, list.length);
+        return list;
+    }
+
+    private void append(long id) {
+        long delta = id - last;
+        ensureCapacity(length + 10);
+        while ((delta & ~0x7FL) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        last = id;
+        size++;
+    }
+
+    private void encode(long[] ids) {
+        data = new byte[Math.max(4, ids.length * 2)];
+        length = 0;
+        size = 0;
+        last = 0;
+        for (long id : ids) {
+            append(id);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reservation.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 검색어 접두사 확장용 트라이
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금 필요
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * 단어 추가
+     * @param term 추가할 단어
+     */
+    void add(String term) {
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.children.computeIfAbsent(term.charAt(i), c -> new Node());
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * 단어 제거, 더 이상 쓰이지 않는 노드는 정리
+     * @param term 제거할 단어
+     */
+    void remove(String term) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            path.push(node);
+            node = node.children.get(term.charAt(i));
+            if (node == null) {
+                return;
+            }
+        }
+        node.terminal = false;
+
+        for (int i = term.length() - 1; i >= 0 && !node.terminal && node.children.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(term.charAt(i));
+            node = parent;
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 단어 중 가중치가 큰 단어 조회
+     * - 하위 단어를 모두 확인하고 가중치 내림차순, 같으면 사전 순으로 limit 개 선택 (순회 순서와 무관하게 항상 같은 결과)
+     * @param prefix 접두사
+     * @param limit  최대 개수
+     * @param weight 단어별 가중치 (예: 문서 빈도)
+     * @return 접두사로 시작하는 단어 목록 (접두사와 같은 단어 포함), 선택 순서대로
+     */
+    List<String> startsWith(String prefix, int limit, ToIntFunction<String> weight) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null || limit < 1) {
+            return List.of();
+        }
+
+        Comparator<String> order = Comparator.<String>comparingInt(weight).reversed().thenComparing(Comparator.naturalOrder());
+        PriorityQueue<String> top = new PriorityQueue<>(limit + 1, order.reversed());
+        collect(node, new StringBuilder(prefix), term -> {
+            top.offer(term);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<String> terms = new ArrayList<>(top);
+        terms.sort(order);
+        return terms;
+    }
+
+    private void collect(Node node, StringBuilder term, Consumer<String> action) {
+        if (node.terminal) {
+            action.accept(term.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            term.append(child.getKey());
+            collect(child.getValue(), term, action);
+            term.setLength(term.length() - 1);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private boolean terminal;
+    }
+}
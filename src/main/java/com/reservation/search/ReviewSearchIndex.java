@@ -0,0 +1,324 @@
+package com.reservation.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 리뷰 내용 검색용 메모리 역색인
+ * - 리뷰 내용을 TextTokenizer 로 분리해 토큰 -> 압축 posting 목록(리뷰 ID) 색인
+ * - 검색어의 모든 토큰을 포함하는 리뷰를 최신순(리뷰 ID 내림차순)으로 반환
+ * - 리뷰마다 색인한 엔티티 version 을 기록해 늦게 도착한 예전 내용은 무시
+ * - 색인 전체를 파일로 저장 / 복원해 재시작 시 전체 재색인을 피함 (복원 후 DB 와 version 을 비교해 바뀐 리뷰만 다시 색인)
+ */
+public class ReviewSearchIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x52535849; // "RSXI"
+    private static final int SNAPSHOT_VERSION = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, IndexedReview> reviews = new HashMap<>();
+
+    /**
+     * 리뷰 색인 추가 (이미 색인된 리뷰는 무시, 내용 변경은 update 로 반영)
+     * @param reviewId 리뷰 ID
+     * @param storeId  매장 ID
+     * @param version  리뷰 엔티티 version
+     * @param content  리뷰 내용
+     */
+    public void index(Long reviewId, Long storeId, long version, String content) {
+        Set<String> terms = terms(content);
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (reviews.containsKey(reviewId)) {
+                return;
+            }
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(reviewId);
+            }
+            reviews.put(reviewId, new IndexedReview(storeId, version));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 리뷰 내용 변경 반영 (바뀐 토큰의 posting 만 수정)
+     * - 색인에 없는 리뷰는 변경 후 내용으로 새로 색인
+     * - 이미 같거나 더 새 version 이 색인되어 있으면 무시
+     * @param reviewId        리뷰 ID
+     * @param storeId         매장 ID
+     * @param version         변경 후 리뷰 엔티티 version
+     * @param previousContent 변경 전 내용
+     * @param content         변경 후 내용
+     */
+    public void update(Long reviewId, Long storeId, long version, String previousContent, String content) {
+        Set<String> removed = terms(previousContent);
+        Set<String> added = terms(content);
+        Set<String> unchanged = new LinkedHashSet<>(removed);
+        unchanged.retainAll(added);
+        removed.removeAll(unchanged);
+        added.removeAll(unchanged);
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            IndexedReview indexed = reviews.get(reviewId);
+            if (indexed == null) {
+                added.addAll(unchanged);
+            } else if (indexed.version() >= version) {
+                return;
+            } else {
+                removeTerms(reviewId, removed);
+            }
+            for (String term : added) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(reviewId);
+            }
+            reviews.put(reviewId, new IndexedReview(storeId, version));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 리뷰 색인 제거
+     * @param reviewId 리뷰 ID
+     * @param content  색인된 리뷰 내용
+     */
+    public void remove(Long reviewId, String content) {
+        Set<String> terms = terms(content);
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            removeTerms(reviewId, terms);
+            reviews.remove(reviewId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 여러 리뷰를 내용 없이 색인에서 제거 (posting 전체를 한 번 훑음)
+     * - 다른 인스턴스에서 수정 / 삭제되어 색인된 내용을 알 수 없는 리뷰 정리용
+     * @param reviewIds 제거할 리뷰 ID
+     */
+    public void removeAll(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        Set<Long> removed = new HashSet<>(reviewIds);
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            postings.values().removeIf(list -> list.removeAll(removed) && list.size() == 0);
+            reviews.keySet().removeAll(removed);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 색인 전체 삭제
+     */
+    public void clear() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            postings.clear();
+            reviews.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 리뷰 검색
+     * @param query   검색어
+     * @param storeId 매장 ID (null 이면 전체 매장)
+     * @param limit   최대 결과 수
+     * @return 최신순 리뷰 ID 목록
+     */
+    public List<Long> search(String query, Long storeId, int limit) {
+        Set<String> tokens = terms(query);
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                PostingList list = postings.get(token);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+
+            // 가장 짧은 posting 부터 교집합
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            long[] candidates = lists.get(0).toArray();
+            int count = candidates.length;
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = lists.get(i).retain(candidates, count);
+            }
+
+            List<Long> result = new ArrayList<>(Math.min(limit, count));
+            for (int i = count - 1; i >= 0 && result.size() < limit; i--) {
+                IndexedReview review = reviews.get(candidates[i]);
+                if (storeId == null || (review != null && storeId.equals(review.storeId()))) {
+                    result.add(candidates[i]);
+                }
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 색인된 리뷰 수
+     */
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return reviews.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 색인된 리뷰 ID -> 엔티티 version (복원한 색인을 DB 와 비교할 때 사용)
+     */
+    public Map<Long, Long> versions() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            Map<Long, Long> versions = new HashMap<>(reviews.size() * 4 / 3 + 1);
+            reviews.forEach((reviewId, review) -> versions.put(reviewId, review.version()));
+            return versions;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 압축된 posting 전체 크기 (byte)
+     */
+    public long postingBytes() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.encodedBytes();
+            }
+            return bytes;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 색인 저장
+     * @param output 저장할 스트림 (닫지 않음)
+     * @throws IOException 쓰기 실패
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(output);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+
+            out.writeInt(reviews.size());
+            for (Map.Entry<Long, IndexedReview> review : reviews.entrySet()) {
+                out.writeLong(review.getKey());
+                out.writeLong(review.getValue().storeId());
+                out.writeLong(review.getValue().version());
+            }
+
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> posting : postings.entrySet()) {
+                out.writeUTF(posting.getKey());
+                posting.getValue().writeTo(out);
+            }
+        } finally {
+            readLock.unlock();
+        }
+        out.flush();
+    }
+
+    /**
+     * 저장된 색인으로 교체
+     * @param input 읽을 스트림 (닫지 않음)
+     * @throws IOException 읽기 실패 또는 형식이 맞지 않는 경우 (version 을 기록하지 않은 예전 형식 포함)
+     */
+    public void readFrom(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 리뷰 색인 파일 형식입니다.");
+        }
+        int reviewCount = in.readInt();
+        Map<Long, IndexedReview> restoredReviews = new HashMap<>(reviewCount * 4 / 3 + 1);
+        for (int i = 0; i < reviewCount; i++) {
+            restoredReviews.put(in.readLong(), new IndexedReview(in.readLong(), in.readLong()));
+        }
+
+        int termCount = in.readInt();
+        Map<String, PostingList> restoredPostings = new HashMap<>(termCount * 4 / 3 + 1);
+        for (int i = 0; i < termCount; i++) {
+            restoredPostings.put(in.readUTF(), PostingList.readFrom(in));
+        }
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            reviews.clear();
+            reviews.putAll(restoredReviews);
+            postings.clear();
+            postings.putAll(restoredPostings);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeTerms(Long reviewId, Set<String> terms) {
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(reviewId) && list.size() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static Set<String> terms(String text) {
+        return new LinkedHashSet<>(TextTokenizer.tokenize(text));
+    }
+
+    private record IndexedReview(Long storeId, long version) {
+    }
+}
@@ -0,0 +1,248 @@
+package com.reservation.search;
+
+import com.reservation.dto.store.StoreDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매장 검색용 메모리 역색인
+ * - 매장명 / 위치 / 설명을 TextTokenizer 로 분리해 토큰 -> (매장 ID -> 필드 가중치) 색인
+ * - 검색어의 마지막 토큰은 트라이로 접두사 확장 (입력 중 검색 지원), 확장 단어는 문서 빈도 순으로 최대 50개
+ * - 모든 토큰을 포함하는 매장만 결과에 포함, 필드 가중치 x IDF 합으로 정렬
+ */
+public class StoreSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int MAX_PREFIX_TERMS = 50;
+    private static final double PREFIX_MATCH_RATIO = 0.5;
+
+    private static final Comparator<Map.Entry<Long, Double>> RANKING =
+            Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedStore> stores = new HashMap<>();
+    private final PrefixTrie terms = new PrefixTrie();
+
+    /**
+     * 매장 색인 추가 (이미 색인된 매장이면 교체)
+     * @param store 색인할 매장 정보
+     */
+    public void index(StoreDto store) {
+        Map<String, Integer> weights = new HashMap<>();
+        addField(weights, store.getStoreName(), NAME_WEIGHT);
+        addField(weights, store.getLocation(), LOCATION_WEIGHT);
+        addField(weights, store.getDescription(), DESCRIPTION_WEIGHT);
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            removeInternal(store.getId());
+            for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+                postings.computeIfAbsent(weight.getKey(), term -> {
+                    terms.add(term);
+                    return new HashMap<>();
+                }).put(store.getId(), weight.getValue());
+            }
+            stores.put(store.getId(), new IndexedStore(store, weights.keySet()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 매장 색인 제거
+     * @param storeId 제거할 매장 ID
+     */
+    public void remove(Long storeId) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            removeInternal(storeId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 매장 검색
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 매장 목록
+     */
+    public List<StoreDto> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        String prefix = tokens.remove(tokens.size() - 1);
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            Map<Long, Double> scores = matchAll(tokens);
+            if (scores != null && scores.isEmpty()) {
+                return List.of();
+            }
+            scores = matchPrefix(prefix, scores);
+
+            return topStores(scores, limit);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 색인된 매장 수
+     */
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return stores.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // 완전 일치 토큰들의 교집합, 토큰이 없으면 null
+    private Map<Long, Double> matchAll(List<String> tokens) {
+        List<Map.Entry<String, Map<Long, Integer>>> matched = new ArrayList<>();
+        for (String token : tokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting == null) {
+                return Map.of();
+            }
+            matched.add(Map.entry(token, posting));
+        }
+        if (matched.isEmpty()) {
+            return null;
+        }
+
+        // 가장 짧은 posting 부터 교집합
+        matched.sort(Comparator.comparingInt(entry -> entry.getValue().size()));
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Integer> first = matched.get(0).getValue();
+        double firstIdf = idf(first.size());
+        first.forEach((storeId, weight) -> scores.put(storeId, weight * firstIdf));
+
+        for (int i = 1; i < matched.size() && !scores.isEmpty(); i++) {
+            Map<Long, Integer> posting = matched.get(i).getValue();
+            double idf = idf(posting.size());
+            Iterator<Map.Entry<Long, Double>> iterator = scores.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Double> score = iterator.next();
+                Integer weight = posting.get(score.getKey());
+                if (weight == null) {
+                    iterator.remove();
+                } else {
+                    score.setValue(score.getValue() + weight * idf);
+                }
+            }
+        }
+        return scores;
+    }
+
+    // 마지막 토큰을 접두사로 확장해 일치하는 매장 점수 반영
+    private Map<Long, Double> matchPrefix(String prefix, Map<Long, Double> candidates) {
+        // 확장 단어가 많으면 문서 빈도가 높은 단어부터 (같으면 사전 순) MAX_PREFIX_TERMS 개만 사용
+        List<String> expansions = terms.startsWith(prefix, MAX_PREFIX_TERMS, term -> postings.get(term).size());
+        if (expansions.isEmpty()) {
+            return Map.of();
+        }
+
+        if (candidates == null) {
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : expansions) {
+                Map<Long, Integer> posting = postings.get(term);
+                double idf = idf(posting.size()) * (term.equals(prefix) ? 1.0 : PREFIX_MATCH_RATIO);
+                posting.forEach((storeId, weight) -> scores.merge(storeId, weight * idf, Math::max));
+            }
+            return scores;
+        }
+
+        // 앞선 토큰으로 후보가 좁혀졌으면 후보만 확인
+        Iterator<Map.Entry<Long, Double>> iterator = candidates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Double> candidate = iterator.next();
+            double best = 0;
+            for (String term : expansions) {
+                Map<Long, Integer> posting = postings.get(term);
+                Integer weight = posting.get(candidate.getKey());
+                if (weight != null) {
+                    double ratio = term.equals(prefix) ? 1.0 : PREFIX_MATCH_RATIO;
+                    best = Math.max(best, weight * idf(posting.size()) * ratio);
+                }
+            }
+            if (best == 0) {
+                iterator.remove();
+            } else {
+                candidate.setValue(candidate.getValue() + best);
+            }
+        }
+        return candidates;
+    }
+
+    private List<StoreDto> topStores(Map<Long, Double> scores, int limit) {
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, RANKING);
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            top.offer(score);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<StoreDto> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(stores.get(top.poll().getKey()).store());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1.0 + (double) stores.size() / documentFrequency);
+    }
+
+    private void removeInternal(Long storeId) {
+        IndexedStore indexed = stores.remove(storeId);
+        if (indexed == null) {
+            return;
+        }
+        for (String term : indexed.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(storeId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                    terms.remove(term);
+                }
+            }
+        }
+    }
+
+    // 필드의 토큰별 가중치 누적 (필드 내 중복 토큰은 한 번만)
+    private static void addField(Map<String, Integer> weights, String value, int weight) {
+        for (String token : new LinkedHashSet<>(TextTokenizer.tokenize(value))) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private record IndexedStore(StoreDto store, Set<String> terms) {
+    }
+}
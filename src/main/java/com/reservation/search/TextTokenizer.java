@@ -0,0 +1,69 @@
+package com.reservation.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토큰 분리기
+ * - 한글 음절 연속 구간은 2-gram 으로 분리 (1음절 단어는 그대로)
+ *   ex) "강남역 맛집" -> [강남, 남역, 맛집]
+ * - 그 외 문자 / 숫자 연속 구간은 소문자 단어 하나로 분리
+ *   ex) "BBQ치킨 2호점" -> [bbq, 치킨, 2, 호점]
+ */
+public final class TextTokenizer {
+
+    private static final int NGRAM = 2;
+
+    private TextTokenizer() {
+    }
+
+    /**
+     * 문자열을 토큰 목록으로 분리 (중복 포함, 등장 순서 유지)
+     * @param text 분리할 문자열 (null 허용)
+     * @return 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            boolean hangul = isHangulSyllable(c);
+            boolean wordChar = hangul || Character.isLetterOrDigit(c);
+
+            // 단어가 끝났거나 한글 / 비한글 경계면 지금까지의 구간을 토큰으로 분리
+            if (start >= 0 && (!wordChar || hangul != hangulRun)) {
+                emit(text.substring(start, i), hangulRun, tokens);
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emit(String run, boolean hangul, List<String> tokens) {
+        if (!hangul) {
+            tokens.add(run.toLowerCase(Locale.ROOT));
+            return;
+        }
+        if (run.length() < NGRAM) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + NGRAM <= run.length(); i++) {
+            tokens.add(run.substring(i, i + NGRAM));
+        }
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
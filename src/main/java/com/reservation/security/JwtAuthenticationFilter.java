@@ -1,8 +1,12 @@
 package com.reservation.security;
 
+import com.reservation.config.SecurityConfig;
 import com.reservation.exception.ApplicationException;
+import com.reservation.jfr.JwtAuthenticationEvent;
 import com.reservation.type.ErrorCode;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +22,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 @Component
 @Slf4j
@@ -27,7 +32,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String TOKEN_HEADER = "Authorization";
     public static final String TOKEN_PREFIX = "Bearer ";
 
+    // 토큰 서명 / 만료 검증 시간 (security_jwt_verification_seconds{outcome})
+    private static final String VERIFICATION_TIMER = "security.jwt.verification";
+
     private final ApplicationContext applicationContext;
+    private final MeterRegistry meterRegistry;
     private TokenProvider tokenProvider;
 
     /**
@@ -46,22 +55,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             tokenProvider = applicationContext.getBean(TokenProvider.class);
         }
 
-        String token = this.resolveTokenFromRequest(request); // 요청에서 JWT 토큰을 추출
-
-        if (!StringUtils.hasText(token)) {
-            throw new ApplicationException(ErrorCode.LOGIN_REQUIRED);
-        }
+        // JFR 이벤트가 꺼져 있으면 단계별 시각을 재지 않음
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
+        boolean timed = event.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        long parsed = 0L;
+        long verified = 0L;
+        String outcome = ErrorCode.WRONG_TOKEN.name();
 
-        if (!this.tokenProvider.validateToken(token)) {
-            throw new ApplicationException(ErrorCode.WRONG_TOKEN);
-        }
-
-        // JWT 에서 인증 정보를 가져옴
         Authentication auth;
         try {
-            auth = this.tokenProvider.getAuthentication(token);
-        } catch (JwtException e) {
-            throw new ApplicationException(ErrorCode.WRONG_TYPE_SIGNATURE);
+            String token = this.resolveTokenFromRequest(request); // 요청에서 JWT 토큰을 추출
+            if (timed) {
+                parsed = System.nanoTime();
+            }
+
+            if (!StringUtils.hasText(token)) {
+                throw new ApplicationException(ErrorCode.LOGIN_REQUIRED);
+            }
+
+            verifyToken(token);
+            if (timed) {
+                verified = System.nanoTime();
+            }
+
+            // JWT 에서 인증 정보를 가져옴
+            try {
+                auth = this.tokenProvider.getAuthentication(token);
+            } catch (JwtException e) {
+                throw new ApplicationException(ErrorCode.WRONG_TYPE_SIGNATURE);
+            }
+            outcome = "VALID";
+        } catch (ApplicationException e) {
+            outcome = e.getErrorCode().name();
+            throw e;
+        } finally {
+            commitEvent(event, outcome, start, parsed, verified);
         }
 
         // SecurityContext 에 인증 정보를 설정
@@ -71,6 +101,67 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * JWT 인증 JFR 이벤트 기록 (도달하지 못한 단계의 시간은 0)
+     *
+     * @param event    인증 이벤트
+     * @param outcome  VALID 또는 실패한 ErrorCode
+     * @param start    필터 시작 시각
+     * @param parsed   토큰 추출을 마친 시각 (못 마쳤으면 0)
+     * @param verified 서명 / 만료 검증을 마친 시각 (못 마쳤으면 0)
+     */
+    private static void commitEvent(JwtAuthenticationEvent event, String outcome, long start, long parsed, long verified) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        long finished = System.nanoTime();
+        long parseEnd = parsed == 0L ? finished : parsed;
+        long verifyEnd = verified == 0L ? finished : verified;
+        event.setOutcome(outcome);
+        event.setParseDuration(parseEnd - start);
+        event.setVerifyDuration(verifyEnd - parseEnd);
+        event.setLookupDuration(finished - verifyEnd);
+        event.commit();
+    }
+
+    /**
+     * 토큰 서명 / 만료 검증, 결과별 소요 시간 기록
+     *
+     * @param token JWT 토큰
+     * @throws ApplicationException 유효하지 않은 토큰인 경우
+     */
+    private void verifyToken(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ErrorCode.WRONG_TOKEN.name();
+        try {
+            if (!this.tokenProvider.validateToken(token)) {
+                throw new ApplicationException(ErrorCode.WRONG_TOKEN);
+            }
+            outcome = "VALID";
+        } catch (ApplicationException e) {
+            outcome = e.getErrorCode().name();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(VERIFICATION_TIMER)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 인증 없이 접근 가능한 API 는 토큰 검사 생략
+     *
+     * @param request HttpServletRequest 객체
+     * @return 필터 적용 제외 여부
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return Arrays.asList(SecurityConfig.PUBLIC_PATHS).contains(path);
+    }
+
     /**
      * 요청에서 JWT 토큰 추출
      *
@@ -0,0 +1,81 @@
+package com.reservation.security;
+
+import com.reservation.exception.ApplicationException;
+import com.reservation.util.SlidingWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+import static com.reservation.type.ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+
+/**
+ * 로그인 시도 제한
+ * - 사용자 이름별 / 클라이언트 IP 별 슬라이딩 윈도우 로그인 실패 횟수를 집계 (성공한 로그인은 세지 않음)
+ *   같은 NAT / 프록시 뒤의 여러 사용자가 정상 로그인만으로 IP 한도에 걸리지 않음
+ * - 실패 횟수가 한도에 이른 사용자 이름 / IP 의 시도는 회원 조회와 BCrypt 비교 전에 거절
+ * - 클라이언트 IP 는 신뢰하는 프록시의 X-Forwarded-For 를 반영한 값 (server.forward-headers-strategy)
+ * - 카운터 크기는 윈도우당 예상 키 수(expected-keys)와 한도로 정함, 그만큼 서로 다른 사용자 이름이 몰려도
+ *   정상 사용자의 과대 집계가 한도의 절반을 넘지 않음 (SlidingWindowCounter.widthFor)
+ */
+@Component
+@Slf4j
+public class LoginAttemptThrottler {
+
+    private static final int DEPTH = 4;
+
+    private final SlidingWindowCounter usernameAttempts;
+    private final SlidingWindowCounter ipAttempts;
+    private final int usernameLimit;
+    private final int ipLimit;
+
+    public LoginAttemptThrottler(@Value("${login.throttle.username-limit:10}") int usernameLimit,
+                                 @Value("${login.throttle.ip-limit:50}") int ipLimit,
+                                 @Value("${login.throttle.window-seconds:60}") long windowSeconds,
+                                 @Value("${login.throttle.expected-keys:1000000}") long expectedKeys) {
+        this.usernameLimit = usernameLimit;
+        this.ipLimit = ipLimit;
+        this.usernameAttempts = new SlidingWindowCounter(DEPTH, SlidingWindowCounter.widthFor(expectedKeys, usernameLimit), windowSeconds * 1000);
+        this.ipAttempts = new SlidingWindowCounter(DEPTH, SlidingWindowCounter.widthFor(expectedKeys, ipLimit), windowSeconds * 1000);
+        log.info("로그인 시도 카운터 크기 - username: {}KB, ip: {}KB",
+                usernameAttempts.footprintBytes() / 1024, ipAttempts.footprintBytes() / 1024);
+    }
+
+    /**
+     * 로그인 시도 전 한도 검사 (기록하지 않음)
+     * @param username 로그인 요청 사용자 이름
+     * @param clientIp 요청 클라이언트 IP
+     * @throws ApplicationException 사용자 이름 또는 IP 의 실패 횟수가 한도에 이른 경우
+     */
+    public void checkAttempt(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        int byUsername = usernameAttempts.estimate(normalize(username), now);
+        int byIp = ipAttempts.estimate(ipKey(clientIp), now);
+
+        if (byUsername >= usernameLimit || byIp >= ipLimit) {
+            log.warn("로그인 시도 제한 - username 실패: {}, ip: {} 실패: {}", byUsername, clientIp, byIp);
+            throw new ApplicationException(TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    /**
+     * 로그인 실패 기록 (회원 없음, 비밀번호 불일치)
+     * @param username 로그인 요청 사용자 이름
+     * @param clientIp 요청 클라이언트 IP
+     */
+    public void recordFailure(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        usernameAttempts.increment(normalize(username), now);
+        ipAttempts.increment(ipKey(clientIp), now);
+    }
+
+    private static String ipKey(String clientIp) {
+        return clientIp == null ? "" : clientIp;
+    }
+
+    // 대소문자, 공백만 다른 사용자 이름은 같은 키로 집계
+    private String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+}
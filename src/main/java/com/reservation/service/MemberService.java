@@ -2,28 +2,70 @@ package com.reservation.service;
 
 import com.reservation.domain.MemberEntity;
 import com.reservation.dto.member.*;
+import com.reservation.etag.EntityVersionRegistry;
 import com.reservation.exception.ApplicationException;
+import com.reservation.jfr.SignInEvent;
 import com.reservation.repository.MemberRepository;
 import com.reservation.security.TokenProvider;
+import com.reservation.util.BloomFilter;
+import com.reservation.util.IdBatches;
+import com.reservation.util.TransactionHooks;
+import com.reservation.util.UniqueViolations;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
 
 import static com.reservation.type.ErrorCode.*;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class MemberService implements UserDetailsService {
 
+    private static final int USERNAME_WARM_UP_CHUNK = 1000;
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EntityVersionRegistry entityVersionRegistry;
     private TokenProvider tokenProvider;
 
-    // 순환 종속성 방지로 Setter 주입
-    public void setTokenProvider(TokenProvider tokenProvider) {
+    @Value("${member.username-filter.expected-insertions:1000000}")
+    private long expectedUsernames;
+
+    @Value("${member.username-filter.false-positive-rate:0.01}")
+    private double usernameFalsePositiveRate;
+
+    @Value("${multi-get.max-ids:100}")
+    private int multiGetMaxIds;
+
+    @Value("${multi-get.chunk-size:50}")
+    private int multiGetChunkSize;
+
+    // 가입된 사용자 이름 Bloom 필터, 초기화 전에는 null (항상 DB 확인)
+    // username 컬럼은 대소문자를 구분하지 않는 _ci collation 이므로 소문자로 바꿔 넣고 확인 (usernameKey)
+    private volatile BloomFilter usernameFilter;
+
+    // 순환 종속성 방지로 Setter 주입 (TokenProvider 도 MemberService 에 의존하므로 지연 프록시 주입)
+    @Autowired
+    public void setTokenProvider(@Lazy TokenProvider tokenProvider) {
         this.tokenProvider = tokenProvider;
     }
 
@@ -33,16 +75,31 @@ public class MemberService implements UserDetailsService {
      * @return 등록된 회원을 나타내는 MemberDto
      * @throws ApplicationException 사용자 이름이 이미 존재하는 경우
      */
+    @Transactional
     public SignUpDto.Response signUp(SignUpDto.Request signUpRequest) {
-        if (memberRepository.existsByUsername(signUpRequest.getUsername())) {
+        // 필터에 없는 이름은 확실히 신규이므로 존재 여부 조회 생략, 중복은 유니크 인덱스가 최종 보장
+        if (mightExist(signUpRequest.getUsername())
+                && memberRepository.existsByUsername(signUpRequest.getUsername())) {
             throw new ApplicationException(ALREADY_EXIST_USER);
         }
 
         MemberEntity savedMember = createMember(signUpRequest);
+        rememberUsername(savedMember.getUsername());
 
         return new SignUpDto.Response(savedMember.getId(), savedMember.getUsername(), "회원가입 성공");
     }
 
+    /**
+     * 사용자 이름 사용 가능 여부 확인
+     * - Bloom 필터에 없는 이름은 DB 조회 없이 사용 가능으로 응답
+     * @param username 확인할 사용자 이름
+     * @return 사용 가능 여부를 담은 UsernameAvailabilityDto
+     */
+    public UsernameAvailabilityDto checkUsernameAvailability(String username) {
+        boolean available = !mightExist(username) || !memberRepository.existsByUsername(username);
+        return new UsernameAvailabilityDto(username, available);
+    }
+
     /**
      * 로그인
      * @param signInRequest 사용자 로그인 정보를 포함하는 요청 객체
@@ -50,10 +107,21 @@ public class MemberService implements UserDetailsService {
      * @throws ApplicationException 사용자 이름이 존재하지 않거나 비밀번호가 일치하지 않는 경우
      */
     public SignInDto.Response signIn(SignInDto.Request signInRequest) {
-        MemberEntity member = memberRepository.findByUsername(signInRequest.getUsername())
-                .orElseThrow(() -> new ApplicationException(USER_NOT_FOUND));
+        SignInEvent event = new SignInEvent();
+        event.begin();
+        boolean timed = event.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
 
-        if (!passwordEncoder.matches(signInRequest.getPassword(), member.getPassword())) {
+        MemberEntity member = memberRepository.findByUsername(signInRequest.getUsername()).orElse(null);
+        long lookedUp = timed ? System.nanoTime() : 0L;
+        if (member == null) {
+            commitEvent(event, 0L, false, lookedUp - start, 0L);
+            throw new ApplicationException(USER_NOT_FOUND);
+        }
+
+        boolean matches = passwordEncoder.matches(signInRequest.getPassword(), member.getPassword());
+        commitEvent(event, member.getId(), matches, lookedUp - start, timed ? System.nanoTime() - lookedUp : 0L);
+        if (!matches) {
             throw new ApplicationException(PASSWORD_NOT_MATCH);
         }
 
@@ -64,6 +132,18 @@ public class MemberService implements UserDetailsService {
         return new SignInDto.Response(token, member.getId(), member.getUsername(), "로그인 성공");
     }
 
+    private static void commitEvent(SignInEvent event, long memberId, boolean success,
+                                    long lookupNanos, long passwordCheckNanos) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setMemberId(memberId);
+            event.setSuccess(success);
+            event.setLookupDuration(lookupNanos);
+            event.setPasswordCheckDuration(passwordCheckNanos);
+            event.commit();
+        }
+    }
+
     /**
      * 회원(memberId) 정보 조회
      * @param memberId 조회할 회원의 ID
@@ -77,6 +157,20 @@ public class MemberService implements UserDetailsService {
         return MemberDto.fromEntity(member);
     }
 
+    /**
+     * 여러 회원 정보 한 번에 조회
+     * - 영속성 컨텍스트 / 2차 캐시에 있는 회원은 그대로 사용하고, 나머지만 chunk-size 개씩 IN 쿼리로 조회
+     * @param memberIds 회원 ID 목록 (중복은 한 번만 조회)
+     * @return 회원 정보 DTO 목록 (요청 순서, 없는 회원은 제외)
+     * @throws ApplicationException 중복을 제외한 ID 가 max-ids 를 넘는 경우
+     */
+    public List<MemberDto> getMembersByIds(List<Long> memberIds) {
+        List<Long> ids = IdBatches.distinct(memberIds, multiGetMaxIds);
+        return memberRepository.findAllByIdThroughCache(ids, multiGetChunkSize).stream()
+                .map(MemberDto::fromEntity)
+                .toList();
+    }
+
     /**
      * 회원(username) 정보 조회
      * @param username 조회할 사용자 이름
@@ -96,14 +190,25 @@ public class MemberService implements UserDetailsService {
      * @return 수정된 회원을 나타내는 MemberDto
      * @throws ApplicationException 회원을 찾을 수 없는 경우
      */
+    @Transactional
     public MemberDto updateMember(Long memberId, MemberUpdateDto updateRequest) {
         MemberEntity member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApplicationException(USER_NOT_FOUND));
+        String previousUsername = member.getUsername();
 
         member.setUsername(updateRequest.getUsername());
         member.setPhoneNumber(updateRequest.getPhoneNumber());
 
-        return MemberDto.fromEntity(memberRepository.save(member));
+        MemberEntity updatedMember = saveMember(member);
+        rememberUsername(updatedMember.getUsername());
+        TransactionHooks.afterCommit(() -> {
+            entityVersionRegistry.recordMember(memberId, updatedMember.getVersion());
+            if (!previousUsername.equals(updatedMember.getUsername())) {
+                entityVersionRegistry.allReviewsChanged(); // 리뷰 목록에 사용자 이름이 포함됨
+            }
+        });
+
+        return MemberDto.fromEntity(updatedMember);
     }
 
     /**
@@ -111,6 +216,7 @@ public class MemberService implements UserDetailsService {
      * @param deleteRequest 삭제할 회원의 ID
      * @throws ApplicationException 회원을 찾을 수 없는 경우
      */
+    @Transactional
     public void deleteMember(MemberDeleteDto deleteRequest) {
         MemberEntity member = memberRepository.findById(deleteRequest.getId())
                 .orElseThrow(() -> new ApplicationException(USER_NOT_FOUND));
@@ -120,6 +226,10 @@ public class MemberService implements UserDetailsService {
         }
 
         memberRepository.delete(member);
+        TransactionHooks.afterCommit(() -> {
+            entityVersionRegistry.evictMember(member.getId());
+            entityVersionRegistry.memberReviewsChanged(member.getId());
+        });
     }
 
     /**
@@ -128,7 +238,7 @@ public class MemberService implements UserDetailsService {
      * @return 생성된 회원 엔티티
      */
     private MemberEntity createMember(SignUpDto.Request signUpRequest) {
-        return memberRepository.save(
+        return saveMember(
                 MemberEntity.builder()
                         .username(signUpRequest.getUsername())
                         .password(passwordEncoder.encode(signUpRequest.getPassword()))
@@ -138,6 +248,66 @@ public class MemberService implements UserDetailsService {
         );
     }
 
+    /**
+     * 회원 저장
+     * @param member 저장할 회원 엔티티
+     * @return 저장된 회원 엔티티
+     * @throws ApplicationException 사용자 이름 유니크 인덱스 위반인 경우 (그 밖의 무결성 위반은 그대로 던짐)
+     */
+    private MemberEntity saveMember(MemberEntity member) {
+        try {
+            return memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolations.isViolationOf(e, MemberEntity.USERNAME_CONSTRAINT)) {
+                throw new ApplicationException(ALREADY_EXIST_USER);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 가입된 사용자 이름으로 Bloom 필터 초기화
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void warmUpUsernameFilter() {
+        BloomFilter filter = new BloomFilter(expectedUsernames, usernameFalsePositiveRate);
+        long lastId = 0L;
+        long count = 0L;
+
+        List<MemberRepository.UsernameView> chunk;
+        do {
+            chunk = memberRepository.findUsernamesAfter(lastId, PageRequest.of(0, USERNAME_WARM_UP_CHUNK));
+            for (MemberRepository.UsernameView view : chunk) {
+                filter.put(usernameKey(view.getUsername()));
+                lastId = view.getId();
+            }
+            count += chunk.size();
+        } while (chunk.size() == USERNAME_WARM_UP_CHUNK);
+
+        usernameFilter = filter;
+        log.info("사용자 이름 Bloom 필터 초기화 완료 - {}건", count);
+    }
+
+    // 필터 초기화 전이거나 필터에 있으면 존재 가능성 있음
+    private boolean mightExist(String username) {
+        BloomFilter filter = usernameFilter;
+        return filter == null || filter.mightContain(usernameKey(username));
+    }
+
+    private void rememberUsername(String username) {
+        BloomFilter filter = usernameFilter;
+        if (filter != null) {
+            filter.put(usernameKey(username));
+        }
+    }
+
+    // DB 에서 같은 이름으로 취급되는 대소문자 차이를 필터에서도 같은 키로 맞춤
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return memberRepository.findByUsername(username)
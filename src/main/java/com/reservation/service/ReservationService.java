@@ -6,26 +6,45 @@ import com.reservation.domain.StoreEntity;
 import com.reservation.dto.reservation.ReservationDto;
 import com.reservation.dto.reservation.ReservationUpdateDto;
 import com.reservation.exception.ApplicationException;
+import com.reservation.jfr.ReservationCreateEvent;
 import com.reservation.repository.MemberRepository;
 import com.reservation.repository.ReservationRepository;
-import com.reservation.repository.StoreRepository;
 import com.reservation.type.ArrivalStatus;
 import com.reservation.type.ReservationStatus;
+import com.reservation.util.IdBatches;
+import com.reservation.util.TransactionHooks;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static com.reservation.type.ErrorCode.*;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReservationService {
 
+    // 예약 시도 결과별 횟수 (reservation_attempts_total{outcome, hour}), conflict 비율로 시간대별 경합 확인
+    private static final String ATTEMPT_COUNTER = "reservation.attempts";
+
     private final ReservationRepository reservationRepository;
     private final MemberRepository memberRepository;
-    private final StoreRepository storeRepository;
+    private final StoreService storeService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${multi-get.max-ids:100}")
+    private int multiGetMaxIds;
+
+    @Value("${multi-get.chunk-size:50}")
+    private int multiGetChunkSize;
 
     /**
      * 예약 등록
@@ -34,12 +53,15 @@ public class ReservationService {
      * @param storeId        매장 ID
      * @return 생성된 예약 정보를 담고 있는 DTO
      */
+    @Transactional
     public ReservationDto createReservationEntity(ReservationDto reservationDto, Long memberId, Long storeId) {
+        ReservationCreateEvent event = new ReservationCreateEvent();
+        event.begin();
+
         MemberEntity member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApplicationException(USER_NOT_FOUND));
 
-        StoreEntity store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new ApplicationException(STORE_NOT_FOUND));
+        StoreEntity store = storeService.getStoreEntity(storeId);
 
         LocalDateTime reservationDateTime = reservationDto.getReservationDateTime();
         LocalDateTime now = LocalDateTime.now();
@@ -52,11 +74,23 @@ public class ReservationService {
             throw new ApplicationException(CHECK_IT_10_MINUTES_BEFORE_THE_RESERVATION_TIME);
         }
 
-        if (reservationRepository.existsByStoreIdAndReservationTime(storeId, reservationDateTime)) {
+        // JFR 이벤트가 꺼져 있으면 단계별 시각을 재지 않음
+        boolean timed = event.isEnabled();
+        long checkStart = timed ? System.nanoTime() : 0L;
+        boolean conflict = reservationRepository.existsByStoreIdAndReservationDateAndReservationTime(
+                storeId, reservationDto.reservationDate(), reservationDto.reservationTime());
+        long insertStart = timed ? System.nanoTime() : 0L;
+
+        if (conflict) {
+            countAttempt("conflict", reservationDto);
+            commitEvent(event, memberId, storeId, true, insertStart - checkStart, 0L);
             throw new ApplicationException(ALREADY_RESERVED);
         }
 
-        return createReservationEntity(reservationDto, member, store);
+        ReservationDto created = createReservationEntity(reservationDto, member, store);
+        TransactionHooks.afterCommit(() -> countAttempt("created", reservationDto));
+        commitEvent(event, memberId, storeId, false, insertStart - checkStart, timed ? System.nanoTime() - insertStart : 0L);
+        return created;
     }
 
     /**
@@ -71,6 +105,26 @@ public class ReservationService {
         return ReservationDto.fromEntity(reservation);
     }
 
+    /**
+     * 여러 예약 정보 한 번에 조회
+     * - chunk-size 개씩 IN 쿼리로 조회 (회원 / 매장은 같은 쿼리에서 조인)
+     * @param reservationIds 예약 ID 목록 (중복은 한 번만 조회)
+     * @return 예약 정보 DTO 목록 (요청 순서, 없는 예약은 제외)
+     * @throws ApplicationException 중복을 제외한 ID 가 max-ids 를 넘는 경우
+     */
+    public List<ReservationDto> getReservationsByIds(List<Long> reservationIds) {
+        List<Long> ids = IdBatches.distinct(reservationIds, multiGetMaxIds);
+        Map<Long, ReservationEntity> reservations = new HashMap<>();
+        for (ReservationEntity reservation : IdBatches.loadInChunks(ids, multiGetChunkSize, reservationRepository::findAllById)) {
+            reservations.put(reservation.getId(), reservation);
+        }
+        return ids.stream()
+                .map(reservations::get)
+                .filter(Objects::nonNull)
+                .map(ReservationDto::fromEntity)
+                .toList();
+    }
+
     /**
      * 특정 매장 모든 예약 정보 조회
      * @param storeId 조회할 매장의 ID
@@ -101,6 +155,7 @@ public class ReservationService {
      * @param updateDto     수정할 정보를 담고 있는 DTO
      * @return 수정된 예약 정보를 담고 있는 DTO
      */
+    @Transactional
     public ReservationDto updateReservation(Long reservationId, ReservationUpdateDto updateDto) {
         ReservationEntity reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ApplicationException(RESERVATION_NOT_FOUND));
@@ -119,6 +174,7 @@ public class ReservationService {
      * 예약 삭제
      * @param reservationId 삭제할 예약의 ID
      */
+    @Transactional
     public void deleteReservation(Long reservationId) {
         ReservationEntity reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ApplicationException(RESERVATION_NOT_FOUND));
@@ -126,6 +182,25 @@ public class ReservationService {
         reservationRepository.delete(reservation);
     }
 
+    private static void commitEvent(ReservationCreateEvent event, Long memberId, Long storeId, boolean conflict,
+                                    long checkNanos, long insertNanos) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setMemberId(memberId);
+            event.setStoreId(storeId);
+            event.setConflict(conflict);
+            event.setCheckDuration(checkNanos);
+            event.setInsertDuration(insertNanos);
+            event.commit();
+        }
+    }
+
+    private void countAttempt(String outcome, ReservationDto reservationDto) {
+        meterRegistry.counter(ATTEMPT_COUNTER,
+                "outcome", outcome,
+                "hour", String.valueOf(reservationDto.reservationTime().getHour())).increment();
+    }
+
     /**
      * 예약 엔티티 생성
      * @param reservationDto 예약 정보를 담고 있는 DTO
@@ -141,8 +216,8 @@ public class ReservationService {
                                 .store(store)
                                 .reservationStatus(ReservationStatus.STANDBY)
                                 .arrivalStatus(ArrivalStatus.READY)
-                                .reservationDate(reservationDto.getReservationDate())
-                                .reservationTime(reservationDto.getReservationTime())
+                                .reservationDate(reservationDto.reservationDate())
+                                .reservationTime(reservationDto.reservationTime())
                                 .build()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.reservation.service;
+
+import com.reservation.domain.IdBlockEntity;
+import com.reservation.repository.IdBlockRepository;
+import com.reservation.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 리뷰 ID 발급기 (pooled)
+ * - id_block 테이블에서 block-size 개씩 ID 구간을 예약하고 메모리에서 하나씩 발급
+ * - 예약은 별도 트랜잭션에서 UPDATE 의 행 잠금으로 처리하므로 여러 인스턴스가 같은 구간을 받지 않음
+ * - 블록 행은 마이그레이션(V5)이 미리 만들고, 없을 때(ddl-auto 스키마)만 첫 예약에서 INSERT
+ * - 재시작 시 예약만 하고 쓰지 않은 ID 는 건너뜀
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReviewIdGenerator {
+
+    private static final String BLOCK_NAME = "review";
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final IdBlockRepository idBlockRepository;
+    private final ReviewRepository reviewRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${review.id.block-size:100}")
+    private int blockSize;
+
+    private final Lock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    /**
+     * 다음 리뷰 ID 발급
+     * @return 리뷰 ID
+     */
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                next = reserveBlock();
+                limit = next + blockSize;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 새 트랜잭션에서 다음 ID 구간을 예약하고 구간 시작 ID 반환
+    private long reserveBlock() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> {
+                    if (idBlockRepository.advance(BLOCK_NAME, blockSize) == 0) {
+                        return createBlock();
+                    }
+                    return idBlockRepository.findNextId(BLOCK_NAME) - blockSize;
+                });
+            } catch (DataIntegrityViolationException | CannotAcquireLockException e) {
+                // 블록 행이 없는 스키마(ddl-auto)에서 여러 인스턴스가 동시에 처음 만드는 경우
+                // 중복 키 / 교착 상태로 실패한 쪽은 먼저 만든 행을 UPDATE 로 다시 예약
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("리뷰 ID 블록 생성 충돌, 다시 예약합니다.");
+            }
+        }
+    }
+
+    // 블록 행이 없을 때(마이그레이션 없이 만든 스키마) 기존 리뷰 ID 다음 값부터 첫 구간을 예약하며 행 생성
+    private long createBlock() {
+        long start = reviewRepository.findMaxId() + 1;
+        idBlockRepository.saveAndFlush(IdBlockEntity.builder()
+                .name(BLOCK_NAME)
+                .nextId(start + blockSize)
+                .build());
+        return start;
+    }
+}
@@ -0,0 +1,371 @@
+package com.reservation.service;
+
+import com.reservation.domain.ReviewEntity;
+import com.reservation.dto.review.ReviewAcceptedDto;
+import com.reservation.dto.review.ReviewIngestStatusDto;
+import com.reservation.dto.review.ReviewRegisterDto;
+import com.reservation.etag.EntityVersionRegistry;
+import com.reservation.exception.ApplicationException;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReviewIngestFailureRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.service.StoreRatingService.RatingDelta;
+import com.reservation.type.ReviewIngestStatus;
+import com.reservation.util.AppendOnlyJournal;
+import com.reservation.util.TransactionHooks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.reservation.type.ErrorCode.*;
+
+/**
+ * 리뷰 비동기 등록 (write-behind)
+ * - 검증한 리뷰에 ID 를 발급해 저널 파일에 기록(fsync)한 뒤 큐에 넣고 응답, 재시작 / 장애 후에는 저널에 남은 리뷰부터 다시 저장
+ * - 작성 스레드가 큐를 batch-size 단위로 꺼내 JDBC 배치 INSERT, 매장 평점 집계는 배치마다 매장별로 한 번씩 반영
+ * - DB 오류는 저장될 때까지 재시도하고, 제약 조건 위반으로 저장할 수 없는 리뷰는 review_ingest_failure 에 기록
+ * - 저장 결과는 getStatus(GET /api/v1/reviews/async/{reviewId}) 로 확인
+ * - 큐가 가득 차면 REVIEW_QUEUE_FULL(503) 으로 요청을 거절
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReviewIngestionService {
+
+    private static final String INSERT_REVIEW =
+            "insert into review_entity (id, content, rating, member_id, store_id, created_at, version) values (?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_FAILURE =
+            "insert into review_ingest_failure (review_id, reason, failed_at) values (?, ?, ?)";
+    private static final int MAX_REASON_LENGTH = 255;
+    private static final long POLL_MILLIS = 200;
+    private static final long RETRY_MIN_MILLIS = 100;
+    private static final long RETRY_MAX_MILLIS = 5_000;
+    private static final long SHUTDOWN_WAIT_SECONDS = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MemberRepository memberRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewIngestFailureRepository reviewIngestFailureRepository;
+    private final StoreService storeService;
+    private final StoreRatingService storeRatingService;
+    private final ReviewSearchService reviewSearchService;
+    private final ReviewIdGenerator reviewIdGenerator;
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${review.ingest.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${review.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${review.ingest.journal-path:./data/review-ingest.journal}")
+    private String journalPath;
+
+    private AppendOnlyJournal journal;
+    private BlockingQueue<PendingReview> queue;
+    // 큐 자리 (접수 시 얻고 저장 / 실패 기록 후 반환), 재처리할 리뷰가 많으면 음수에서 시작
+    private Semaphore slots;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void startWriter() {
+        try {
+            journal = AppendOnlyJournal.open(Path.of(journalPath));
+        } catch (IOException e) {
+            throw new UncheckedIOException("리뷰 등록 저널을 열 수 없습니다 - " + journalPath, e);
+        }
+        queue = new LinkedBlockingQueue<>();
+        for (byte[] record : journal.replayed()) {
+            queue.add(PendingReview.decode(record));
+        }
+        if (!queue.isEmpty()) {
+            log.warn("저장하지 못하고 종료된 리뷰 {}건을 다시 저장합니다", queue.size());
+        }
+        slots = new Semaphore(queueCapacity - queue.size());
+
+        Gauge.builder("review.ingest.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 리뷰 수")
+                .register(meterRegistry);
+        running = true;
+        writer = new Thread(this::drainLoop, "review-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 리뷰 등록 요청 접수 (저널에 기록된 뒤 반환)
+     * @param reviewRegisterDto 리뷰 정보를 담고 있는 DTO
+     * @return 발급된 리뷰 ID
+     * @throws ApplicationException 회원 또는 매장을 찾을 수 없거나, 입력이 범위를 벗어나거나, 큐가 가득 찼거나, 저널에 기록하지 못한 경우
+     */
+    public ReviewAcceptedDto submit(ReviewRegisterDto reviewRegisterDto) {
+        if (reviewRegisterDto.getRating() < 1 || reviewRegisterDto.getRating() > 5) {
+            throw new ApplicationException(REVIEW_RATING_RANGE_OVER);
+        }
+        if (reviewRegisterDto.getContent().length() > 500) {
+            throw new ApplicationException(REVIEW_TEXT_TOO_LONG);
+        }
+        if (!memberRepository.existsById(reviewRegisterDto.getMemberId())) {
+            throw new ApplicationException(USER_NOT_FOUND);
+        }
+        Long storeId = storeService.getStoreEntity(reviewRegisterDto.getStoreId()).getId();
+
+        if (!running || !slots.tryAcquire()) {
+            throw new ApplicationException(REVIEW_QUEUE_FULL);
+        }
+        long reviewId = reviewIdGenerator.nextId();
+        PendingReview review = new PendingReview(reviewId, reviewRegisterDto.getMemberId(), storeId,
+                reviewRegisterDto.getContent(), reviewRegisterDto.getRating(), ReviewEntity.now());
+        try {
+            journal.append(review.encode());
+        } catch (IOException e) {
+            slots.release();
+            log.error("리뷰 등록 저널 기록 실패 - reviewId={}", reviewId, e);
+            throw new ApplicationException(REVIEW_INGEST_UNAVAILABLE);
+        }
+        queue.add(review);
+
+        return ReviewAcceptedDto.builder()
+                .reviewId(reviewId)
+                .message("리뷰 등록 요청 접수")
+                .build();
+    }
+
+    /**
+     * 접수한 리뷰의 저장 상태 조회
+     * - 다른 인스턴스가 접수한 리뷰도 DB 기준으로 확인하므로, 저장 / 실패 기록이 없으면 PENDING
+     * @param reviewId 접수 시 발급된 리뷰 ID
+     * @return 저장 상태
+     */
+    public ReviewIngestStatusDto getStatus(Long reviewId) {
+        ReviewIngestStatus status;
+        if (reviewRepository.existsById(reviewId)) {
+            status = ReviewIngestStatus.SAVED;
+        } else if (reviewIngestFailureRepository.existsById(reviewId)) {
+            status = ReviewIngestStatus.FAILED;
+        } else {
+            status = ReviewIngestStatus.PENDING;
+        }
+        return ReviewIngestStatusDto.builder()
+                .reviewId(reviewId)
+                .status(status)
+                .build();
+    }
+
+    /**
+     * 저장 대기 중인 리뷰 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 종료 시 새 요청을 막고 남은 리뷰를 모두 저장 (저장하지 못한 리뷰는 저널에 남아 다음 시작 시 저장)
+     */
+    @PreDestroy
+    public void stopWriter() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_WAIT_SECONDS));
+        if (!queue.isEmpty()) {
+            log.warn("종료 전에 저장하지 못한 리뷰 {}건은 다음 시작 시 저널에서 다시 저장합니다", queue.size());
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("리뷰 등록 저널 닫기 실패 - {}", e.getMessage());
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingReview> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingReview first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                if (!writeBatch(batch)) {
+                    return;
+                }
+                completed(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("리뷰 배치 저장 실패, 다음 시작 시 저널에서 다시 저장합니다 - {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 INSERT 와 평점 집계를 한 트랜잭션으로 저장
+     * - 제약 조건 위반이면 한 건씩 다시 저장해 저장할 수 없는 리뷰만 실패로 기록
+     * - 그 밖의 오류(DB 연결 끊김 등)는 간격을 늘려 가며 재시도, 종료 중이면 저널에 남기고 중단
+     * @return 배치의 모든 리뷰를 저장했거나 실패로 기록했으면 true
+     */
+    private boolean writeBatch(List<PendingReview> batch) throws InterruptedException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long backoff = RETRY_MIN_MILLIS;
+        while (true) {
+            try {
+                try {
+                    transaction.executeWithoutResult(status -> insert(batch));
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("리뷰 배치 저장 실패, 한 건씩 다시 저장합니다 - {}", e.getMessage());
+                    writeOneByOne(transaction, batch);
+                }
+                return true;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("종료 중 리뷰 배치 저장 실패, {}건은 다음 시작 시 저널에서 다시 저장합니다", batch.size(), e);
+                    return false;
+                }
+                log.warn("리뷰 배치 저장 실패, {}ms 후 다시 시도합니다 - {}", backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, RETRY_MAX_MILLIS);
+            }
+        }
+    }
+
+    private void writeOneByOne(TransactionTemplate transaction, List<PendingReview> batch) {
+        for (PendingReview review : batch) {
+            try {
+                transaction.executeWithoutResult(status -> insert(List.of(review)));
+            } catch (DuplicateKeyException e) {
+                // 저널 재처리 : 중단 전에 이미 저장된 리뷰
+                log.info("이미 저장된 리뷰 - reviewId={}", review.id());
+            } catch (DataIntegrityViolationException e) {
+                log.error("리뷰 저장 실패 - reviewId={}, memberId={}, storeId={}",
+                        review.id(), review.memberId(), review.storeId(), e);
+                recordFailure(review, e);
+            }
+        }
+    }
+
+    private void recordFailure(PendingReview review, DataIntegrityViolationException cause) {
+        String reason = Objects.requireNonNullElse(cause.getMostSpecificCause().getMessage(), cause.getClass().getSimpleName());
+        try {
+            jdbcTemplate.update(INSERT_FAILURE, review.id(),
+                    reason.substring(0, Math.min(reason.length(), MAX_REASON_LENGTH)), Timestamp.valueOf(ReviewEntity.now()));
+        } catch (DuplicateKeyException e) {
+            // 저널 재처리 : 이미 실패로 기록된 리뷰
+        }
+    }
+
+    private void completed(int count) {
+        slots.release(count);
+        try {
+            journal.completed(count);
+        } catch (IOException e) {
+            log.warn("리뷰 등록 저널 정리 실패, 다음 시작 시 저장된 리뷰도 다시 확인합니다 - {}", e.getMessage());
+        }
+    }
+
+    private void insert(List<PendingReview> reviews) {
+        jdbcTemplate.batchUpdate(INSERT_REVIEW, reviews, reviews.size(), (statement, review) -> {
+            statement.setLong(1, review.id());
+            statement.setString(2, review.content());
+            statement.setInt(3, review.rating());
+            statement.setLong(4, review.memberId());
+            statement.setLong(5, review.storeId());
+            statement.setTimestamp(6, Timestamp.valueOf(review.createdAt()));
+        });
+
+        Map<Long, RatingDelta> deltas = new HashMap<>();
+        for (PendingReview review : reviews) {
+            deltas.merge(review.storeId(), RatingDelta.of(review.rating(), 1), RatingDelta::plus);
+            reviewSearchService.indexReview(review.id(), review.storeId(), 0L, review.content());
+        }
+        deltas.forEach(storeRatingService::applyDelta);
+
+        Set<Long> memberIds = new HashSet<>();
+        for (PendingReview review : reviews) {
+            memberIds.add(review.memberId());
+        }
+        TransactionHooks.afterCommit(() -> {
+            deltas.keySet().forEach(entityVersionRegistry::storeReviewsChanged);
+            memberIds.forEach(entityVersionRegistry::memberReviewsChanged);
+        });
+    }
+
+    // 작성 시각은 접수 시각 (저장이 늦어져도 피드에서 접수 순서 유지)
+    private record PendingReview(long id, Long memberId, Long storeId, String content, int rating, LocalDateTime createdAt) {
+
+        private static final int FORMAT = 1;
+
+        byte[] encode() {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeByte(FORMAT);
+                out.writeLong(id);
+                out.writeLong(memberId);
+                out.writeLong(storeId);
+                out.writeInt(rating);
+                out.writeLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(createdAt.getNano());
+                out.writeUTF(content);
+                out.flush();
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        static PendingReview decode(byte[] record) {
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+                if (in.readByte() != FORMAT) {
+                    throw new IOException("지원하지 않는 리뷰 등록 저널 형식입니다.");
+                }
+                long id = in.readLong();
+                long memberId = in.readLong();
+                long storeId = in.readLong();
+                int rating = in.readInt();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                return new PendingReview(id, memberId, storeId, in.readUTF(), rating, createdAt);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
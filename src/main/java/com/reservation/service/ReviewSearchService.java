@@ -0,0 +1,203 @@
+package com.reservation.service;
+
+import com.reservation.dto.review.ReviewDto;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.search.ReviewSearchIndex;
+import com.reservation.util.IdBatches;
+import com.reservation.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReviewSearchService {
+
+    private static final int WARM_UP_CHUNK = 1000;
+
+    private final ReviewRepository reviewRepository;
+
+    // 리뷰 내용 검색용 메모리 역색인
+    private final ReviewSearchIndex reviewSearchIndex = new ReviewSearchIndex();
+
+    @Value("${review.search.snapshot-path:./data/review-search.idx}")
+    private String snapshotPath;
+
+    /**
+     * 리뷰 내용 검색
+     * @param query   검색어
+     * @param storeId 매장 ID (null 이면 전체 매장)
+     * @param limit   최대 결과 수
+     * @return 최신순 리뷰 목록
+     */
+    public List<ReviewDto> searchReviews(String query, Long storeId, int limit) {
+        List<Long> reviewIds = reviewSearchIndex.search(query, storeId, limit);
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+        return reviewRepository.findDtosByIdIn(reviewIds).stream()
+                .sorted(Comparator.comparing(ReviewDto::reviewId).reversed())
+                .toList();
+    }
+
+    /**
+     * 리뷰 색인 추가 (트랜잭션 커밋 후 반영)
+     * @param reviewId 리뷰 ID
+     * @param storeId  매장 ID
+     * @param version  리뷰 엔티티 version
+     * @param content  리뷰 내용
+     */
+    public void indexReview(Long reviewId, Long storeId, long version, String content) {
+        TransactionHooks.afterCommit(() -> reviewSearchIndex.index(reviewId, storeId, version, content));
+    }
+
+    /**
+     * 리뷰 내용 변경 반영 (트랜잭션 커밋 후 반영)
+     * @param reviewId        리뷰 ID
+     * @param storeId         매장 ID
+     * @param version         변경 후 리뷰 엔티티 version (flush 후 값)
+     * @param previousContent 변경 전 내용
+     * @param content         변경 후 내용
+     */
+    public void updateReview(Long reviewId, Long storeId, long version, String previousContent, String content) {
+        TransactionHooks.afterCommit(() -> reviewSearchIndex.update(reviewId, storeId, version, previousContent, content));
+    }
+
+    /**
+     * 리뷰 색인 제거 (트랜잭션 커밋 후 반영)
+     * @param reviewId 리뷰 ID
+     * @param content  리뷰 내용
+     */
+    public void removeReview(Long reviewId, String content) {
+        TransactionHooks.afterCommit(() -> reviewSearchIndex.remove(reviewId, content));
+    }
+
+    /**
+     * 애플리케이션 시작 시 색인 초기화
+     * - 저장된 색인 파일이 있으면 복원한 뒤 DB 의 리뷰 ID / version 과 비교해 바뀐 리뷰만 반영
+     *   (리뷰 ID 는 인스턴스마다 블록 단위로 발급되어 커밋 순서와 다르므로 ID 이후만 이어서 색인하면 누락됨)
+     * - 파일이 없거나 읽을 수 없거나, 절반 넘게 바뀌었으면 전체 리뷰 색인
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpIndex() {
+        if (restoreSnapshot() && catchUp()) {
+            return;
+        }
+        rebuild();
+    }
+
+    private boolean restoreSnapshot() {
+        Path snapshot = Path.of(snapshotPath);
+        if (!Files.exists(snapshot)) {
+            return false;
+        }
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(snapshot))) {
+            reviewSearchIndex.readFrom(input);
+            log.info("리뷰 검색 색인 복원 완료 - {}건", reviewSearchIndex.size());
+            return true;
+        } catch (IOException e) {
+            log.warn("리뷰 검색 색인 파일을 읽을 수 없어 전체 색인합니다 - {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 복원한 색인과 DB 를 비교해 새로 등록 / 수정된 리뷰는 다시 색인, 수정 / 삭제된 리뷰의 예전 내용은 제거
+    private boolean catchUp() {
+        Map<Long, Long> indexed = reviewSearchIndex.versions();
+        List<Long> changed = new ArrayList<>();
+        List<Long> stale = new ArrayList<>();
+
+        long lastId = 0L;
+        long total = 0L;
+        List<ReviewRepository.ReviewVersionView> chunk;
+        do {
+            chunk = reviewRepository.findVersionsAfter(lastId, PageRequest.of(0, WARM_UP_CHUNK));
+            for (ReviewRepository.ReviewVersionView review : chunk) {
+                Long version = indexed.remove(review.getId());
+                if (version == null) {
+                    changed.add(review.getId());
+                } else if (!version.equals(review.getVersion())) {
+                    stale.add(review.getId());
+                    changed.add(review.getId());
+                }
+                lastId = review.getId();
+            }
+            total += chunk.size();
+        } while (chunk.size() == WARM_UP_CHUNK);
+        stale.addAll(indexed.keySet());
+
+        if (changed.size() * 2L > total) {
+            log.info("리뷰 검색 색인 파일이 오래되어 전체 색인합니다 - 변경 {}건 / 전체 {}건", changed.size(), total);
+            return false;
+        }
+
+        reviewSearchIndex.removeAll(stale);
+        List<ReviewRepository.ReviewContentView> reviews =
+                IdBatches.loadInChunks(changed, WARM_UP_CHUNK, reviewRepository::findContentsByIdIn);
+        reviews.forEach(this::index);
+
+        log.info("리뷰 검색 색인 초기화 완료 - 다시 색인 {}건, 제거 {}건, 전체 {}건",
+                reviews.size(), stale.size(), reviewSearchIndex.size());
+        return true;
+    }
+
+    private void rebuild() {
+        reviewSearchIndex.clear();
+
+        long lastId = 0L;
+        List<ReviewRepository.ReviewContentView> chunk;
+        do {
+            chunk = reviewRepository.findContentsAfter(lastId, PageRequest.of(0, WARM_UP_CHUNK));
+            for (ReviewRepository.ReviewContentView review : chunk) {
+                index(review);
+                lastId = review.getId();
+            }
+        } while (chunk.size() == WARM_UP_CHUNK);
+
+        log.info("리뷰 검색 색인 초기화 완료 - 전체 {}건", reviewSearchIndex.size());
+    }
+
+    private void index(ReviewRepository.ReviewContentView review) {
+        reviewSearchIndex.index(review.getId(), review.getStoreId(), review.getVersion(), review.getContent());
+    }
+
+    /**
+     * 애플리케이션 종료 시 색인 파일 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    @PreDestroy
+    public void saveSnapshot() {
+        Path snapshot = Path.of(snapshotPath).toAbsolutePath();
+        try {
+            Files.createDirectories(snapshot.getParent());
+            Path temp = Files.createTempFile(snapshot.getParent(), "review-search", ".tmp");
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                reviewSearchIndex.writeTo(output);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("리뷰 검색 색인 저장 완료 - {}건", reviewSearchIndex.size());
+        } catch (IOException e) {
+            log.warn("리뷰 검색 색인 저장 실패 - {}", e.getMessage());
+        }
+    }
+}
@@ -5,26 +5,38 @@ import com.reservation.domain.ReviewEntity;
 import com.reservation.domain.StoreEntity;
 import com.reservation.dto.review.ReviewDeleteDto;
 import com.reservation.dto.review.ReviewDto;
+import com.reservation.dto.review.ReviewPageDto;
 import com.reservation.dto.review.ReviewRegisterDto;
 import com.reservation.dto.review.ReviewUpdateDto;
+import com.reservation.etag.EntityVersionRegistry;
 import com.reservation.exception.ApplicationException;
 import com.reservation.repository.MemberRepository;
 import com.reservation.repository.ReviewRepository;
-import com.reservation.repository.StoreRepository;
+import com.reservation.service.StoreRatingService.RatingDelta;
+import com.reservation.util.TransactionHooks;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static com.reservation.type.ErrorCode.*;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
-    private final StoreRepository storeRepository;
+    private final StoreService storeService;
+    private final StoreRatingService storeRatingService;
+    private final ReviewSearchService reviewSearchService;
+    private final ReviewIdGenerator reviewIdGenerator;
+    private final EntityVersionRegistry entityVersionRegistry;
 
     /**
      * 리뷰 생성
@@ -32,12 +44,12 @@ public class ReviewService {
      * @return 생성된 리뷰의 DTO
      * @throws ApplicationException 회원 또는 매장을 찾을 수 없는 경우
      */
+    @Transactional
     public ReviewDto createReview(ReviewRegisterDto reviewRegisterDto) {
         MemberEntity member = memberRepository.findById(reviewRegisterDto.getMemberId())
                 .orElseThrow(() -> new ApplicationException(USER_NOT_FOUND));
 
-        StoreEntity store = storeRepository.findById(reviewRegisterDto.getStoreId())
-                .orElseThrow(() -> new ApplicationException(STORE_NOT_FOUND));
+        StoreEntity store = storeService.getStoreEntity(reviewRegisterDto.getStoreId());
 
         if (reviewRegisterDto.getRating() < 1 || reviewRegisterDto.getRating() > 5) {
             throw new ApplicationException(REVIEW_RATING_RANGE_OVER);
@@ -47,46 +59,69 @@ public class ReviewService {
             throw new ApplicationException(REVIEW_TEXT_TOO_LONG);
         }
 
-        return ReviewDto.fromEntity(
-                reviewRepository.save(
-                        ReviewEntity.builder()
-                                .content(reviewRegisterDto.getContent())
-                                .rating(reviewRegisterDto.getRating())
-                                .member(member)
-                                .store(store)
-                                .build()
-                )
+        ReviewEntity review = reviewRepository.save(
+                ReviewEntity.builder()
+                        .id(reviewIdGenerator.nextId())
+                        .content(reviewRegisterDto.getContent())
+                        .rating(reviewRegisterDto.getRating())
+                        .member(member)
+                        .store(store)
+                        .build()
         );
+        storeRatingService.applyDelta(store.getId(), RatingDelta.of(review.getRating(), 1));
+        reviewSearchService.indexReview(review.getId(), store.getId(), review.getVersion(), review.getContent());
+        reviewsChanged(store.getId(), member.getId());
+
+        return ReviewDto.fromEntity(review);
     }
 
     /**
      * 매장명으로 리뷰 조회
      * @param storeName 조회할 매장의 이름
-     * @return 해당 매장의 리뷰 목록 (ReviewDto 리스트)
+     * @return 해당 매장의 리뷰 목록 (ReviewDto 리스트, 리뷰 ID 오름차순)
      */
     public List<ReviewDto> getReviewByStoreName(String storeName) {
-        List<ReviewEntity> reviews = reviewRepository.findByStoreId(storeRepository.findByStoreName(storeName)
-                .orElseThrow(() -> new ApplicationException(STORE_NOT_FOUND)).getId());
+        Long storeId = storeService.getStoreEntityByName(storeName).getId();
 
-        return reviews.stream()
-                .map(ReviewDto::fromEntity)
-                .toList();
+        return reviewRepository.findStoreReviews(storeId);
     }
 
     /**
      * 유저명으로 리뷰 조회
      * @param username 조회할 유저의 이름
-     * @return 해당 유저의 리뷰 목록 (ReviewDto 리스트)
+     * @return 해당 유저의 리뷰 목록 (ReviewDto 리스트, 리뷰 ID 오름차순)
      */
     public List<ReviewDto> getReviewByUsername(String username) {
         MemberEntity member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new ApplicationException(USER_NOT_FOUND));
 
-        List<ReviewEntity> reviews = reviewRepository.findByMemberId(member.getId());
+        return reviewRepository.findMemberReviews(member.getId());
+    }
+
+    /**
+     * 매장 리뷰 피드 조회 (최신순, 커서 페이지)
+     * @param storeId 매장 ID
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return 리뷰 목록과 다음 페이지 커서
+     * @throws ApplicationException 커서 형식이 잘못된 경우
+     */
+    public ReviewPageDto getStoreReviewFeed(Long storeId, String cursor, int size) {
+        FeedCursor start = FeedCursor.parse(cursor);
+        return toPage(reviewRepository.findStoreFeed(storeId, start.createdAt(), start.reviewId(), PageRequest.of(0, size + 1)), size);
+    }
 
-        return reviews.stream()
-                .map(ReviewDto::fromEntity)
-                .toList();
+    /**
+     * 회원 리뷰 피드 조회 (최신순, 커서 페이지)
+     * @param memberId 회원 ID
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @return 리뷰 목록과 다음 페이지 커서
+     * @throws ApplicationException 커서 형식이 잘못된 경우
+     */
+    public ReviewPageDto getMemberReviewFeed(Long memberId, String cursor, int size) {
+        FeedCursor start = FeedCursor.parse(cursor);
+        return toPage(reviewRepository.findMemberFeed(memberId, start.createdAt(), start.reviewId(), PageRequest.of(0, size + 1)), size);
     }
 
     /**
@@ -95,14 +130,23 @@ public class ReviewService {
      * @return 수정된 리뷰의 DTO
      * @throws ApplicationException 리뷰를 찾을 수 없는 경우
      */
+    @Transactional
     public ReviewDto updateReview(ReviewUpdateDto reviewUpdateDto) {
         ReviewEntity review = reviewRepository.findById(reviewUpdateDto.getId())
                 .orElseThrow(() -> new ApplicationException(REVIEW_NOT_FOUND));
 
+        int previousRating = review.getRating();
+        String previousContent = review.getContent();
         review.setContent(reviewUpdateDto.getContent());
         review.setRating(reviewUpdateDto.getRating());
-
-        return ReviewDto.fromEntity(reviewRepository.save(review));
+        storeRatingService.applyDelta(review.getStore().getId(), RatingDelta.change(previousRating, review.getRating()));
+        // 검색 색인에 변경 후 version 을 기록하도록 먼저 flush
+        ReviewEntity saved = reviewRepository.saveAndFlush(review);
+        reviewSearchService.updateReview(saved.getId(), saved.getStore().getId(), saved.getVersion(),
+                previousContent, saved.getContent());
+        reviewsChanged(saved.getStore().getId(), saved.getMember().getId());
+
+        return ReviewDto.fromEntity(saved);
     }
 
     /**
@@ -110,8 +154,62 @@ public class ReviewService {
      * @param reviewDeleteDto 삭제할 리뷰의 ID
      * @throws ApplicationException 리뷰를 찾을 수 없는 경우
      */
+    @Transactional
     public void deleteReview(ReviewDeleteDto reviewDeleteDto) {
-        reviewRepository.delete(reviewRepository.findById(reviewDeleteDto.getId())
-                .orElseThrow(() -> new ApplicationException(REVIEW_NOT_FOUND)));
+        ReviewEntity review = reviewRepository.findById(reviewDeleteDto.getId())
+                .orElseThrow(() -> new ApplicationException(REVIEW_NOT_FOUND));
+
+        reviewRepository.delete(review);
+        storeRatingService.applyDelta(review.getStore().getId(), RatingDelta.of(review.getRating(), -1));
+        reviewSearchService.removeReview(review.getId(), review.getContent());
+        reviewsChanged(review.getStore().getId(), review.getMember().getId());
+    }
+
+    // 커밋 후 매장 / 회원 리뷰 목록 ETag 갱신
+    private void reviewsChanged(Long storeId, Long memberId) {
+        TransactionHooks.afterCommit(() -> {
+            entityVersionRegistry.storeReviewsChanged(storeId);
+            entityVersionRegistry.memberReviewsChanged(memberId);
+        });
+    }
+
+    // 페이지 크기보다 한 건 더 조회해 다음 페이지 존재 여부 판단
+    private static ReviewPageDto toPage(List<ReviewDto> reviews, int size) {
+        if (reviews.size() <= size) {
+            return new ReviewPageDto(reviews, null);
+        }
+        List<ReviewDto> page = reviews.subList(0, size);
+        ReviewDto last = page.get(size - 1);
+        return new ReviewPageDto(page, new FeedCursor(last.createdAt(), last.reviewId()).format());
+    }
+
+    /**
+     * 피드 커서 (작성 시각, 리뷰 ID)
+     * - 리뷰 ID 는 인스턴스마다 블록 단위로 발급되어 시간 순서가 아니므로 작성 시각으로 정렬하고 ID 로 동률 구분
+     * - "작성 시각(epoch 마이크로초)_리뷰 ID" 문자열로 주고받음
+     */
+    private record FeedCursor(LocalDateTime createdAt, Long reviewId) {
+
+        private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+        // 첫 페이지 (DATETIME 최댓값)
+        private static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        static FeedCursor parse(String cursor) {
+            if (cursor == null || cursor.isEmpty()) {
+                return FIRST;
+            }
+            int separator = cursor.indexOf('_');
+            try {
+                long micros = Long.parseLong(cursor.substring(0, separator));
+                long reviewId = Long.parseLong(cursor.substring(separator + 1));
+                return new FeedCursor(EPOCH.plus(micros, ChronoUnit.MICROS), reviewId);
+            } catch (RuntimeException e) {
+                throw new ApplicationException(INVALID_REQUEST);
+            }
+        }
+
+        String format() {
+            return ChronoUnit.MICROS.between(EPOCH, createdAt) + "_" + reviewId;
+        }
     }
 }
@@ -0,0 +1,46 @@
+package com.reservation.service;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.util.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheService {
+
+    private static final List<String> REGIONS = List.of(
+            MemberEntity.CACHE_REGION, MemberEntity.NATURAL_ID_CACHE_REGION,
+            StoreEntity.CACHE_REGION, StoreEntity.NATURAL_ID_CACHE_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Hibernate 2차 캐시 영역별 통계 조회
+     * - hibernate.generate_statistics 가 꺼져 있으면 빈 목록
+     * - 항목 수를 제공하지 않는 캐시 구현이면 size 는 -1
+     * @return 영역별 적중 / 미적중 횟수
+     */
+    public List<CacheStats> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+        return REGIONS.stream()
+                .map(region -> toCacheStats(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    private static CacheStats toCacheStats(String region, CacheRegionStatistics stats) {
+        long size = stats.getElementCountInMemory();
+        return new CacheStats("l2:" + region, size < 0 ? -1 : (int) Math.min(size, Integer.MAX_VALUE),
+                stats.getHitCount(), stats.getMissCount(), 0L);
+    }
+}
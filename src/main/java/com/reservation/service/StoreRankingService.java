@@ -0,0 +1,117 @@
+package com.reservation.service;
+
+import com.reservation.domain.StoreRatingEntity;
+import com.reservation.ranking.StoreLeaderboard;
+import com.reservation.repository.StoreRatingRepository;
+import com.reservation.repository.StoreRatingUpsertRepository.RatingTotals;
+import com.reservation.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StoreRankingService {
+
+    private static final int REBUILD_CHUNK = 1000;
+
+    private final StoreRatingRepository storeRatingRepository;
+
+    @Value("${store.ranking.prior-weight:10}")
+    private double priorWeight;
+
+    @Value("${store.ranking.default-mean:3.0}")
+    private double defaultMean;
+
+    // 평점 순 매장 순위표 (전체 / 위치별)
+    private StoreLeaderboard leaderboard;
+
+    @PostConstruct
+    void initLeaderboard() {
+        leaderboard = new StoreLeaderboard(priorWeight, defaultMean);
+    }
+
+    /**
+     * 리뷰 반영 후의 매장 평점 집계를 순위표에 반영
+     * - 트랜잭션 안에서 호출되면 커밋된 뒤에 반영 (롤백된 리뷰는 반영하지 않음)
+     * - 변화량이 아니라 집계 행의 값을 버전과 함께 반영하므로, 커밋 순서와 반영 순서가 달라도
+     *   (동시 리뷰 / 순위표 재구성 중 도착) 더 오래된 집계가 최신 집계를 덮어쓰거나 두 번 더해지지 않음
+     * @param storeId 매장 ID
+     * @param totals  이 트랜잭션이 갱신한 집계 행 값
+     */
+    public void applyRatings(Long storeId, RatingTotals totals) {
+        TransactionHooks.afterCommit(() ->
+                leaderboard.setRatings(storeId, totals.version(), totals.reviewCount(), totals.ratingSum()));
+    }
+
+    /**
+     * 매장 위치 반영 (매장 등록 / 수정 시)
+     * @param storeId  매장 ID
+     * @param location 매장 위치
+     */
+    public void updateLocation(Long storeId, String location) {
+        leaderboard.setLocation(storeId, location);
+    }
+
+    /**
+     * 순위표에서 매장 제거
+     * @param storeId 매장 ID
+     */
+    public void removeStore(Long storeId) {
+        leaderboard.remove(storeId);
+    }
+
+    /**
+     * 평점 상위 매장 조회
+     * @param location 매장 위치 (null 이면 전체)
+     * @param limit    최대 결과 수
+     * @return 베이지안 평균 내림차순 매장 목록
+     */
+    public List<StoreLeaderboard.RankedStore> getTopStores(String location, int limit) {
+        return leaderboard.top(location, limit);
+    }
+
+    /**
+     * 애플리케이션 시작 시 순위표 초기화 (virtual-threads 프로필에서는 백그라운드 실행, AsyncConfig 참고)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpLeaderboard() {
+        rebuild();
+    }
+
+    /**
+     * 매장 평점 집계 테이블로 순위표 재구성
+     * - 애플리케이션 시작 시, 평점 집계 재계산 후 실행
+     * - 사전 평균은 전체 리뷰 평균으로 다시 잡고 모든 매장 점수를 재계산
+     * - 읽은 집계보다 새 버전이 이미 반영된 매장(재구성 중 커밋된 리뷰)은 그대로 둠
+     */
+    public void rebuild() {
+        long lastId = 0L;
+        long totalCount = 0L;
+        long totalSum = 0L;
+
+        List<StoreRatingEntity> chunk;
+        do {
+            chunk = storeRatingRepository.findByStoreIdGreaterThanOrderByStoreIdAsc(lastId, PageRequest.of(0, REBUILD_CHUNK));
+            for (StoreRatingEntity rating : chunk) {
+                leaderboard.setRatings(rating.getStoreId(), rating.getVersion(), rating.getReviewCount(), rating.getRatingSum());
+                totalCount += rating.getReviewCount();
+                totalSum += rating.getRatingSum();
+                lastId = rating.getStoreId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK);
+
+        leaderboard.rescore(totalCount == 0 ? defaultMean : (double) totalSum / totalCount);
+        log.info("매장 순위표 초기화 완료 - {}건, 사전 평균 {}", leaderboard.size(), leaderboard.getPriorMean());
+    }
+}
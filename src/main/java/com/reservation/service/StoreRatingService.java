@@ -0,0 +1,198 @@
+package com.reservation.service;
+
+import com.reservation.domain.StoreEntity;
+import com.reservation.domain.StoreRatingEntity;
+import com.reservation.dto.store.RatingSummaryDto;
+import com.reservation.etag.EntityVersionRegistry;
+import com.reservation.exception.ApplicationException;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRatingRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.util.IdBatches;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.reservation.type.ErrorCode.REVIEW_RATING_RANGE_OVER;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreRatingService {
+
+    private static final int REBUILD_CHUNK = 500;
+
+    private final StoreRatingRepository storeRatingRepository;
+    private final StoreRepository storeRepository;
+    private final ReviewRepository reviewRepository;
+    private final StoreRankingService storeRankingService;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityVersionRegistry entityVersionRegistry;
+
+    /**
+     * 매장 평점 집계 증분 반영
+     * - 호출한 리뷰 저장 트랜잭션 안에서 함께 커밋 / 롤백, 순위표는 커밋 후 반영
+     * @param storeId 매장 ID
+     * @param delta   반영할 리뷰 수 / 평점 변화량
+     */
+    @Transactional
+    public void applyDelta(Long storeId, RatingDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        long[] h = delta.histogram();
+        storeRatingRepository.addRatings(storeId, delta.count(), delta.sum(), h[0], h[1], h[2], h[3], h[4]);
+        storeRankingService.applyRatings(storeId, storeRatingRepository.findTotals(storeId));
+    }
+
+    /**
+     * 매장 평점 요약 조회 (집계 행 하나만 조회)
+     * @param storeId 매장 ID
+     * @return 리뷰 수, 평균 평점, 평점 분포
+     */
+    public RatingSummaryDto getRatingSummary(Long storeId) {
+        return storeRatingRepository.findById(storeId)
+                .map(RatingSummaryDto::fromEntity)
+                .orElseGet(RatingSummaryDto::empty);
+    }
+
+    /**
+     * 여러 매장 평점 요약 조회 (chunkSize 개씩 IN 쿼리)
+     * @param storeIds  매장 ID 목록 (중복 없음)
+     * @param chunkSize 한 번에 조회할 최대 매장 수
+     * @return 매장 ID -> 평점 요약 (집계 행이 없는 매장은 빈 요약)
+     */
+    public Map<Long, RatingSummaryDto> getRatingSummaries(List<Long> storeIds, int chunkSize) {
+        Map<Long, RatingSummaryDto> summaries = new HashMap<>();
+        for (StoreRatingEntity rating : IdBatches.loadInChunks(storeIds, chunkSize, storeRatingRepository::findAllById)) {
+            summaries.put(rating.getStoreId(), RatingSummaryDto.fromEntity(rating));
+        }
+        for (Long storeId : storeIds) {
+            summaries.computeIfAbsent(storeId, id -> RatingSummaryDto.empty());
+        }
+        return summaries;
+    }
+
+    /**
+     * 매장 평점 집계 삭제
+     * @param storeId 매장 ID
+     */
+    @Transactional
+    public void deleteRating(Long storeId) {
+        storeRatingRepository.deleteAllByIdInBatch(List.of(storeId));
+    }
+
+    /**
+     * 전체 매장 평점 집계를 리뷰 테이블에서 다시 계산
+     * - 매장 REBUILD_CHUNK 건 단위로 집계 / 저장하고 청크마다 트랜잭션 커밋
+     * - 청크의 집계 행을 먼저 잠그고 리뷰를 집계하므로, 재계산 중 들어온 리뷰 변경(applyDelta)은 청크 커밋 후 그 위에 더해짐
+     * @return 재계산한 매장 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuildAll() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long lastId = 0L;
+        long rebuilt = 0L;
+
+        List<StoreEntity> chunk;
+        do {
+            chunk = storeRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_CHUNK));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<Long> storeIds = chunk.stream().map(StoreEntity::getId).toList();
+            transaction.executeWithoutResult(status -> rebuildChunk(storeIds));
+
+            lastId = storeIds.get(storeIds.size() - 1);
+            rebuilt += storeIds.size();
+        } while (chunk.size() == REBUILD_CHUNK);
+
+        log.info("매장 평점 집계 재계산 완료 - {}건", rebuilt);
+        storeRankingService.rebuild();
+        entityVersionRegistry.allReviewsChanged(); // 매장 조회 응답의 평점 요약이 바뀜
+        return rebuilt;
+    }
+
+    private void rebuildChunk(List<Long> storeIds) {
+        // 잠금 후에 리뷰를 읽어야 잠금 전에 커밋된 증분은 집계에 포함되고, 이후 증분은 잠금이 풀릴 때까지 대기
+        storeRatingRepository.lockRatings(storeIds);
+
+        Map<Long, RatingDelta> totals = new HashMap<>();
+        for (Object[] row : reviewRepository.countRatingsByStoreIds(storeIds)) {
+            Long storeId = (Long) row[0];
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            totals.merge(storeId, RatingDelta.of(rating, count), RatingDelta::plus);
+        }
+
+        for (Long storeId : storeIds) {
+            RatingDelta total = totals.getOrDefault(storeId, RatingDelta.NONE);
+            long[] h = total.histogram();
+            storeRatingRepository.replaceRatings(storeId, total.count(), total.sum(), h[0], h[1], h[2], h[3], h[4]);
+        }
+    }
+
+    /**
+     * 평점 집계 변화량
+     * @param count     리뷰 수 변화
+     * @param sum       평점 합 변화
+     * @param histogram 1~5점 리뷰 수 변화
+     */
+    public record RatingDelta(long count, long sum, long[] histogram) {
+
+        public static final RatingDelta NONE = new RatingDelta(0, 0, new long[5]);
+
+        /**
+         * 평점 rating 인 리뷰 count 건 추가 (음수면 삭제)
+         */
+        public static RatingDelta of(int rating, long count) {
+            validate(rating);
+            long[] histogram = new long[5];
+            histogram[rating - 1] = count;
+            return new RatingDelta(count, rating * count, histogram);
+        }
+
+        /**
+         * 리뷰 평점 변경 (리뷰 수는 그대로)
+         */
+        public static RatingDelta change(int previousRating, int newRating) {
+            return of(previousRating, -1).plus(of(newRating, 1));
+        }
+
+        public RatingDelta plus(RatingDelta other) {
+            long[] merged = new long[5];
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] = histogram[i] + other.histogram[i];
+            }
+            return new RatingDelta(count + other.count, sum + other.sum, merged);
+        }
+
+        public boolean isEmpty() {
+            if (count != 0 || sum != 0) {
+                return false;
+            }
+            for (long value : histogram) {
+                if (value != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void validate(int rating) {
+            if (rating < 1 || rating > 5) {
+                throw new ApplicationException(REVIEW_RATING_RANGE_OVER);
+            }
+        }
+    }
+}
@@ -1,40 +1,107 @@
 package com.reservation.service;
 
+import com.reservation.config.PrimaryReads;
 import com.reservation.domain.StoreEntity;
+import com.reservation.dto.store.NearbyStoreDto;
+import com.reservation.dto.store.RankedStoreDto;
+import com.reservation.dto.store.RatingSummaryDto;
 import com.reservation.dto.store.StoreDto;
 import com.reservation.dto.store.StoreRegisterDto;
 import com.reservation.dto.store.StoreUpdateDto;
+import com.reservation.etag.EntityVersionRegistry;
 import com.reservation.exception.ApplicationException;
+import com.reservation.geo.StoreGeoIndex;
 import com.reservation.repository.StoreRepository;
+import com.reservation.search.StoreSearchIndex;
+import com.reservation.util.CacheStats;
+import com.reservation.util.IdBatches;
+import com.reservation.util.SingleFlightCache;
+import com.reservation.util.TransactionHooks;
+import com.reservation.util.UniqueViolations;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.reservation.type.ErrorCode.ALREADY_EXIST_STORE;
 import static com.reservation.type.ErrorCode.STORE_NOT_FOUND;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class StoreService {
 
+    private static final int WARM_UP_CHUNK = 1000;
+
     private final StoreRepository storeRepository;
+    private final StoreRatingService storeRatingService;
+    private final StoreRankingService storeRankingService;
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final PrimaryReads primaryReads;
+
+    // 매장명 / 위치 / 설명 검색용 메모리 역색인
+    private final StoreSearchIndex storeSearchIndex = new StoreSearchIndex();
+
+    // 매장 좌표 geohash 셀 색인
+    private final StoreGeoIndex storeGeoIndex = new StoreGeoIndex();
+
+    @Value("${store.cache.maximum-size:10000}")
+    private int cacheMaximumSize;
+
+    @Value("${store.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    @Value("${multi-get.max-ids:100}")
+    private int multiGetMaxIds;
+
+    @Value("${multi-get.chunk-size:50}")
+    private int multiGetChunkSize;
+
+    // 매장 ID -> 매장, 매장명 -> 매장 ID 캐시 (동시 미적중 시 키당 한 번만 조회, ttl 이 지나면 다시 조회)
+    // 미적중은 primary 에서 조회 (커밋 후 비운 항목을 지연된 replica 의 변경 전 행으로 다시 채우지 않도록)
+    private SingleFlightCache<Long, StoreEntity> storesById;
+    private SingleFlightCache<String, Long> storeIdsByName;
+
+    @PostConstruct
+    void initCache() {
+        storesById = new SingleFlightCache<>("storesById", cacheMaximumSize, Duration.ofSeconds(cacheTtlSeconds));
+        storeIdsByName = new SingleFlightCache<>("storeIdsByName", cacheMaximumSize, Duration.ofSeconds(cacheTtlSeconds));
+    }
 
     /**
      * 매장 등록
      * @param registerRequest 매장 등록 요청 DTO
      * @return 등록된 매장의 정보 DTO
+     * @throws ApplicationException 매장명이 이미 사용 중인 경우
      */
+    @Transactional
     public StoreRegisterDto.Response registerStore(StoreRegisterDto.Request registerRequest) {
-        if (storeRepository.findByStoreName(registerRequest.getStoreName()) != null) {
-            throw new ApplicationException(ALREADY_EXIST_STORE);
-        }
-
+        // 중복 확인 조회 없이 바로 저장하고, 매장명 유니크 인덱스 위반으로 중복 판단
         StoreEntity savedStore = createStore(registerRequest);
+        TransactionHooks.afterCommit(() -> indexStore(savedStore));
 
         return StoreRegisterDto.Response.builder()
                 .id(savedStore.getId())
                 .storeName(savedStore.getStoreName())
                 .location(savedStore.getLocation())
                 .description(savedStore.getDescription())
+                .latitude(savedStore.getLatitude())
+                .longitude(savedStore.getLongitude())
                 .message("매장 등록 성공")
                 .build();
     }
@@ -42,25 +109,157 @@ public class StoreService {
     /**
      * 매장 정보 조회
      * @param storeId 매장 ID
-     * @return 매장의 정보 DTO
+     * @return 매장의 정보 DTO (평점 요약 포함)
      */
     public StoreDto getStoreById(Long storeId) {
-        StoreEntity store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new ApplicationException(STORE_NOT_FOUND));
-
-        return StoreDto.fromEntity(store);
+        return withRating(StoreDto.fromEntity(getStoreEntity(storeId)));
     }
 
     /**
      * 매장 정보 조회
      * @param storeName 매장명
-     * @return 매장의 정보 DTO
+     * @return 매장의 정보 DTO (평점 요약 포함)
      */
     public StoreDto getStoreByStoreName(String storeName) {
-        StoreEntity store = storeRepository.findByStoreName(storeName)
-                .orElseThrow(() -> new ApplicationException(STORE_NOT_FOUND));
+        return withRating(StoreDto.fromEntity(getStoreEntityByName(storeName)));
+    }
+
+    /**
+     * 여러 매장 정보 한 번에 조회
+     * - 매장 캐시에 있는 매장은 그대로 사용하고, 나머지만 chunk-size 개씩 IN 쿼리로 조회해 캐시에 적재
+     * - 평점 요약도 매장별 조회 대신 IN 쿼리로 한 번에 조회
+     * @param storeIds 매장 ID 목록 (중복은 한 번만 조회)
+     * @return 매장 정보 DTO 목록 (요청 순서, 없는 매장은 제외)
+     * @throws ApplicationException 중복을 제외한 ID 가 max-ids 를 넘는 경우
+     */
+    public List<StoreDto> getStoresByIds(List<Long> storeIds) {
+        List<Long> ids = IdBatches.distinct(storeIds, multiGetMaxIds);
+
+        Map<Long, StoreEntity> stores = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            StoreEntity cached = storesById.getIfPresent(id);
+            if (cached != null) {
+                stores.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        // 읽는 사이 커밋된 수정의 invalidate 가 있었으면 읽은 값을 캐시에 넣지 않음 (이번 응답에만 사용)
+        long stamp = storesById.invalidationStamp();
+        List<StoreEntity> loaded = primaryReads.read(
+                () -> IdBatches.loadInChunks(misses, multiGetChunkSize, storeRepository::findAllById));
+        for (StoreEntity store : loaded) {
+            storesById.putUnlessInvalidated(store.getId(), store, stamp);
+            stores.put(store.getId(), store);
+        }
+
+        List<Long> found = ids.stream().filter(stores::containsKey).toList();
+        Map<Long, RatingSummaryDto> ratings = storeRatingService.getRatingSummaries(found, multiGetChunkSize);
+        return found.stream()
+                .map(id -> {
+                    StoreDto store = StoreDto.fromEntity(stores.get(id));
+                    store.setRating(ratings.get(id));
+                    return store;
+                })
+                .toList();
+    }
+
+    /**
+     * 매장 검색 (매장명 / 위치 / 설명)
+     * @param query 검색어 (마지막 단어는 접두사 검색)
+     * @param limit 최대 결과 수
+     * @return 관련도 순 매장 정보 DTO 목록
+     */
+    public List<StoreDto> searchStores(String query, int limit) {
+        return storeSearchIndex.search(query, limit);
+    }
+
+    /**
+     * 주변 매장 조회
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  검색 반경 (km)
+     * @param limit     최대 결과 수
+     * @return 거리 순 매장 목록
+     */
+    public List<NearbyStoreDto> getNearbyStores(double latitude, double longitude, double radiusKm, int limit) {
+        return storeGeoIndex.nearest(latitude, longitude, radiusKm, limit).stream()
+                .map(nearby -> NearbyStoreDto.builder()
+                        .store(StoreDto.fromEntity(getStoreEntity(nearby.storeId())))
+                        .distanceKm(nearby.distanceKm())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 평점 상위 매장 조회
+     * @param location 매장 위치 (null 이면 전체)
+     * @param limit    최대 결과 수
+     * @return 베이지안 평균 순 매장 목록
+     */
+    public List<RankedStoreDto> getTopStores(String location, int limit) {
+        return storeRankingService.getTopStores(location, limit).stream()
+                .map(ranked -> RankedStoreDto.builder()
+                        .store(StoreDto.fromEntity(getStoreEntity(ranked.storeId())))
+                        .score(ranked.score())
+                        .reviewCount(ranked.reviewCount())
+                        .averageRating(ranked.averageRating())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 매장 엔티티 조회 (캐시 사용)
+     * - 반환된 엔티티는 여러 요청이 공유하므로 읽기 / 연관관계 참조 용도로만 사용
+     * @param storeId 매장 ID
+     * @return 매장 엔티티
+     * @throws ApplicationException 매장을 찾을 수 없는 경우
+     */
+    public StoreEntity getStoreEntity(Long storeId) {
+        if (storeId == null) {
+            throw new ApplicationException(STORE_NOT_FOUND);
+        }
+
+        StoreEntity store = storesById.get(storeId, id -> primaryReads.read(() -> storeRepository.findById(id).orElse(null)));
+        if (store == null) {
+            throw new ApplicationException(STORE_NOT_FOUND);
+        }
+        return store;
+    }
+
+    /**
+     * 매장명으로 매장 엔티티 조회 (캐시 사용)
+     * @param storeName 매장명
+     * @return 매장 엔티티
+     * @throws ApplicationException 매장을 찾을 수 없는 경우
+     */
+    public StoreEntity getStoreEntityByName(String storeName) {
+        if (storeName == null) {
+            throw new ApplicationException(STORE_NOT_FOUND);
+        }
 
-        return StoreDto.fromEntity(store);
+        Long storeId = storeIdsByName.get(storeName, name -> {
+            long stamp = storesById.invalidationStamp();
+            return primaryReads.read(() -> storeRepository.findByStoreName(name))
+                    .map(store -> {
+                        storesById.putUnlessInvalidated(store.getId(), store, stamp);
+                        return store.getId();
+                    })
+                    .orElse(null);
+        });
+        if (storeId == null) {
+            throw new ApplicationException(STORE_NOT_FOUND);
+        }
+        return getStoreEntity(storeId);
+    }
+
+    /**
+     * 매장 캐시 통계 조회
+     * @return 캐시별 적중률, 평균 적재 시간
+     */
+    public List<CacheStats> getCacheStats() {
+        return List.of(storesById.stats(), storeIdsByName.stats());
     }
 
     /**
@@ -68,27 +267,104 @@ public class StoreService {
      * @param storeId       매장 ID
      * @param updateRequest 매장 수정 요청 DTO
      * @return 수정된 매장 정보 DTO
+     * @throws ApplicationException 변경할 매장명이 이미 사용 중인 경우
      */
+    @Transactional
     public StoreDto updateStore(Long storeId, StoreUpdateDto.Request updateRequest) {
+        // 수정은 공유 캐시 인스턴스가 아닌 새로 조회한 엔티티로 수행
         StoreEntity store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new ApplicationException(STORE_NOT_FOUND));
+        String previousName = store.getStoreName();
 
         store.setStoreName(updateRequest.getStoreName());
         store.setLocation(updateRequest.getLocation());
         store.setDescription(updateRequest.getDescription());
+        store.setLatitude(updateRequest.getLatitude());
+        store.setLongitude(updateRequest.getLongitude());
+
+        StoreEntity updatedStore = saveStore(store);
+
+        // 커밋 전에 캐시를 비우면 다른 요청이 변경 전 값을 다시 적재할 수 있으므로 커밋 후 반영
+        TransactionHooks.afterCommit(() -> {
+            evictStore(storeId, previousName);
+            storeIdsByName.invalidate(updatedStore.getStoreName());
+            indexStore(updatedStore);
+            entityVersionRegistry.recordStore(storeId, updatedStore.getVersion());
+            if (!previousName.equals(updatedStore.getStoreName())) {
+                entityVersionRegistry.allReviewsChanged(); // 리뷰 목록에 매장명이 포함됨
+            }
+        });
 
-        return StoreDto.fromEntity(storeRepository.save(store));
+        return StoreDto.fromEntity(updatedStore);
     }
 
     /**
      * 매장 삭제
      * @param storeId 매장 ID
      */
+    @Transactional
     public void deleteStore(Long storeId) {
         StoreEntity store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new ApplicationException(STORE_NOT_FOUND));
 
         storeRepository.delete(store);
+        storeRatingService.deleteRating(storeId);
+
+        TransactionHooks.afterCommit(() -> {
+            storeRankingService.removeStore(storeId);
+            evictStore(storeId, store.getStoreName());
+            storeSearchIndex.remove(storeId);
+            storeGeoIndex.remove(storeId);
+            entityVersionRegistry.evictStore(storeId);
+            entityVersionRegistry.storeReviewsChanged(storeId);
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 매장으로 검색 / 좌표 색인 초기화
+     * - 하나의 트랜잭션에 전체 매장이 쌓이지 않도록 청크 조회마다 별도 읽기 전용 트랜잭션 사용
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void warmUpIndexes() {
+        long lastId = 0L;
+        List<StoreEntity> chunk;
+        do {
+            chunk = storeRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, WARM_UP_CHUNK));
+            for (StoreEntity store : chunk) {
+                indexStore(store);
+                lastId = store.getId();
+            }
+        } while (chunk.size() == WARM_UP_CHUNK);
+
+        log.info("매장 색인 초기화 완료 - 검색 {}건, 좌표 {}건", storeSearchIndex.size(), storeGeoIndex.size());
+    }
+
+    // 리뷰 집계 테이블에서 평점 요약 조회 (매장 ID 로 한 행만 읽음)
+    private StoreDto withRating(StoreDto store) {
+        store.setRating(storeRatingService.getRatingSummary(store.getId()));
+        return store;
+    }
+
+    /**
+     * 매장 검색 / 좌표 / 순위표 색인 갱신
+     * @param store 색인할 매장 엔티티
+     */
+    private void indexStore(StoreEntity store) {
+        storeSearchIndex.index(StoreDto.fromEntity(store));
+        storeGeoIndex.put(store.getId(), store.getLatitude(), store.getLongitude());
+        storeRankingService.updateLocation(store.getId(), store.getLocation());
+    }
+
+    /**
+     * 매장 캐시 제거
+     * @param storeId   매장 ID
+     * @param storeName 매장명
+     */
+    private void evictStore(Long storeId, String storeName) {
+        storesById.invalidate(storeId);
+        storeIdsByName.invalidate(storeName);
     }
 
     /**
@@ -97,12 +373,31 @@ public class StoreService {
      * @return 생성된 매장 엔티티
      */
     private StoreEntity createStore(StoreRegisterDto.Request registerRequest) {
-        return storeRepository.save(
+        return saveStore(
                 StoreEntity.builder()
                         .storeName(registerRequest.getStoreName())
                         .location(registerRequest.getLocation())
                         .description(registerRequest.getDescription())
+                        .latitude(registerRequest.getLatitude())
+                        .longitude(registerRequest.getLongitude())
                         .build()
         );
     }
+
+    /**
+     * 매장 저장
+     * @param store 저장할 매장 엔티티
+     * @return 저장된 매장 엔티티
+     * @throws ApplicationException 매장명 유니크 인덱스 위반인 경우 (그 밖의 무결성 위반은 그대로 던짐)
+     */
+    private StoreEntity saveStore(StoreEntity store) {
+        try {
+            return storeRepository.saveAndFlush(store);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolations.isViolationOf(e, StoreEntity.STORE_NAME_CONSTRAINT)) {
+                throw new ApplicationException(ALREADY_EXIST_STORE);
+            }
+            throw e;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.reservation.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메소드 1회 처리에 허용하는 최대 SQL 문장 수
+ * - 초과하면 sql.budget.exceeded 메트릭 증가 + 경고 로그
+ * - sql.budget.fail-on-exceed=true (테스트) 이면 초과하는 문장 실행 시점에 SqlBudgetExceededException
+ * - 인증 필터 등 컨트롤러 이전 단계의 문장은 포함하지 않음
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int value();
+}
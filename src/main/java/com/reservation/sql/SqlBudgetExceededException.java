@@ -0,0 +1,11 @@
+package com.reservation.sql;
+
+/**
+ * 테스트 모드에서 엔드포인트가 선언한 SQL 문장 수(@SqlBudget)를 넘은 경우
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String endpoint, int budget, String sql) {
+        super(endpoint + " 의 SQL 예산(" + budget + ")을 초과했습니다. 초과한 문장: " + sql);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reservation.sql;
+
+/**
+ * 현재 요청(컨트롤러 메소드)의 SQL 실행 집계
+ * - SqlRequestInterceptor 가 컨트롤러 호출 전 / 후에 범위를 열고 닫음
+ * - 요청 밖(비동기 작업, 초기화 등)에서 실행된 문장은 BACKGROUND 로 집계
+ */
+public final class SqlRequestContext {
+
+    static final String BACKGROUND = "background";
+    static final int NO_BUDGET = -1;
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final int budget;
+    private int statements;
+    private long elapsedMillis;
+
+    private SqlRequestContext(String endpoint, int budget) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+    }
+
+    static void begin(String endpoint, int budget) {
+        CURRENT.set(new SqlRequestContext(endpoint, budget));
+    }
+
+    static SqlRequestContext end() {
+        SqlRequestContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    static SqlRequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return 현재 요청의 엔드포인트 (Controller.method), 요청 밖이면 BACKGROUND
+     */
+    static String currentEndpoint() {
+        SqlRequestContext context = CURRENT.get();
+        return context == null ? BACKGROUND : context.endpoint;
+    }
+
+    void record(long millis) {
+        statements++;
+        elapsedMillis += millis;
+    }
+
+    boolean wouldExceedBudget() {
+        return budget != NO_BUDGET && statements + 1 > budget;
+    }
+
+    boolean exceededBudget() {
+        return budget != NO_BUDGET && statements > budget;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int budget() {
+        return budget;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long elapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,50 @@
+package com.reservation.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 메소드 단위 SQL 문장 수 집계와 @SqlBudget 확인
+ * - sql.statements.per.request{endpoint} 분포 기록
+ * - 예산 초과 시 sql.budget.exceeded{endpoint} 증가 + 경고 로그
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlRequestInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            SqlBudget budget = method.getMethodAnnotation(SqlBudget.class);
+            SqlRequestContext.begin(method.getBeanType().getSimpleName() + "." + method.getMethod().getName(),
+                    budget == null ? SqlRequestContext.NO_BUDGET : budget.value());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlRequestContext context = SqlRequestContext.end();
+        if (context == null) {
+            return;
+        }
+        DistributionSummary.builder("sql.statements.per.request")
+                .tag("endpoint", context.endpoint())
+                .register(meterRegistry)
+                .record(context.statements());
+
+        if (context.exceededBudget()) {
+            meterRegistry.counter("sql.budget.exceeded", "endpoint", context.endpoint()).increment();
+            log.warn("{} SQL 예산 초과 - 예산 {}, 실행 {}건 ({} ms)",
+                    context.endpoint(), context.budget(), context.statements(), context.elapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.reservation.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 SQL 문장 실행 시간 측정 / 요청별 집계 / 느린 문장 로그
+ * - 문장마다 sql.statement{endpoint, type} 타이머 기록
+ * - 임계값을 넘은 문장만 표본 추출해 별도 스레드에서 로그 (요청 스레드는 로그 I/O 를 기다리지 않음)
+ * - 로그 큐가 가득 차면 버리고 sql.slow.dropped 증가
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final int SLOW_LOG_QUEUE_CAPACITY = 1000;
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdMillis;
+    private final double slowSampleRate;
+    private final boolean failOnBudgetExceeded;
+    private final Counter droppedSlowLogs;
+    private final ThreadPoolExecutor slowLogWriter;
+
+    public SqlStatementListener(MeterRegistry meterRegistry, long slowThresholdMillis, double slowSampleRate,
+                                boolean failOnBudgetExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.slowSampleRate = slowSampleRate;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+        this.droppedSlowLogs = meterRegistry.counter("sql.slow.dropped");
+        this.slowLogWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SLOW_LOG_QUEUE_CAPACITY),
+                task -> {
+                    Thread thread = new Thread(task, "slow-sql-logger");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> droppedSlowLogs.increment());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (failOnBudgetExceeded && context != null && context.wouldExceedBudget()) {
+            throw new SqlBudgetExceededException(context.endpoint(), context.budget(), sql(queryInfoList));
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        String endpoint = SqlRequestContext.currentEndpoint();
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.record(elapsedMillis);
+        }
+
+        Timer.builder("sql.statement")
+                .tag("endpoint", endpoint)
+                .tag("type", statementType(queryInfoList))
+                .register(meterRegistry)
+                .record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        if (elapsedMillis >= slowThresholdMillis
+                && (slowSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowSampleRate)) {
+            String sql = sql(queryInfoList);
+            boolean success = execInfo.isSuccess();
+            slowLogWriter.execute(() -> log.warn("느린 SQL {} ms [{}] success={} : {}", elapsedMillis, endpoint, success,
+                    sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql));
+        }
+    }
+
+    /**
+     * 남은 느린 SQL 로그 처리 후 로그 스레드 종료
+     */
+    public void shutdown() {
+        slowLogWriter.shutdown();
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+
+    private static String statementType(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return "other";
+        }
+        String sql = queryInfoList.get(0).getQuery().stripLeading();
+        int end = 0;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        String keyword = sql.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+}
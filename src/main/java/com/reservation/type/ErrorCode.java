@@ -13,6 +13,9 @@ public enum ErrorCode {
     // ============================
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "내부 서버 오류가 발생했습니다."), // 500
     INVALID_REQUEST(HttpStatus.BAD_REQUEST.value(), "잘못된 요청입니다."), // 400
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT.value(), "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도하세요."), // 409
+    TOO_MANY_IDS(HttpStatus.BAD_REQUEST.value(), "한 번에 조회할 수 있는 ID 수를 넘었습니다."), // 400
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도하세요."), // 503
 
     // ============================
     // 사용자 관련 오류 코드
@@ -20,6 +23,7 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST.value(), "사용자가 없습니다."), // 400
     PASSWORD_NOT_MATCH(HttpStatus.BAD_REQUEST.value(), "비밀번호가 일치하지 않습니다."), // 400
     ALREADY_EXIST_USER(HttpStatus.BAD_REQUEST.value(), "이미 가입된 회원입니다."), // 400
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS.value(), "로그인 시도가 너무 많습니다. 잠시 후 다시 시도하세요."), // 429
 
     // ============================
     // 매장 관련 오류 코드
@@ -42,6 +46,8 @@ public enum ErrorCode {
     REVIEW_NOT_FOUND(HttpStatus.BAD_REQUEST.value(), "리뷰를 찾을 수 없습니다."), // 400
     REVIEW_RATING_RANGE_OVER(HttpStatus.BAD_REQUEST.value(), "별점 범위를 넘어갔습니다."), // 400
     REVIEW_TEXT_TOO_LONG(HttpStatus.BAD_REQUEST.value(), "텍스트 길이가 범위를 넘어갔습니다."), // 400
+    REVIEW_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE.value(), "리뷰 등록 요청이 많습니다. 잠시 후 다시 시도하세요."), // 503
+    REVIEW_INGEST_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE.value(), "리뷰 등록 요청을 기록하지 못했습니다. 잠시 후 다시 시도하세요."), // 503
 
     // ============================
     // 보안 관련 오류 코드
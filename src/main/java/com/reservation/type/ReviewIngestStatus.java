@@ -0,0 +1,15 @@
+package com.reservation.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReviewIngestStatus {
+
+    PENDING("저장 대기"),
+    SAVED("저장 완료"),
+    FAILED("저장 실패");
+
+    private final String description;
+}
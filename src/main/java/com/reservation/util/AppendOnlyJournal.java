@@ -0,0 +1,218 @@
+package com.reservation.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * 처리 전 요청을 디스크에 남기는 추가 전용 저널
+ * - 레코드 : [길이(int)][CRC32(int)][내용], append 는 fsync 까지 끝난 뒤 반환
+ * - 동시에 append 한 스레드는 fsync 한 번을 함께 사용 (group commit)
+ * - fsync 중에는 잠금을 잡지 않고, 잠금은 ReentrantLock 사용 (virtual thread 가 carrier thread 에 고정되지 않음)
+ * - 열 때 남아 있던 레코드를 replayed 로 돌려주고, 중간에 끊긴 마지막 레코드는 잘라냄
+ * - append 한 레코드가 모두 completed 되면 파일을 비움 (처리가 계속 밀려 있으면 비우지 못하고 커짐)
+ */
+public final class AppendOnlyJournal implements Closeable {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final List<byte[]> replayed;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition syncDone = lock.newCondition();
+
+    // 아래 필드는 lock 을 잡고 접근
+    private long written;
+    private long synced;
+    private boolean syncing;
+    private int pending;
+
+    private AppendOnlyJournal(FileChannel channel, List<byte[]> replayed) {
+        this.channel = channel;
+        this.replayed = replayed;
+        this.pending = replayed.size();
+    }
+
+    /**
+     * 저널 열기 (없으면 생성)
+     * @param path 저널 파일 경로
+     * @return 남아 있던 레코드를 읽은 저널
+     * @throws IOException 파일을 열거나 읽을 수 없는 경우
+     */
+    public static AppendOnlyJournal open(Path path) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        FileChannel channel = FileChannel.open(absolute,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            List<byte[]> records = new ArrayList<>();
+            long valid = readRecords(channel, records);
+            if (valid < channel.size()) {
+                channel.truncate(valid);
+                channel.force(false);
+            }
+            channel.position(valid);
+            return new AppendOnlyJournal(channel, records);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 열 때 남아 있던 (completed 되지 않은) 레코드
+     */
+    public List<byte[]> replayed() {
+        return replayed;
+    }
+
+    /**
+     * 레코드 추가 (디스크에 기록된 뒤 반환)
+     * @param record 레코드 내용
+     * @throws IOException 쓰기 실패 (기록하지 못한 레코드는 잘라냄)
+     */
+    public void append(byte[] record) throws IOException {
+        if (record.length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("레코드가 너무 큽니다 - " + record.length + " bytes");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + record.length)
+                .putInt(record.length)
+                .putInt((int) crc.getValue())
+                .put(record)
+                .flip();
+
+        long sequence;
+        lock.lock();
+        try {
+            long start = channel.position();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                // 끊긴 레코드 뒤에 쓴 레코드는 다시 읽을 수 없으므로 잘라냄
+                channel.truncate(start);
+                channel.position(start);
+                throw e;
+            }
+            sequence = ++written;
+            pending++;
+        } finally {
+            lock.unlock();
+        }
+        sync(sequence);
+    }
+
+    /**
+     * 처리가 끝난 레코드 수 반영, 남은 레코드가 없으면 파일을 비움
+     * @param count 처리가 끝난 레코드 수
+     * @throws IOException 파일을 비우지 못한 경우 (다음 시작 시 처리가 끝난 레코드도 다시 읽힘)
+     */
+    public void completed(int count) throws IOException {
+        lock.lock();
+        try {
+            pending -= count;
+            if (pending <= 0) {
+                pending = 0;
+                channel.truncate(0);
+                channel.position(0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리되지 않은 레코드 수
+     */
+    public int pending() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // 먼저 들어온 스레드가 그때까지 쓰인 레코드를 잠금 없이 한 번에 fsync, 그동안 온 스레드는 기다렸다가 반영됐으면 바로 반환
+    // (fsync 가 실패하면 기다리던 스레드 중 하나가 다시 시도)
+    private void sync(long sequence) throws IOException {
+        lock.lock();
+        try {
+            while (synced < sequence) {
+                if (syncing) {
+                    syncDone.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long target = written;
+                boolean forced = false;
+                lock.unlock();
+                try {
+                    channel.force(false);
+                    forced = true;
+                } finally {
+                    lock.lock();
+                    syncing = false;
+                    if (forced) {
+                        synced = Math.max(synced, target);
+                    }
+                    syncDone.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 처음부터 온전한 레코드를 읽고, 마지막 온전한 레코드가 끝나는 위치 반환
+    private static long readRecords(FileChannel channel, List<byte[]> records) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            int checksum = header.getInt(4);
+            if (length < 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(length);
+            readFully(channel, body, position + HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(body.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            records.add(body.array());
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("저널 파일이 예상보다 짧습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.reservation.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키의 존재 여부를 근사 판정하는 Bloom 필터
+ * - mightContain 이 false 면 확실히 없는 키, true 면 있을 수도 있는 키
+ * - 비트는 AtomicLongArray 에 CAS 로 설정되어 동시 put / mightContain 에 락이 필요 없음
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long seed;
+
+    /**
+     * @param expectedInsertions 예상 키 개수
+     * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions, falsePositiveRate 값이 올바르지 않습니다.");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.seed = ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * 키 추가
+     * @param key 추가할 키
+     */
+    public void put(String key) {
+        long hash = Hashing.hash64(key, seed);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hash, i);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    /**
+     * 키 존재 가능성 확인
+     * @param key 확인할 키
+     * @return false 면 확실히 추가된 적 없는 키
+     */
+    public boolean mightContain(String key) {
+        long hash = Hashing.hash64(key, seed);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hash, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch-Mitzenmacher double hashing 으로 k 개의 비트 위치 생성
+    private long bitIndex(long hash, int i) {
+        long h1 = hash;
+        long h2 = Hashing.fmix64(hash ^ seed) | 1;
+        return Math.floorMod(h1 + i * h2, bitSize);
+    }
+}
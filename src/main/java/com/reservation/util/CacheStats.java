@@ -0,0 +1,21 @@
+package com.reservation.util;
+
+/**
+ * 캐시 통계 스냅샷
+ * @param name      캐시 이름
+ * @param size      현재 항목 수
+ * @param hitCount  적중 횟수 (다른 스레드의 적재 완료를 기다린 경우 포함)
+ * @param missCount 미적중 (로더 실행) 횟수
+ * @param loadNanos 로더 실행 누적 시간 (나노초)
+ */
+public record CacheStats(String name, int size, long hitCount, long missCount, long loadNanos) {
+
+    public double getHitRatio() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    public double getAverageLoadMillis() {
+        return missCount == 0 ? 0.0 : loadNanos / 1_000_000.0 / missCount;
+    }
+}
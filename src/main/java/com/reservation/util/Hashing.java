@@ -0,0 +1,40 @@
+package com.reservation.util;
+
+public final class Hashing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+    }
+
+    /**
+     * 문자열의 64비트 해시 계산 (seed 를 섞은 FNV-1a + fmix64)
+     * - String.hashCode 와 달리 충돌 키를 쉽게 만들 수 없도록 인스턴스별 seed 사용
+     * @param value 해시할 문자열
+     * @param seed  해시 seed
+     * @return 64비트 해시 값
+     */
+    public static long hash64(String value, long seed) {
+        long h = FNV_OFFSET_BASIS ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return fmix64(h);
+    }
+
+    /**
+     * 64비트 값의 비트를 고르게 섞음 (MurmurHash3 finalizer)
+     * @param h 입력 값
+     * @return 섞인 값
+     */
+    public static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
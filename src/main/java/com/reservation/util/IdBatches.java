@@ -0,0 +1,57 @@
+package com.reservation.util;
+
+import com.reservation.exception.ApplicationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.reservation.type.ErrorCode.TOO_MANY_IDS;
+
+/**
+ * 여러 ID 한 번에 조회 (multi-get) 보조
+ * - 중복 / null ID 제거 후 요청 순서 유지
+ * - IN 목록이 너무 길어지지 않도록 chunkSize 개씩 나눠 조회
+ */
+public final class IdBatches {
+
+    private IdBatches() {
+    }
+
+    /**
+     * 중복 / null 을 제거한 ID 목록 (처음 나온 순서 유지)
+     * @param ids    요청 ID 목록
+     * @param maxIds 허용하는 최대 ID 수 (중복 제거 후 기준)
+     * @return 중복 없는 ID 목록
+     * @throws ApplicationException 중복을 제거해도 maxIds 를 넘는 경우
+     */
+    public static List<Long> distinct(Collection<Long> ids, int maxIds) {
+        LinkedHashSet<Long> unique = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                unique.add(id);
+            }
+        }
+        if (unique.size() > maxIds) {
+            throw new ApplicationException(TOO_MANY_IDS);
+        }
+        return new ArrayList<>(unique);
+    }
+
+    /**
+     * chunkSize 개씩 나눠 조회한 결과를 합침
+     * @param ids       조회할 ID 목록
+     * @param chunkSize 한 번에 조회할 최대 ID 수
+     * @param loader    ID 묶음을 조회하는 함수 (IN 쿼리)
+     * @return 모든 묶음의 조회 결과 (순서는 loader 결과 순)
+     */
+    public static <T> List<T> loadInChunks(List<Long> ids, int chunkSize, Function<List<Long>, ? extends Collection<T>> loader) {
+        List<T> loaded = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            loaded.addAll(loader.apply(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,251 @@
+package com.reservation.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한이 있는 read-through 캐시
+ * - 같은 키를 동시에 요청하면 한 스레드만 로더를 실행하고 나머지는 그 결과를 기다림 (single-flight)
+ * - 최대 크기를 넘으면 second-chance FIFO 방식으로 최근 조회되지 않은 항목부터 제거
+ * - 로더가 null 을 반환하거나 예외를 던지면 캐시하지 않음
+ * - 적재 / 저장 후 ttl 이 지난 항목은 다음 조회에서 다시 적재 (다른 인스턴스나 SQL 로 바뀐 값이 ttl 안에 반영됨)
+ * - 캐시 밖에서 읽은 값은 putUnlessInvalidated 로 저장해, 읽는 사이 invalidate 된 옛 값이 다시 들어가지 않게 함
+ */
+public class SingleFlightCache<K, V> {
+
+    private static final long LOADING = Long.MAX_VALUE;
+
+    private final String name;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Node<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedNodes = new AtomicInteger();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * @param name        통계 이름
+     * @param maximumSize 최대 항목 수
+     * @param ttl         적재 / 저장 후 항목 유지 시간
+     */
+    public SingleFlightCache(String name, int maximumSize, Duration ttl) {
+        this(name, maximumSize, ttl, System::nanoTime);
+    }
+
+    // 테스트에서 시계를 직접 움직이기 위한 생성자
+    SingleFlightCache(String name, int maximumSize, Duration ttl, LongSupplier nanoClock) {
+        if (maximumSize < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("maximumSize 는 1 이상, ttl 은 0 보다 커야 합니다.");
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 캐시 조회, 없으면 로더로 적재
+     * @param key    조회 키
+     * @param loader 캐시에 없을 때 값을 읽어오는 함수 (null 반환 가능)
+     * @return 캐시된 값 또는 로더 결과
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        while (true) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                Entry<V> created = new Entry<>();
+                entry = entries.putIfAbsent(key, created);
+                if (entry == null) {
+                    misses.increment();
+                    return load(key, created, loader);
+                }
+            }
+            if (expired(entry)) {
+                // 만료 항목은 한 스레드만 제거에 성공하고, 이후 putIfAbsent 로 다시 single-flight 적재
+                entries.remove(key, entry);
+                continue;
+            }
+
+            hits.increment();
+            entry.accessed = true;
+            return await(entry.future);
+        }
+    }
+
+    /**
+     * 캐시에 있는 값만 조회 (적재 중인 항목은 결과를 기다림, 없으면 적재하지 않음)
+     * @param key 조회 키
+     * @return 캐시된 값, 없으면 null
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && expired(entry)) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        entry.accessed = true;
+        return await(entry.future);
+    }
+
+    /**
+     * 이미 읽어온 값을 캐시에 저장
+     * @param key   저장 키
+     * @param value 저장 값
+     */
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>();
+        entry.expiresAt = nanoClock.getAsLong() + ttlNanos;
+        entry.future.complete(value);
+        entries.put(key, entry);
+        enqueue(key, entry);
+    }
+
+    /**
+     * 캐시 밖에서 값을 읽기 전에 받아 두는 무효화 표식
+     * @return 지금까지의 invalidate 횟수
+     */
+    public long invalidationStamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * 캐시 밖에서 읽은 값을 저장, 읽기 전 받은 표식 이후 invalidate 가 있었으면 저장하지 않음
+     * - 다른 키의 invalidate 에도 저장을 건너뛰지만 다음 조회에서 다시 적재하므로 정확성에는 영향 없음
+     * @param key   저장 키
+     * @param value 저장 값
+     * @param stamp 값을 읽기 전에 받은 invalidationStamp
+     * @return 저장했으면 true
+     */
+    public boolean putUnlessInvalidated(K key, V value, long stamp) {
+        Entry<V> entry = new Entry<>();
+        entry.expiresAt = nanoClock.getAsLong() + ttlNanos;
+        entry.future.complete(value);
+        // 표식 확인과 저장을 키 단위 compute 안에서 함께 처리해, 표식이 바뀌었으면 옛 값을 잠깐이라도 보이지 않음
+        // (같은 키의 invalidate 도 compute 안에서 횟수를 올리므로 둘의 순서가 키 단위로 정해짐)
+        Entry<V> stored = entries.compute(key, (k, current) -> invalidations.get() == stamp ? entry : current);
+        if (stored != entry) {
+            return false;
+        }
+        enqueue(key, entry);
+        return true;
+    }
+
+    /**
+     * 캐시 항목 제거
+     * @param key 제거할 키
+     */
+    public void invalidate(K key) {
+        entries.compute(key, (k, current) -> {
+            invalidations.incrementAndGet();
+            return null;
+        });
+    }
+
+    /**
+     * 캐시 통계 조회
+     * @return 적중률과 적재 시간을 담은 CacheStats
+     */
+    public CacheStats stats() {
+        return new CacheStats(name, entries.size(), hits.sum(), misses.sum(), loadNanos.sum());
+    }
+
+    private V load(K key, Entry<V> entry, Function<? super K, ? extends V> loader) {
+        long start = System.nanoTime();
+        try {
+            V value = loader.apply(key);
+            entry.expiresAt = nanoClock.getAsLong() + ttlNanos;
+            entry.future.complete(value);
+            if (value == null) {
+                entries.remove(key, entry);
+            } else {
+                enqueue(key, entry);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // 적재 중인 항목은 만료되지 않음
+    private boolean expired(Entry<V> entry) {
+        long expiresAt = entry.expiresAt;
+        return expiresAt != LOADING && nanoClock.getAsLong() - expiresAt >= 0;
+    }
+
+    private void enqueue(K key, Entry<V> entry) {
+        evictionQueue.offer(new Node<>(key, entry));
+        queuedNodes.incrementAndGet();
+        evictIfNeeded();
+    }
+
+    // second-chance: 조회된 적 있는 항목은 한 번 더 기회를 주고 큐 뒤로 보냄
+    private void evictIfNeeded() {
+        int budget = queuedNodes.get() * 2;
+        while ((entries.size() > maximumSize || queuedNodes.get() > maximumSize * 2) && budget-- > 0) {
+            Node<K, V> node = evictionQueue.poll();
+            if (node == null) {
+                return;
+            }
+            queuedNodes.decrementAndGet();
+
+            if (entries.get(node.key) != node.entry) {
+                continue; // 이미 제거되었거나 새 항목으로 교체된 노드
+            }
+            if (entries.size() <= maximumSize) {
+                requeue(node); // 크기 초과가 아니라 오래된 노드 정리 중이면 유효한 노드는 유지
+            } else if (node.entry.accessed) {
+                node.entry.accessed = false;
+                requeue(node);
+            } else {
+                entries.remove(node.key, node.entry);
+            }
+        }
+    }
+
+    private void requeue(Node<K, V> node) {
+        evictionQueue.offer(node);
+        queuedNodes.incrementAndGet();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile boolean accessed;
+        private volatile long expiresAt = LOADING;
+    }
+
+    private record Node<K, V>(K key, Entry<V> entry) {
+    }
+}
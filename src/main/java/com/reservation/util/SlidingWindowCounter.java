@@ -0,0 +1,158 @@
+package com.reservation.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 시도 횟수를 슬라이딩 윈도우로 근사 집계하는 고정 크기 카운터
+ * - depth x width 셀의 Count-Min 스케치 구조로, 키 개수와 무관하게 메모리 사용량이 고정됨
+ * - 각 셀은 (윈도우 번호 32비트 | 현재 윈도우 횟수 16비트 | 이전 윈도우 횟수 16비트)를 long 하나에 담아 CAS 로 갱신 (락 없음)
+ * - 서로 다른 키가 셀을 공유하면 과대 집계될 수 있지만 과소 집계되지는 않음
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MASK = 0xFFFF_FFFFL;
+    private static final int MIN_WIDTH = 1 << 10;
+    private static final int MAX_WIDTH = 1 << 22;
+
+    private final int depth;
+    private final int width;
+    private final long windowMillis;
+    private final long seed;
+    private final AtomicLongArray cells;
+
+    /**
+     * @param depth        해시 행 개수 (클수록 충돌에 의한 과대 집계 감소)
+     * @param width        행당 셀 개수 (2의 거듭제곱)
+     * @param windowMillis 윈도우 길이 (밀리초)
+     */
+    public SlidingWindowCounter(int depth, int width, long windowMillis) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1 || windowMillis < 1) {
+            throw new IllegalArgumentException("depth, width(2의 거듭제곱), windowMillis 값이 올바르지 않습니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.windowMillis = windowMillis;
+        this.seed = ThreadLocalRandom.current().nextLong();
+        this.cells = new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * 윈도우당 expectedKeys 개의 키가 들어와도 과대 집계가 limit 의 절반 이하로 유지되는 행당 셀 개수
+     * - Count-Min 오차 한계 : 추정치 <= 실제 횟수 + e * N / width (확률 1 - e^-depth), 이를 limit / 2 이하로 맞춤
+     * - conservative update 를 쓰므로 실제 오차는 한계보다 훨씬 작음 (1백만 키 / 한도 10 에서 대부분 0 ~ 1)
+     * @param expectedKeys 한 윈도우에 들어올 것으로 예상하는 서로 다른 키 수
+     * @param limit        키별 윈도우당 허용 횟수
+     * @return 2의 거듭제곱 셀 개수 (1024 ~ 4194304)
+     */
+    public static int widthFor(long expectedKeys, int limit) {
+        double width = 2 * Math.E * expectedKeys / Math.max(limit, 1);
+        if (width >= MAX_WIDTH) {
+            return MAX_WIDTH;
+        }
+        return Math.max(MIN_WIDTH, Integer.highestOneBit((int) Math.ceil(width) - 1) << 1);
+    }
+
+    /**
+     * 키의 시도 1회를 기록하고, 기록 후 슬라이딩 윈도우 내 추정 시도 횟수 반환
+     * - 추정치가 가장 작은 행만 증가시키는 conservative update 로 충돌 오차를 줄임
+     * @param key       집계 키
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 최근 windowMillis 동안의 추정 시도 횟수
+     */
+    public int increment(String key, long nowMillis) {
+        long window = (nowMillis / windowMillis) & WINDOW_MASK;
+        double weight = 1.0 - (double) (nowMillis % windowMillis) / windowMillis;
+        long hash = Hashing.hash64(key, seed);
+
+        int[] indexes = new int[depth];
+        double[] estimates = new double[depth];
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = index(hash, row);
+            long cell = roll(cells.get(indexes[row]), window);
+            estimates[row] = estimate(cell, weight);
+            min = Math.min(min, estimates[row]);
+        }
+
+        for (int row = 0; row < depth; row++) {
+            if (estimates[row] <= min) {
+                incrementCell(indexes[row], window);
+            }
+        }
+        return (int) Math.ceil(min) + 1;
+    }
+
+    /**
+     * 기록 없이 현재 추정 시도 횟수만 조회
+     * @param key       집계 키
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 최근 windowMillis 동안의 추정 시도 횟수
+     */
+    public int estimate(String key, long nowMillis) {
+        long window = (nowMillis / windowMillis) & WINDOW_MASK;
+        double weight = 1.0 - (double) (nowMillis % windowMillis) / windowMillis;
+        long hash = Hashing.hash64(key, seed);
+
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, estimate(roll(cells.get(index(hash, row)), window), weight));
+        }
+        return (int) Math.ceil(min);
+    }
+
+    /**
+     * 카운터 셀이 차지하는 메모리 (바이트), 생성 이후 변하지 않음
+     */
+    public long footprintBytes() {
+        return (long) cells.length() * Long.BYTES;
+    }
+
+    private int index(long hash, int row) {
+        // double hashing 으로 행마다 다른 위치 선택
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & (width - 1));
+    }
+
+    private void incrementCell(int index, long window) {
+        while (true) {
+            long current = cells.get(index);
+            long rolled = roll(current, window);
+            long count = Math.min(currentCount(rolled) + 1, COUNT_MASK);
+            long updated = pack(window, count, previousCount(rolled));
+            if (current == updated || cells.compareAndSet(index, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    // 셀의 윈도우가 지났으면 현재 횟수를 이전 윈도우로 넘김
+    private static long roll(long cell, long window) {
+        long cellWindow = cell >>> (COUNT_BITS * 2);
+        if (cellWindow == window) {
+            return cell;
+        }
+        long previous = cellWindow == ((window - 1) & WINDOW_MASK) ? currentCount(cell) : 0;
+        return pack(window, 0, previous);
+    }
+
+    // 이전 윈도우 횟수는 현재 윈도우에서 남은 비율만큼만 반영
+    private static double estimate(long cell, double previousWeight) {
+        return currentCount(cell) + previousCount(cell) * previousWeight;
+    }
+
+    private static long pack(long window, long current, long previous) {
+        return (window << (COUNT_BITS * 2)) | (current << COUNT_BITS) | previous;
+    }
+
+    private static long currentCount(long cell) {
+        return (cell >>> COUNT_BITS) & COUNT_MASK;
+    }
+
+    private static long previousCount(long cell) {
+        return cell & COUNT_MASK;
+    }
+}
@@ -0,0 +1,42 @@
+package com.reservation.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * 유니크 제약 위반 판별
+ * - DataIntegrityViolationException 은 NOT NULL / 외래 키 / 길이 초과 위반도 포함하므로 제약 이름으로 구분
+ * - Hibernate 가 추출한 제약 이름을 먼저 보고, 없으면 무결성 위반 SQLState(23xxx) 메시지에 제약 이름이 있는지 확인
+ *   (MySQL : Duplicate entry '...' for key 'store_entity.uk_store_store_name', H2 : ... "PUBLIC.UK_STORE_STORE_NAME_INDEX_A ON ...")
+ */
+public final class UniqueViolations {
+
+    private UniqueViolations() {
+    }
+
+    /**
+     * @param e              저장 / flush 중 발생한 무결성 위반
+     * @param constraintName 유니크 제약 이름
+     * @return 해당 유니크 제약 위반이면 true
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        String name = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && mentions(violation.getConstraintName(), name)) {
+                return true;
+            }
+            if (cause instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("23")
+                    && mentions(sql.getMessage(), name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mentions(String text, String constraintName) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+}
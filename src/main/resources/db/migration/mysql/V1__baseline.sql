@@ -0,0 +1,73 @@
+-- 기준 스키마 (ddl-auto: update 로 만들어지던 스키마와 같은 구조)
+-- 이미 ddl-auto 로 만들어진 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 적용된 것으로 기록하고 건너뜀
+
+create table member_entity (
+    id           bigint       not null auto_increment,
+    username     varchar(255) not null,
+    password     varchar(255) not null,
+    phone_number varchar(255) not null,
+    member_type  enum ('USER','MANAGER'),
+    version      bigint       not null default 0,
+    primary key (id),
+    constraint uk_member_username unique (username)
+) engine = InnoDB default charset = utf8mb4;
+
+create table store_entity (
+    id          bigint       not null auto_increment,
+    store_name  varchar(50)  not null,
+    location    varchar(50)  not null,
+    description varchar(100),
+    latitude    double,
+    longitude   double,
+    version     bigint       not null default 0,
+    primary key (id),
+    constraint uk_store_store_name unique (store_name)
+) engine = InnoDB default charset = utf8mb4;
+
+create table reservation_entity (
+    id                 bigint not null auto_increment,
+    member_id          bigint,
+    store_id           bigint,
+    reservation_status enum ('STANDBY','APPROVAL','CANCELED'),
+    arrival_status     enum ('READY','ARRIVED','NO_SHOW'),
+    reservation_date   date,
+    reservation_time   time(6),
+    primary key (id),
+    constraint fk_reservation_member foreign key (member_id) references member_entity (id),
+    constraint fk_reservation_store foreign key (store_id) references store_entity (id)
+) engine = InnoDB default charset = utf8mb4;
+
+-- id 는 ReviewIdGenerator 가 id_block 에서 발급 (auto_increment 아님)
+create table review_entity (
+    id             bigint       not null,
+    content        varchar(255),
+    rating         integer      not null,
+    member_id      bigint       not null,
+    store_id       bigint       not null,
+    reservation_id bigint,
+    version        bigint       not null default 0,
+    primary key (id),
+    index idx_review_store_id_id (store_id, id),
+    index idx_review_member_id_id (member_id, id),
+    constraint fk_review_member foreign key (member_id) references member_entity (id),
+    constraint fk_review_store foreign key (store_id) references store_entity (id),
+    constraint fk_review_reservation foreign key (reservation_id) references reservation_entity (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table store_rating_entity (
+    store_id      bigint not null,
+    review_count  bigint not null,
+    rating_sum    bigint not null,
+    rating1_count bigint not null,
+    rating2_count bigint not null,
+    rating3_count bigint not null,
+    rating4_count bigint not null,
+    rating5_count bigint not null,
+    primary key (store_id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table id_block (
+    name    varchar(50) not null,
+    next_id bigint      not null,
+    primary key (name)
+) engine = InnoDB default charset = utf8mb4;
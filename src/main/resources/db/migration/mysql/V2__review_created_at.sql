@@ -0,0 +1,14 @@
+-- 리뷰 피드를 작성 시각 순으로 정렬 / 페이징
+-- 리뷰 ID 는 인스턴스마다 블록 단위로 발급되어 시간 순서가 아니므로 ID 대신 (created_at, id) 를 커서로 사용
+-- 기존 리뷰는 작성 시각을 알 수 없어 마이그레이션 시각으로 채움 (같은 시각 안에서는 ID 순)
+
+alter table review_entity
+    add column created_at datetime(6) not null default current_timestamp(6);
+
+alter table review_entity
+    add index idx_review_store_id_created_at (store_id, created_at, id),
+    add index idx_review_member_id_created_at (member_id, created_at, id);
+
+alter table review_entity
+    drop index idx_review_store_id_id,
+    drop index idx_review_member_id_id;
@@ -0,0 +1,7 @@
+-- 비동기 등록으로 접수했지만 저장할 수 없는 리뷰 (GET /api/v1/reviews/async/{reviewId} 의 FAILED)
+create table review_ingest_failure (
+    review_id bigint       not null,
+    reason    varchar(255) not null,
+    failed_at datetime(6)  not null,
+    primary key (review_id)
+) engine = InnoDB default charset = utf8mb4;
@@ -0,0 +1,20 @@
+-- ddl-auto: update 로 만들어진 뒤 V1 로 baseline 된 DB 를 V1 로 새로 만든 DB 와 같은 구조로 맞춤
+-- Hibernate 가 만든 스키마와 V1 의 차이 (V1 으로 만든 DB 에서는 아래 문장이 아무것도 바꾸지 않음)
+-- - review_entity.reservation_id : 처음 매핑(nullable = false) 그대로 NOT NULL, 리뷰 등록 / 비동기 적재는 예약을 지정하지 않아 INSERT 실패
+-- - review_entity.id : 처음 매핑(IDENTITY) 그대로 auto_increment, 지금은 ReviewIdGenerator 가 발급
+-- - review_entity.content / member_entity.username : @Size(max) 가 길이로 반영되어 varchar(200) / varchar(50)
+-- - reservation_entity.reservation_date / reservation_time : @NotNull 이 NOT NULL 로 반영됨
+-- 길이 / NULL 허용은 V1 쪽(더 넓은 쪽)으로 맞춰 기존 행 때문에 실패하지 않음 (값 검증은 엔티티의 Bean Validation 이 담당)
+-- 외래 키 / 외래 키 인덱스 이름(FK...)과 rating 의 check 제약(@Min / @Max)은 Hibernate 가 만든 그대로 두어도 동작이 같아 맞추지 않음
+
+alter table review_entity
+    modify id bigint not null,
+    modify content varchar(255),
+    modify reservation_id bigint null;
+
+alter table member_entity
+    modify username varchar(255) not null;
+
+alter table reservation_entity
+    modify reservation_date date null,
+    modify reservation_time time(6) null;
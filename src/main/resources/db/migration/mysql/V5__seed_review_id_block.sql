@@ -0,0 +1,6 @@
+-- 리뷰 ID 블록 행을 미리 생성 (ReviewIdGenerator 는 잠금을 잡는 UPDATE 로만 예약)
+-- 처음 예약하는 인스턴스들이 동시에 행을 만들며 생기던 교착 상태 / 중복 키 실패를 없앰
+-- 이미 예약된 적이 있어 행이 있으면 그대로 둠
+insert ignore into id_block (name, next_id)
+select 'review', coalesce(max(id), 0) + 1
+from review_entity;
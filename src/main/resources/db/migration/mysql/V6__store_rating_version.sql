@@ -0,0 +1,4 @@
+-- 매장 평점 집계 행 버전 (upsert 마다 1 씩 증가)
+-- 순위표는 커밋 후 집계 행 값을 버전과 함께 받아, 늦게 도착한 이전 집계가 최신 집계를 덮어쓰지 않게 함
+alter table store_rating_entity
+    add column version bigint not null default 0;
@@ -0,0 +1,129 @@
+package com.reservation.benchmark;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.review.ReviewRegisterDto;
+import com.reservation.exception.ApplicationException;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.service.ReviewIngestionService;
+import com.reservation.service.ReviewService;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.MemberType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 리뷰 등록 처리량 비교 (동기 저장 vs 비동기 배치 저장)
+ * - 임베디드 H2 에 회원 / 매장을 만든 뒤 여러 스레드가 동시에 리뷰 등록
+ * - 비동기 경로는 모든 리뷰가 테이블에 저장될 때까지의 시간으로 측정
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewIngestionBenchmark {
+
+    private static final int CLIENTS = 8;
+    private static final int REVIEWS = 20_000;
+    private static final int STORE_COUNT = 50;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewIngestionService reviewIngestionService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Test
+    void synchronousVersusWriteBehind() throws Exception {
+        Long memberId = memberRepository.save(MemberEntity.builder()
+                .username("benchmark")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .memberType(MemberType.USER)
+                .build()).getId();
+        List<Long> storeIds = new ArrayList<>();
+        for (int i = 0; i < STORE_COUNT; i++) {
+            storeIds.add(storeRepository.save(StoreEntity.builder()
+                    .storeName("store-" + i)
+                    .location("location-" + i)
+                    .build()).getId());
+        }
+
+        double synchronous = run(memberId, storeIds, reviewService::createReview);
+        long afterSynchronous = reviewRepository.count();
+
+        long start = System.nanoTime();
+        run(memberId, storeIds, reviewIngestionService::submit);
+        double accepted = REVIEWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+        while (reviewRepository.count() < afterSynchronous + REVIEWS) {
+            Thread.sleep(10);
+        }
+        double writeBehind = REVIEWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        System.out.printf("[ReviewIngestionBenchmark] clients=%d, reviews=%d%n", CLIENTS, REVIEWS);
+        System.out.printf("  synchronous  : %10.0f reviews/s%n", synchronous);
+        System.out.printf("  write-behind : %10.0f reviews/s stored (%.0f accepted/s)%n", writeBehind, accepted);
+
+        assertEquals(2L * REVIEWS, reviewRepository.count());
+    }
+
+    // 여러 스레드로 리뷰 등록, 초당 처리 건수 반환 (큐가 가득 차면 잠시 후 재시도)
+    private static double run(Long memberId, List<Long> storeIds, Consumer<ReviewRegisterDto> register) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < REVIEWS / CLIENTS; i++) {
+                    ReviewRegisterDto review = ReviewRegisterDto.builder()
+                            .memberId(memberId)
+                            .storeId(storeIds.get(random.nextInt(storeIds.size())))
+                            .content("리뷰 내용 " + i)
+                            .rating(1 + random.nextInt(5))
+                            .build();
+                    while (true) {
+                        try {
+                            register.accept(review);
+                            break;
+                        } catch (ApplicationException e) {
+                            if (e.getErrorCode() != ErrorCode.REVIEW_QUEUE_FULL) {
+                                throw e;
+                            }
+                            Thread.sleep(1);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return REVIEWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reservation.benchmark;
+
+import com.reservation.StoreReservationApplication;
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.reservation.ReservationDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.service.ReservationService;
+import com.reservation.type.MemberType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 예약 등록 1건당 SELECT 수 비교 (2차 캐시 끔 vs 켬)
+ * - 같은 데이터로 애플리케이션을 두 번 띄워 2차 캐시 설정만 바꿔 측정
+ * - 매 예약은 서로 다른 회원 / 매장으로 등록해 매장 메모리 캐시(storesById)에 기대지 않는 경우를 측정
+ * - 캐시 끔 : 회원 조회 + 매장 조회 + 예약 중복 확인 = 3, 캐시 켬 : 예약 중복 확인 = 1
+ */
+@Tag("benchmark")
+class SecondLevelCacheBenchmark {
+
+    private static final int RESERVATIONS = 2_000;
+
+    @Test
+    void selectsPerReservation() {
+        Result withoutCache = run("l2_off", false);
+        Result withCache = run("l2_on", true);
+
+        System.out.printf("[SecondLevelCacheBenchmark] reservations=%d%n", RESERVATIONS);
+        System.out.printf("  2nd-level cache off : %.2f selects/reservation, %8.0f reservations/s%n",
+                withoutCache.selectsPerReservation(), withoutCache.throughput());
+        System.out.printf("  2nd-level cache on  : %.2f selects/reservation, %8.0f reservations/s%n",
+                withCache.selectsPerReservation(), withCache.throughput());
+
+        assertEquals(3.0, withoutCache.selectsPerReservation(), 0.01);
+        assertEquals(1.0, withCache.selectsPerReservation(), 0.01);
+    }
+
+    private static Result run(String database, boolean secondLevelCache) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreReservationApplication.class)
+                .profiles("test")
+                .run("--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache)) {
+            MemberRepository memberRepository = context.getBean(MemberRepository.class);
+            StoreRepository storeRepository = context.getBean(StoreRepository.class);
+            ReservationService reservationService = context.getBean(ReservationService.class);
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class).getStatistics();
+
+            List<Long> memberIds = new ArrayList<>();
+            List<Long> storeIds = new ArrayList<>();
+            for (int i = 0; i < RESERVATIONS; i++) {
+                memberIds.add(memberRepository.save(MemberEntity.builder()
+                        .username("member-" + i)
+                        .password("password")
+                        .phoneNumber("010-0000-0000")
+                        .memberType(MemberType.USER)
+                        .build()).getId());
+                storeIds.add(storeRepository.save(StoreEntity.builder()
+                        .storeName("store-" + i)
+                        .location("location-" + i % 10)
+                        .build()).getId());
+            }
+
+            ReservationDto reservation = ReservationDto.builder()
+                    .reservationDate(LocalDate.now().plusDays(1))
+                    .reservationTime(LocalTime.of(12, 0))
+                    .build();
+
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < RESERVATIONS; i++) {
+                reservationService.createReservationEntity(reservation, memberIds.get(i), storeIds.get(i));
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            long selects = statistics.getPrepareStatementCount() - statistics.getEntityInsertCount();
+            return new Result((double) selects / RESERVATIONS, RESERVATIONS / seconds);
+        }
+    }
+
+    private record Result(double selectsPerReservation, double throughput) {
+    }
+}
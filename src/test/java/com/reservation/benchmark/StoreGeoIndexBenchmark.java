@@ -0,0 +1,79 @@
+package com.reservation.benchmark;
+
+import com.reservation.geo.GeoHash;
+import com.reservation.geo.StoreGeoIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 매장 1,000,000건 좌표 색인 후 근접 검색 지연 시간 측정
+ * - 결과는 전체 매장 거리 계산(brute force) 결과와 비교해 정확성 확인
+ */
+@Tag("benchmark")
+class StoreGeoIndexBenchmark {
+
+    private static final int STORE_COUNT = 1_000_000;
+    private static final int QUERIES = 2_000;
+    private static final double RADIUS_KM = 3.0;
+    private static final int LIMIT = 20;
+
+    // 대한민국 대략적인 범위
+    private static final double MIN_LAT = 33.0;
+    private static final double MAX_LAT = 38.5;
+    private static final double MIN_LNG = 125.0;
+    private static final double MAX_LNG = 130.0;
+
+    @Test
+    void nearestLatency() {
+        Random random = new Random(42);
+        StoreGeoIndex index = new StoreGeoIndex();
+        double[] lats = new double[STORE_COUNT];
+        double[] lngs = new double[STORE_COUNT];
+
+        long indexStart = System.nanoTime();
+        for (int i = 0; i < STORE_COUNT; i++) {
+            lats[i] = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+            lngs[i] = MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+            index.put((long) i, lats[i], lngs[i]);
+        }
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            double lat = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+            double lng = MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+            long start = System.nanoTime();
+            index.nearest(lat, lng, RADIUS_KM, LIMIT);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("[StoreGeoIndexBenchmark] stores=%d, index build=%d ms%n", STORE_COUNT, indexMillis);
+        System.out.printf("  nearest p50 : %.3f ms%n", latencies[QUERIES / 2] / 1_000_000.0);
+        System.out.printf("  nearest p99 : %.3f ms%n", latencies[QUERIES * 99 / 100] / 1_000_000.0);
+
+        // 정확성 확인
+        for (int i = 0; i < 20; i++) {
+            double lat = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+            double lng = MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+            List<StoreGeoIndex.NearbyStore> result = index.nearest(lat, lng, RADIUS_KM, LIMIT);
+            long expected = Arrays.stream(bruteForce(lats, lngs, lat, lng)).filter(d -> d <= RADIUS_KM).limit(LIMIT).count();
+            assertEquals(expected, result.size());
+        }
+    }
+
+    private static double[] bruteForce(double[] lats, double[] lngs, double lat, double lng) {
+        double[] distances = new double[lats.length];
+        for (int i = 0; i < lats.length; i++) {
+            distances[i] = GeoHash.distanceKm(lat, lng, lats[i], lngs[i]);
+        }
+        Arrays.sort(distances);
+        return distances;
+    }
+}
@@ -0,0 +1,115 @@
+package com.reservation.benchmark;
+
+import com.reservation.ranking.StoreLeaderboard;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 매장 100,000건 순위표에 여러 스레드가 동시에 리뷰 변화량을 반영할 때 처리량 측정
+ * - 갱신 중 상위 50건 조회 지연 시간도 함께 측정
+ * - 마지막에 매장별 누적 값으로 계산한 순위와 비교해 정확성 확인
+ */
+@Tag("benchmark")
+class StoreLeaderboardBenchmark {
+
+    private static final int STORE_COUNT = 100_000;
+    private static final int WRITERS = 8;
+    private static final int UPDATES_PER_WRITER = 250_000;
+    private static final int LIMIT = 50;
+    private static final long READ_INTERVAL_NANOS = 100_000;
+    private static final double PRIOR_WEIGHT = 10;
+    private static final double PRIOR_MEAN = 3.0;
+
+    @Test
+    void concurrentUpdateThroughput() throws Exception {
+        StoreLeaderboard leaderboard = new StoreLeaderboard(PRIOR_WEIGHT, PRIOR_MEAN);
+        AtomicLongArray counts = new AtomicLongArray(STORE_COUNT);
+        AtomicLongArray sums = new AtomicLongArray(STORE_COUNT);
+        for (int i = 0; i < STORE_COUNT; i++) {
+            leaderboard.setLocation((long) i, "location-" + (i % 20));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(WRITERS);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Long> readLatencies = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                    for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                        int store = random.nextInt(STORE_COUNT);
+                        int rating = 1 + random.nextInt(5);
+                        counts.incrementAndGet(store);
+                        sums.addAndGet(store, rating);
+                        leaderboard.addRatings((long) store, 1, rating);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+                return null;
+            });
+        }
+        executor.submit(() -> {
+            start.await();
+            while (writing.get()) {
+                long begin = System.nanoTime();
+                leaderboard.top(null, LIMIT);
+                readLatencies.add(System.nanoTime() - begin);
+                LockSupport.parkNanos(READ_INTERVAL_NANOS);
+            }
+            return null;
+        });
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        writing.set(false);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        long[] reads = readLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long updates = (long) WRITERS * UPDATES_PER_WRITER;
+        System.out.printf("[StoreLeaderboardBenchmark] stores=%d, writers=%d, updates=%d%n", STORE_COUNT, WRITERS, updates);
+        System.out.printf("  update throughput : %.0f ops/s%n", updates / (elapsed / 1_000_000_000.0));
+        if (reads.length > 0) {
+            System.out.printf("  top(%d) p50       : %.3f ms (%d reads)%n", LIMIT, reads[reads.length / 2] / 1_000_000.0, reads.length);
+            System.out.printf("  top(%d) p99       : %.3f ms%n", LIMIT, reads[reads.length * 99 / 100] / 1_000_000.0);
+        }
+
+        // 정확성 확인
+        Long[] expected = new Long[STORE_COUNT];
+        double[] scores = new double[STORE_COUNT];
+        for (int i = 0; i < STORE_COUNT; i++) {
+            expected[i] = (long) i;
+            scores[i] = (PRIOR_WEIGHT * PRIOR_MEAN + sums.get(i)) / (PRIOR_WEIGHT + counts.get(i));
+        }
+        Arrays.sort(expected, Comparator.<Long>comparingDouble(id -> scores[id.intValue()]).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        List<StoreLeaderboard.RankedStore> top = leaderboard.top(null, LIMIT);
+        for (int i = 0; i < LIMIT; i++) {
+            assertEquals(expected[i], top.get(i).storeId());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.reservation.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 매장명 조회 지연 시간 비교 (인덱스 없음 vs 유니크 인덱스)
+ * - 매장 100,000건을 임베디드 H2 에 적재한 뒤 무작위 매장명 조회
+ */
+@Tag("benchmark")
+class StoreNameLookupBenchmark {
+
+    private static final int STORE_COUNT = 100_000;
+    private static final int LOOKUPS = 2_000;
+    private static final int WARM_UP = 200;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:store_lookup;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table store_no_index (id bigint auto_increment primary key, "
+                    + "store_name varchar(50) not null, location varchar(50) not null, description varchar(100))");
+            statement.execute("create table store_unique_index (id bigint auto_increment primary key, "
+                    + "store_name varchar(50) not null, location varchar(50) not null, description varchar(100))");
+            statement.execute("alter table store_unique_index add constraint uk_store_store_name unique (store_name)");
+        }
+        seed("store_no_index");
+        seed("store_unique_index");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void lookupByStoreName() throws SQLException {
+        double withoutIndex = measure("store_no_index");
+        double withIndex = measure("store_unique_index");
+
+        System.out.printf("[StoreNameLookupBenchmark] stores=%d, lookups=%d%n", STORE_COUNT, LOOKUPS);
+        System.out.printf("  without index : %10.1f us/lookup%n", withoutIndex);
+        System.out.printf("  unique index  : %10.1f us/lookup%n", withIndex);
+
+        assertTrue(withIndex < withoutIndex);
+    }
+
+    private static void seed(String table) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into " + table + " (store_name, location, description) values (?, ?, ?)")) {
+            for (int i = 0; i < STORE_COUNT; i++) {
+                insert.setString(1, "store-" + i);
+                insert.setString(2, "location-" + (i % 500));
+                insert.setString(3, "description-" + i);
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    // 조회 1건당 평균 지연 시간 (마이크로초)
+    private static double measure(String table) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "select id, store_name, location, description from " + table + " where store_name = ?")) {
+            for (int i = 0; i < WARM_UP; i++) {
+                lookup(select);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                lookup(select);
+            }
+            return (System.nanoTime() - start) / 1_000.0 / LOOKUPS;
+        }
+    }
+
+    private static void lookup(PreparedStatement select) throws SQLException {
+        select.setString(1, "store-" + ThreadLocalRandom.current().nextInt(STORE_COUNT));
+        try (ResultSet resultSet = select.executeQuery()) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("매장을 찾을 수 없습니다.");
+            }
+        }
+    }
+}
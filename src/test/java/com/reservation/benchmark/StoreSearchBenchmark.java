@@ -0,0 +1,76 @@
+package com.reservation.benchmark;
+
+import com.reservation.dto.store.StoreDto;
+import com.reservation.search.StoreSearchIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 매장 100,000건 색인 후 검색 지연 시간 측정 (p99 5 ms 이내)
+ */
+@Tag("benchmark")
+class StoreSearchBenchmark {
+
+    private static final int STORE_COUNT = 100_000;
+    private static final int QUERIES = 5_000;
+
+    private static final String[] AREAS = {"강남", "홍대", "신촌", "잠실", "판교", "해운대", "서면", "성수", "이태원", "여의도"};
+    private static final String[] FOODS = {"국밥", "냉면", "파스타", "치킨", "초밥", "삼겹살", "떡볶이", "카페", "버거", "pizza"};
+    private static final String[] QUERY_SAMPLES = {"강남 국밥", "홍대 파", "치킨", "성수 카페", "piz", "해운대 초밥", "삼겹", "판교역 버거"};
+
+    @Test
+    void searchLatency() {
+        Random random = new Random(42);
+        StoreSearchIndex index = new StoreSearchIndex();
+
+        long indexStart = System.nanoTime();
+        for (long id = 1; id <= STORE_COUNT; id++) {
+            String area = AREAS[random.nextInt(AREAS.length)];
+            String food = FOODS[random.nextInt(FOODS.length)];
+            index.index(store(id, area + food + " " + id + "호점", "서울 " + area + "역 " + random.nextInt(100) + "번 출구",
+                    area + "에서 가장 맛있는 " + food));
+        }
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+        // JIT 워밍업
+        for (int i = 0; i < QUERIES; i++) {
+            index.search(QUERY_SAMPLES[i % QUERY_SAMPLES.length], 20);
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String query = QUERY_SAMPLES[i % QUERY_SAMPLES.length];
+            long start = System.nanoTime();
+            List<StoreDto> result = index.search(query, 20);
+            latencies[i] = System.nanoTime() - start;
+            if (i == 0) {
+                assertTrue(!result.isEmpty());
+            }
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[QUERIES / 2] / 1_000_000.0;
+        double p99 = latencies[QUERIES * 99 / 100] / 1_000_000.0;
+        System.out.printf("[StoreSearchBenchmark] stores=%d, index build=%d ms%n", STORE_COUNT, indexMillis);
+        System.out.printf("  search p50 : %.3f ms%n", p50);
+        System.out.printf("  search p99 : %.3f ms%n", p99);
+
+        // 목표는 거의 모든 요청이 5 ms 안에 끝나는 것이므로 중앙값이 아니라 꼬리 지연으로 확인
+        assertTrue(p99 < 5.0, "search p99 " + p99 + " ms");
+    }
+
+    private static StoreDto store(Long id, String storeName, String location, String description) {
+        return StoreDto.builder()
+                .id(id)
+                .storeName(storeName)
+                .location(location)
+                .description(description)
+                .build();
+    }
+}
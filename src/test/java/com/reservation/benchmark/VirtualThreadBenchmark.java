@@ -0,0 +1,174 @@
+package com.reservation.benchmark;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.repository.MemberRepository;
+import com.reservation.type.MemberType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시 클라이언트 2,000명 기준 요청 처리량 / p99 측정
+ * - DB 호출마다 MySQL 왕복 시간을 흉내 내는 지연(QUERY_LATENCY)을 넣은 H2 사용
+ * - 매 요청이 회원 테이블을 한 번 조회하는 GET /api/v1/members/available 호출
+ * - 플랫폼 스레드 : ./gradlew benchmark --tests '*VirtualThreadBenchmark'
+ * - virtual thread : ./gradlew -PvirtualThreads benchmark --tests '*VirtualThreadBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=300",
+        "spring.datasource.hikari.connection-timeout=30000"
+})
+@ActiveProfiles("test")
+class VirtualThreadBenchmark {
+
+    private static final int CLIENTS = 2_000;
+    private static final int MEMBERS = 1_000;
+    private static final long QUERY_LATENCY_MILLIS = 20;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void throughputAndTailLatency() {
+        List<MemberEntity> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(MemberEntity.builder()
+                    .username("member-" + i)
+                    .password("password")
+                    .phoneNumber("010-0000-0000")
+                    .memberType(MemberType.USER)
+                    .build());
+        }
+        memberRepository.saveAll(members);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        load(client, WARM_UP);
+        Result result = load(client, MEASURE);
+
+        long[] latencies = result.latencies().stream().mapToLong(Long::longValue).sorted().toArray();
+        boolean virtual = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        System.out.printf("[VirtualThreadBenchmark] mode=%s, clients=%d, query latency=%d ms%n",
+                virtual ? "virtual threads" : "platform threads", CLIENTS, QUERY_LATENCY_MILLIS);
+        System.out.printf("  throughput : %10.0f req/s (%d errors)%n",
+                latencies.length / (double) MEASURE.toSeconds(), result.errors().get());
+        System.out.printf("  p50        : %10.1f ms%n", latencies[latencies.length / 2] / 1_000_000.0);
+        System.out.printf("  p99        : %10.1f ms%n", latencies[latencies.length * 99 / 100] / 1_000_000.0);
+
+        assertTrue(latencies.length > 0);
+    }
+
+    // CLIENTS 개의 클라이언트가 응답을 받으면 바로 다음 요청을 보내는 closed-loop 부하
+    private Result load(HttpClient client, Duration duration) {
+        Result result = new Result(new ConcurrentLinkedQueue<>(), new AtomicLong());
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<CompletableFuture<Void>> clients = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.add(next(client, deadline, result));
+        }
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).join();
+        return result;
+    }
+
+    private CompletableFuture<Void> next(HttpClient client, long deadline, Result result) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/v1/members/available?username=member-" + ThreadLocalRandom.current().nextInt(MEMBERS)))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        result.errors().incrementAndGet();
+                    } else if (System.nanoTime() < deadline) {
+                        result.latencies().add(System.nanoTime() - start);
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> next(client, deadline, result));
+    }
+
+    private record Result(ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) {
+    }
+
+    /**
+     * 쿼리 실행마다 고정 지연을 넣는 DataSource 래퍼 (MySQL 네트워크 왕복 대용)
+     */
+    @TestConfiguration
+    static class QueryLatencyConfig {
+
+        @Bean
+        static BeanPostProcessor queryLatencyInjector() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? delayed(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T delayed(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("execute") && target instanceof PreparedStatement) {
+                    Thread.sleep(QUERY_LATENCY_MILLIS);
+                }
+                try {
+                    Object value = method.invoke(target, args);
+                    if (value instanceof PreparedStatement statement) {
+                        return delayed(statement, PreparedStatement.class);
+                    }
+                    if (value instanceof Connection connection && !(target instanceof Connection)) {
+                        return delayed(connection, Connection.class);
+                    }
+                    return value;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reservation.bulkhead;
+
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.security.TokenProvider;
+import com.reservation.type.MemberType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 단계(JWT 필터의 회원 조회)에서 커넥션 할당량을 얻지 못해도 500 이 아니라 503 + Retry-After
+ */
+@SpringBootTest(properties = {
+        "bulkhead.read.connections=1",
+        "bulkhead.connection-timeout-ms=50",
+        "bulkhead.retry-after-seconds=3"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class BulkheadFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Test
+    void quotaTimeoutDuringAuthenticationIsServiceBusy() throws Exception {
+        // 다른 요청이 조회 격벽의 커넥션 할당량을 모두 쓰고 있는 상태
+        Bulkhead read = bulkheadRegistry.get(BulkheadGroup.READ);
+        assertTrue(read.tryAcquireConnection());
+        try {
+            mockMvc.perform(get("/api/v1/stores/1")
+                            .header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX
+                                    + tokenProvider.generateToken("busy-member", MemberType.USER)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                    .andExpect(jsonPath("$.errorCode").value("SERVICE_BUSY"));
+        } finally {
+            read.releaseConnection();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.reservation.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsWhenQueueIsFullAndAfterWaitTimeout() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(BulkheadGroup.READ, 1, 1, 200, 0, 100, 1, meterRegistry);
+        assertTrue(bulkhead.tryAcquire());
+
+        // 대기열 한 자리를 다른 요청이 차지하는 동안 새 요청은 기다리지 않고 거절
+        CountDownLatch waiting = new CountDownLatch(1);
+        Thread queued = new Thread(() -> {
+            try {
+                waiting.countDown();
+                assertFalse(bulkhead.tryAcquire());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queued.start();
+        waiting.await();
+        while (meterRegistry.get("bulkhead.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+        assertFalse(bulkhead.tryAcquire());
+        queued.join();
+
+        assertEquals(1.0, rejected("queue_full"));
+        assertEquals(1.0, rejected("wait_timeout"));
+
+        // 자리를 반납하면 다시 처리
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+        bulkhead.release();
+    }
+
+    @Test
+    void onlyFirstConnectionOfRequestTakesQuota() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(BulkheadGroup.REVIEW, 4, 0, 0, 1, 50, 1, meterRegistry);
+        BulkheadScope.begin(bulkhead);
+        try {
+            assertTrue(BulkheadScope.current().open());
+            assertTrue(bulkhead.tryAcquireConnection());
+
+            // 같은 요청의 두 번째 커넥션은 할당량을 기다리지 않음
+            assertFalse(BulkheadScope.current().open());
+            assertFalse(BulkheadScope.current().close());
+
+            // 다른 요청은 할당량이 반납될 때까지 기다리다 실패
+            long start = System.nanoTime();
+            assertFalse(bulkhead.tryAcquireConnection());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+            assertEquals(1.0, rejected("connection_timeout"));
+
+            assertTrue(BulkheadScope.current().close());
+            bulkhead.releaseConnection();
+            assertTrue(bulkhead.tryAcquireConnection());
+        } finally {
+            BulkheadScope.end();
+        }
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("bulkhead.rejected").tag("reason", reason).counter().count();
+    }
+}
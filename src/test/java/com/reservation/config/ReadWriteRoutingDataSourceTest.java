@@ -0,0 +1,90 @@
+package com.reservation.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 임베디드 H2 두 개를 primary / replica 로 두고 라우팅 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private PrimaryReads primaryReads;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary", "primary");
+        DataSource replica = database("routing_replica", "replica");
+        DataSource routing = DataSourceRoutingConfig.routingDataSource(primary, replica);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        primaryReads = new PrimaryReads(transactionManager, "jdbc:h2:mem:routing_replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+        assertEquals("primary", writeTransaction.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase());
+    }
+
+    @Test
+    void readsOwnWritesWithinRequest() {
+        ReadYourWrites.begin();
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update node set hits = hits + 1"));
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentDatabase()));
+        ReadYourWrites.end();
+
+        ReadYourWrites.begin();
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void primaryReadsBypassReplica() {
+        // 읽기 전용 트랜잭션이 이미 replica 커넥션을 쓰고 있어도 별도 트랜잭션으로 primary 조회
+        List<String> databases = readOnlyTransaction.execute(status ->
+                List.of(currentDatabase(), primaryReads.read(this::currentDatabase), currentDatabase()));
+        assertEquals(List.of("replica", "primary", "replica"), databases);
+
+        // 트랜잭션 밖에서 호출하면 안에서 시작하는 읽기 전용 트랜잭션도 primary
+        assertEquals("primary", primaryReads.read(() -> readOnlyTransaction.execute(status -> currentDatabase())));
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource database(String database, String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(20), hits int)");
+        jdbc.execute("delete from node");
+        jdbc.update("insert into node (name, hits) values (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,200 @@
+package com.reservation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.ReservationEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRatingRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.security.TokenProvider;
+import com.reservation.type.ArrivalStatus;
+import com.reservation.type.MemberType;
+import com.reservation.type.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 여러 ID 한 번에 조회 (GET /api/v1/{stores,members,reservations}?ids=...)
+ * - 중복 ID 는 한 번만 조회, 중복을 제외한 ID 가 max-ids 를 넘으면 400 (TOO_MANY_IDS)
+ * - chunk-size 개씩 나눠 조회하고, 응답은 요청 순서이며 없는 ID 는 제외
+ */
+@SpringBootTest(properties = {
+        "multi-get.max-ids=4",
+        "multi-get.chunk-size=2"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class MultiGetControllerTest {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private MemberRepository memberRepository;
+
+    @SpyBean
+    private StoreRepository storeRepository;
+
+    @SpyBean
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRatingRepository storeRatingRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private List<MemberEntity> members;
+    private List<StoreEntity> stores;
+    private List<ReservationEntity> reservations;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        storeRatingRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+
+        members = new ArrayList<>();
+        stores = new ArrayList<>();
+        reservations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MemberEntity member = memberRepository.save(MemberEntity.builder()
+                    .username("multi-get-member-" + i)
+                    .password("password")
+                    .phoneNumber("010-0000-0000")
+                    .memberType(MemberType.USER)
+                    .build());
+            StoreEntity store = storeRepository.save(StoreEntity.builder()
+                    .storeName("multi-get-store-" + i)
+                    .location("seoul")
+                    .build());
+            members.add(member);
+            stores.add(store);
+            reservations.add(reservationRepository.save(ReservationEntity.builder()
+                    .member(member)
+                    .store(store)
+                    .reservationStatus(ReservationStatus.STANDBY)
+                    .arrivalStatus(ArrivalStatus.READY)
+                    .reservationDate(LocalDate.now().plusDays(1))
+                    .reservationTime(LocalTime.of(10, 0))
+                    .build()));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void storesKeepRequestOrderAcrossChunks() throws Exception {
+        Long first = stores.get(0).getId();
+        Long second = stores.get(1).getId();
+        Long third = stores.get(2).getId();
+
+        List<Long> found = fetchIds("/api/v1/stores", third, first, MISSING_ID, second, first);
+
+        assertEquals(List.of(third, first, second), found);
+        // 중복을 제외한 4 개를 2 개씩 나눠 조회
+        ArgumentCaptor<Iterable<Long>> chunks = ArgumentCaptor.forClass(Iterable.class);
+        verify(storeRepository, times(2)).findAllById(chunks.capture());
+        assertEquals(List.of(List.of(third, first), List.of(MISSING_ID, second)), chunks.getAllValues());
+    }
+
+    @Test
+    void membersKeepRequestOrderAcrossChunks() throws Exception {
+        Long first = members.get(0).getId();
+        Long second = members.get(1).getId();
+        Long third = members.get(2).getId();
+
+        List<Long> found = fetchIds("/api/v1/members", second, MISSING_ID, second, third, first);
+
+        assertEquals(List.of(second, third, first), found);
+        verify(memberRepository).findAllByIdThroughCache(List.of(second, MISSING_ID, third, first), 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reservationsKeepRequestOrderAcrossChunks() throws Exception {
+        Long first = reservations.get(0).getId();
+        Long second = reservations.get(1).getId();
+        Long third = reservations.get(2).getId();
+
+        List<Long> found = fetchIds("/api/v1/reservations", MISSING_ID, third, third, first, second);
+
+        assertEquals(List.of(third, first, second), found);
+        ArgumentCaptor<Iterable<Long>> chunks = ArgumentCaptor.forClass(Iterable.class);
+        verify(reservationRepository, times(2)).findAllById(chunks.capture());
+        assertEquals(List.of(List.of(MISSING_ID, third), List.of(first, second)), chunks.getAllValues());
+    }
+
+    @Test
+    void duplicatesDoNotCountTowardMaxIds() throws Exception {
+        Long id = stores.get(0).getId();
+
+        List<Long> found = fetchIds("/api/v1/stores", id, id, id, id, id, id);
+
+        assertEquals(List.of(id), found);
+    }
+
+    @Test
+    void rejectsMoreDistinctIdsThanMaxIds() throws Exception {
+        for (String path : List.of("/api/v1/stores", "/api/v1/members", "/api/v1/reservations")) {
+            mockMvc.perform(get(path)
+                            .param("ids", "1,2,3,4,5")
+                            .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("TOO_MANY_IDS"));
+        }
+    }
+
+    private List<Long> fetchIds(String path, Long... ids) throws Exception {
+        String body = mockMvc.perform(get(path)
+                        .param("ids", Stream.of(ids).map(String::valueOf).collect(Collectors.joining(",")))
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Long> found = new ArrayList<>();
+        for (JsonNode node : objectMapper.readTree(body)) {
+            found.add(node.get("id").asLong());
+        }
+        return found;
+    }
+
+    private String bearer() {
+        MemberEntity member = members.get(0);
+        return JwtAuthenticationFilter.TOKEN_PREFIX + tokenProvider.generateToken(member.getUsername(), member.getMemberType());
+    }
+}
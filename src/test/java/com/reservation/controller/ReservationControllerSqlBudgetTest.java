@@ -0,0 +1,110 @@
+package com.reservation.controller;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.ReservationEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.security.TokenProvider;
+import com.reservation.type.ArrivalStatus;
+import com.reservation.type.MemberType;
+import com.reservation.type.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 예약 목록 API 가 @SqlBudget 안에서 처리되는지 확인 (N+1 회귀 방지)
+ * - 2차 캐시를 끄고 예약마다 다른 회원으로 만들어, 회원 / 매장을 행마다 조회하면 예산 초과로 실패
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "sql.budget.fail-on-exceed=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ReservationControllerSqlBudgetTest {
+
+    private static final int RESERVATION_COUNT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private StoreEntity store;
+    private List<MemberEntity> members;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+
+        store = storeRepository.save(StoreEntity.builder().storeName("budget-store").location("seoul").build());
+        members = new ArrayList<>();
+        for (int i = 0; i < RESERVATION_COUNT; i++) {
+            MemberEntity member = memberRepository.save(MemberEntity.builder()
+                    .username("budget-member-" + i)
+                    .password("password")
+                    .phoneNumber("010-0000-0000")
+                    .memberType(MemberType.USER)
+                    .build());
+            members.add(member);
+            reservationRepository.save(ReservationEntity.builder()
+                    .member(member)
+                    .store(store)
+                    .reservationStatus(ReservationStatus.STANDBY)
+                    .arrivalStatus(ArrivalStatus.READY)
+                    .reservationDate(LocalDate.now().plusDays(1))
+                    .reservationTime(LocalTime.of(10, 0).plusMinutes(30L * i))
+                    .build());
+        }
+    }
+
+    @Test
+    void storeReservationsStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/reservations/store/{storeId}", store.getId())
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer(members.get(0))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(RESERVATION_COUNT));
+    }
+
+    @Test
+    void memberReservationsStayWithinBudget() throws Exception {
+        MemberEntity member = members.get(1);
+        mockMvc.perform(get("/api/v1/reservations/member/{memberId}", member.getId())
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer(member)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private String bearer(MemberEntity member) {
+        return JwtAuthenticationFilter.TOKEN_PREFIX + tokenProvider.generateToken(member.getUsername(), member.getMemberType());
+    }
+}
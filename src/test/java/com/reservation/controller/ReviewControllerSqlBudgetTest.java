@@ -0,0 +1,157 @@
+package com.reservation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.review.ReviewRegisterDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRatingRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.security.TokenProvider;
+import com.reservation.service.ReviewService;
+import com.reservation.type.MemberType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 리뷰 피드 API 가 @SqlBudget(1) 안에서 처리되는지 확인 (N+1 회귀 방지)
+ * - 2차 캐시를 끄고 리뷰마다 다른 회원 / 매장으로 만들어, 작성자 / 매장을 행마다 조회하면 예산 초과로 실패
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "sql.budget.fail-on-exceed=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ReviewControllerSqlBudgetTest {
+
+    private static final int REVIEW_COUNT = 10;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRatingRepository storeRatingRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private StoreEntity store;
+    private List<MemberEntity> members;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        storeRatingRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+
+        store = storeRepository.save(StoreEntity.builder().storeName("feed-budget-store").location("seoul").build());
+        members = new ArrayList<>();
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            MemberEntity member = memberRepository.save(MemberEntity.builder()
+                    .username("feed-budget-member-" + i)
+                    .password("password")
+                    .phoneNumber("010-0000-0000")
+                    .memberType(MemberType.USER)
+                    .build());
+            members.add(member);
+            createReview(member, store, i);
+        }
+        // 첫 회원은 다른 매장들에도 리뷰 작성
+        for (int i = 0; i < REVIEW_COUNT - 1; i++) {
+            StoreEntity other = storeRepository.save(StoreEntity.builder()
+                    .storeName("feed-budget-store-" + i)
+                    .location("busan")
+                    .build());
+            createReview(members.get(0), other, i);
+        }
+    }
+
+    @Test
+    void storeFeedPagesStayWithinBudget() throws Exception {
+        String path = "/api/v1/reviews/store/" + store.getId() + "/feed";
+        assertEquals(REVIEW_COUNT, readAllPages(path));
+    }
+
+    @Test
+    void memberFeedPagesStayWithinBudget() throws Exception {
+        String path = "/api/v1/reviews/member/" + members.get(0).getId() + "/feed";
+        assertEquals(REVIEW_COUNT, readAllPages(path));
+    }
+
+    // 커서를 따라 마지막 페이지까지 조회하고 전체 리뷰 수 반환 (페이지마다 예산 확인)
+    private int readAllPages(String path) throws Exception {
+        int total = 0;
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(path)
+                    .param("size", String.valueOf(PAGE_SIZE))
+                    .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer(members.get(0)));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            int size = page.get("reviews").size();
+            assertTrue(size <= PAGE_SIZE);
+            total += size;
+            JsonNode nextCursor = page.get("nextCursor");
+            cursor = nextCursor == null || nextCursor.isNull() ? null : nextCursor.asText();
+        } while (cursor != null);
+        return total;
+    }
+
+    private void createReview(MemberEntity member, StoreEntity target, int i) {
+        reviewService.createReview(ReviewRegisterDto.builder()
+                .memberId(member.getId())
+                .storeId(target.getId())
+                .content("리뷰 " + i)
+                .rating(1 + i % 5)
+                .build());
+    }
+
+    private String bearer(MemberEntity member) {
+        return JwtAuthenticationFilter.TOKEN_PREFIX + tokenProvider.generateToken(member.getUsername(), member.getMemberType());
+    }
+}
@@ -0,0 +1,139 @@
+package com.reservation.controller;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.review.ReviewRegisterDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRatingRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.security.TokenProvider;
+import com.reservation.service.ReviewService;
+import com.reservation.type.MemberType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 매장 / 매장 리뷰 피드 조건부 조회
+ * - 같은 ETag 로 다시 조회하면 본문 없이 304
+ * - 리뷰가 등록되면 매장(평점 요약)과 리뷰 피드의 ETag 가 바뀜
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class StoreControllerETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRatingRepository storeRatingRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private MemberEntity member;
+    private StoreEntity store;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository.deleteAllInBatch();
+        storeRatingRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+
+        member = memberRepository.save(MemberEntity.builder()
+                .username("etag-member")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .memberType(MemberType.USER)
+                .build());
+        store = storeRepository.save(StoreEntity.builder().storeName("etag-store").location("seoul").build());
+    }
+
+    @Test
+    void storeIsNotModifiedUntilReviewed() throws Exception {
+        String path = "/api/v1/stores/" + store.getId();
+        String etag = fetchETag(path);
+
+        mockMvc.perform(get(path)
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        review();
+
+        mockMvc.perform(get(path)
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertNotEquals(etag, fetchETag(path));
+    }
+
+    @Test
+    void reviewFeedIsNotModifiedUntilReviewed() throws Exception {
+        String path = "/api/v1/reviews/store/" + store.getId() + "/feed";
+        String etag = fetchETag(path);
+
+        mockMvc.perform(get(path)
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        review();
+
+        mockMvc.perform(get(path)
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, bearer())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    private String fetchETag(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).header(JwtAuthenticationFilter.TOKEN_HEADER, bearer()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private void review() {
+        reviewService.createReview(ReviewRegisterDto.builder()
+                .memberId(member.getId())
+                .storeId(store.getId())
+                .content("맛있어요")
+                .rating(5)
+                .build());
+    }
+
+    private String bearer() {
+        return JwtAuthenticationFilter.TOKEN_PREFIX + tokenProvider.generateToken(member.getUsername(), member.getMemberType());
+    }
+}
@@ -0,0 +1,107 @@
+package com.reservation.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StoreGeoIndexTest {
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    @Test
+    void cellMatchesFiveCharacterGeohash() {
+        assertEquals(decode("u4pru"), GeoHash.cellOf(57.64911, 10.40744));
+        assertEquals(decode("wydm9"), GeoHash.cellOf(37.5665, 126.9780));
+    }
+
+    @Test
+    void distanceOfOneDegreeLatitude() {
+        assertEquals(111.195, GeoHash.distanceKm(0, 0, 1, 0), 0.001);
+        assertEquals(0.0, GeoHash.distanceKm(37.5, 127.0, 37.5, 127.0), 1e-9);
+    }
+
+    @Test
+    void returnsStoresInsideRadiusByDistance() {
+        StoreGeoIndex index = new StoreGeoIndex();
+        index.put(1L, 37.5665, 126.9780);  // 서울시청
+        index.put(2L, 37.5700, 126.9830);  // 약 0.6km
+        index.put(3L, 37.4979, 127.0276);  // 강남역, 약 8.8km
+        index.put(4L, null, null);         // 좌표 없는 매장은 색인하지 않음
+
+        List<StoreGeoIndex.NearbyStore> result = index.nearest(37.5660, 126.9775, 3.0, 10);
+
+        assertEquals(List.of(1L, 2L), result.stream().map(StoreGeoIndex.NearbyStore::storeId).toList());
+        assertTrue(result.get(0).distanceKm() < result.get(1).distanceKm());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void movedAndRemovedStoresLeaveTheirOldCell() {
+        StoreGeoIndex index = new StoreGeoIndex();
+        index.put(1L, 37.5665, 126.9780);
+        index.put(2L, 37.5665, 126.9780);
+
+        index.put(1L, 35.1796, 129.0756); // 부산으로 이동
+        index.remove(2L);
+
+        assertTrue(index.nearest(37.5665, 126.9780, 3.0, 10).isEmpty());
+        assertEquals(List.of(1L), index.nearest(35.1796, 129.0756, 3.0, 10).stream()
+                .map(StoreGeoIndex.NearbyStore::storeId).toList());
+    }
+
+    @Test
+    void searchesAcrossTheDateLine() {
+        StoreGeoIndex index = new StoreGeoIndex();
+        index.put(1L, 0.0, 179.99);
+
+        List<StoreGeoIndex.NearbyStore> result = index.nearest(0.0, -179.99, 5.0, 10);
+
+        assertEquals(1, result.size());
+        assertEquals(2.22, result.get(0).distanceKm(), 0.01);
+    }
+
+    @Test
+    void matchesBruteForceNearest() {
+        Random random = new Random(7);
+        StoreGeoIndex index = new StoreGeoIndex();
+        int stores = 2_000;
+        double[] lats = new double[stores];
+        double[] lngs = new double[stores];
+        for (int i = 0; i < stores; i++) {
+            lats[i] = 37.4 + random.nextDouble() * 0.3;
+            lngs[i] = 126.8 + random.nextDouble() * 0.4;
+            index.put((long) i, lats[i], lngs[i]);
+        }
+
+        for (int q = 0; q < 50; q++) {
+            double lat = 37.4 + random.nextDouble() * 0.3;
+            double lng = 126.8 + random.nextDouble() * 0.4;
+
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < stores; i++) {
+                if (GeoHash.distanceKm(lat, lng, lats[i], lngs[i]) <= 2.0) {
+                    expected.add((long) i);
+                }
+            }
+            expected.sort(Comparator.comparingDouble(id -> GeoHash.distanceKm(lat, lng, lats[id.intValue()], lngs[id.intValue()])));
+
+            List<Long> found = index.nearest(lat, lng, 2.0, 10).stream().map(StoreGeoIndex.NearbyStore::storeId).toList();
+            assertEquals(expected.subList(0, Math.min(10, expected.size())), found);
+        }
+    }
+
+    // base32 geohash 를 비트 값으로 변환
+    private static long decode(String geohash) {
+        long hash = 0;
+        for (char c : geohash.toCharArray()) {
+            hash = (hash << 5) | BASE32.indexOf(c);
+        }
+        return hash;
+    }
+}
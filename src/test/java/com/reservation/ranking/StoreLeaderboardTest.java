@@ -0,0 +1,50 @@
+package com.reservation.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StoreLeaderboardTest {
+
+    @Test
+    void olderVersionDoesNotOverwriteNewerRatings() {
+        StoreLeaderboard leaderboard = new StoreLeaderboard(10, 3.0);
+        leaderboard.setLocation(1L, "seoul");
+
+        // 리뷰 두 건의 커밋 후 반영이 커밋 순서와 반대로 도착
+        leaderboard.setRatings(1L, 2, 2, 9);
+        leaderboard.setRatings(1L, 1, 1, 5);
+
+        List<StoreLeaderboard.RankedStore> top = leaderboard.top("seoul", 10);
+        assertEquals(1, top.size());
+        assertEquals(2, top.get(0).reviewCount());
+        assertEquals(4.5, top.get(0).averageRating());
+    }
+
+    @Test
+    void rebuildSnapshotKeepsRatingsCommittedDuringRebuild() {
+        StoreLeaderboard leaderboard = new StoreLeaderboard(10, 3.0);
+
+        // 재구성이 버전 3 을 읽은 뒤 커밋된 리뷰(버전 4)가 먼저 반영됨
+        leaderboard.setRatings(1L, 4, 4, 16);
+        leaderboard.setRatings(1L, 3, 3, 11);
+        assertEquals(4, leaderboard.top(null, 10).get(0).reviewCount());
+
+        // 같은 버전이 다시 도착해도 두 번 더해지지 않음
+        leaderboard.setRatings(1L, 4, 4, 16);
+        assertEquals(4, leaderboard.top(null, 10).get(0).reviewCount());
+    }
+
+    @Test
+    void storeWithoutLocationKeepsVersionAfterLastReviewRemoved() {
+        StoreLeaderboard leaderboard = new StoreLeaderboard(10, 3.0);
+        leaderboard.setRatings(1L, 1, 1, 5);
+        leaderboard.setRatings(1L, 2, 0, 0);
+
+        leaderboard.setRatings(1L, 1, 1, 5);
+
+        assertEquals(0, leaderboard.size());
+    }
+}
@@ -0,0 +1,187 @@
+package com.reservation.repository;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.ReservationEntity;
+import com.reservation.domain.ReviewEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.review.ReviewDto;
+import com.reservation.type.MemberType;
+import com.reservation.type.ReservationStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReviewRepositoryTest {
+
+    private static final int REVIEW_COUNT = 30;
+    private static final long FIRST_ID = 100;
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+    // 첫 페이지 커서
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Long storeId;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity member = entityManager.persist(MemberEntity.builder()
+                .username("reviewer")
+                .password("password")
+                .phoneNumber("010-1234-5678")
+                .memberType(MemberType.USER)
+                .build());
+        StoreEntity store = entityManager.persist(StoreEntity.builder()
+                .storeName("매장")
+                .location("서울")
+                .build());
+        ReservationEntity reservation = entityManager.persist(ReservationEntity.builder()
+                .member(member)
+                .store(store)
+                .reservationStatus(ReservationStatus.APPROVAL)
+                .reservationDate(LocalDate.now().plusDays(1))
+                .reservationTime(LocalTime.NOON)
+                .build());
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            entityManager.persist(ReviewEntity.builder()
+                    .id(FIRST_ID + i)
+                    .content("리뷰 " + i)
+                    .createdAt(FIRST_CREATED_AT.plusMinutes(i))
+                    .rating(1 + i % 5)
+                    .member(member)
+                    .store(store)
+                    .reservation(reservation)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        storeId = store.getId();
+        memberId = member.getId();
+    }
+
+    @Test
+    void storeFeedPageIsServedByOneQuery() {
+        Statistics statistics = statistics();
+
+        List<ReviewDto> page = reviewRepository.findStoreFeed(storeId, LATEST, Long.MAX_VALUE, PageRequest.of(0, 10));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(10, page.size());
+        assertEquals("reviewer", page.get(0).username());
+        assertEquals("매장", page.get(0).storeName());
+    }
+
+    @Test
+    void memberFeedWalksAllPagesNewestFirst() {
+        Statistics statistics = statistics();
+
+        LocalDateTime createdAt = LATEST;
+        long reviewId = Long.MAX_VALUE;
+        int pages = 0;
+        int total = 0;
+        List<ReviewDto> page;
+        do {
+            page = reviewRepository.findMemberFeed(memberId, createdAt, reviewId, PageRequest.of(0, 7));
+            for (ReviewDto review : page) {
+                assertTrue(review.createdAt().isBefore(createdAt));
+                createdAt = review.createdAt();
+                reviewId = review.reviewId();
+            }
+            total += page.size();
+            pages++;
+        } while (page.size() == 7);
+
+        assertEquals(REVIEW_COUNT, total);
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void storeFeedOrdersByCreatedAtNotReviewId() {
+        // 다른 인스턴스가 먼저 예약한 더 작은 ID 블록에서 가장 나중에 작성된 리뷰, 같은 시각의 리뷰는 ID 로 구분
+        LocalDateTime latest = FIRST_CREATED_AT.plusMinutes(REVIEW_COUNT);
+        persistReview(1L, latest);
+        persistReview(2L, latest);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> expected = new ArrayList<>(List.of(2L, 1L));
+        for (long id = FIRST_ID + REVIEW_COUNT - 1; id >= FIRST_ID; id--) {
+            expected.add(id);
+        }
+
+        List<Long> walked = new ArrayList<>();
+        LocalDateTime createdAt = LATEST;
+        long reviewId = Long.MAX_VALUE;
+        List<ReviewDto> page;
+        do {
+            page = reviewRepository.findStoreFeed(storeId, createdAt, reviewId, PageRequest.of(0, 7));
+            for (ReviewDto review : page) {
+                walked.add(review.reviewId());
+                createdAt = review.createdAt();
+                reviewId = review.reviewId();
+            }
+        } while (page.size() == 7);
+
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    void byNameListsKeepReviewIdOrder() {
+        Statistics statistics = statistics();
+
+        List<ReviewDto> storeReviews = reviewRepository.findStoreReviews(storeId);
+        List<ReviewDto> memberReviews = reviewRepository.findMemberReviews(memberId);
+
+        // 피드(최신순)와 달리 전체 목록은 피드 도입 전처럼 리뷰 ID 오름차순, 목록마다 쿼리 한 번
+        List<Long> ascending = LongStream.range(FIRST_ID, FIRST_ID + REVIEW_COUNT).boxed().toList();
+        assertEquals(ascending, storeReviews.stream().map(ReviewDto::reviewId).toList());
+        assertEquals(ascending, memberReviews.stream().map(ReviewDto::reviewId).toList());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private void persistReview(long id, LocalDateTime createdAt) {
+        entityManager.persist(ReviewEntity.builder()
+                .id(id)
+                .content("리뷰 " + id)
+                .rating(5)
+                .member(entityManager.find(MemberEntity.class, memberId))
+                .store(entityManager.find(StoreEntity.class, storeId))
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,83 @@
+package com.reservation.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewSearchIndexTest {
+
+    @Test
+    void returnsReviewsContainingAllTokensNewestFirst() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        index.index(1L, 10L, 0L, "김치찌개가 너무 짜요");
+        index.index(2L, 10L, 0L, "김치찌개 맛있어요");
+        index.index(3L, 20L, 0L, "된장찌개가 맛있어요");
+        index.index(300L, 20L, 0L, "김치찌개 맛있어요 재방문");
+
+        assertEquals(List.of(300L, 2L), index.search("김치찌개 맛있", null, 10));
+        assertEquals(List.of(2L), index.search("김치찌개 맛있", 10L, 10));
+        assertEquals(List.of(300L), index.search("김치찌개", null, 1));
+        assertTrue(index.search("짬뽕", null, 10).isEmpty());
+    }
+
+    @Test
+    void reflectsUpdatesAndRemovals() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        index.index(1L, 10L, 0L, "서비스가 불친절해요");
+        index.index(2L, 10L, 0L, "서비스가 좋아요");
+
+        index.update(1L, 10L, 1L, "서비스가 불친절해요", "서비스가 친절해요");
+        index.remove(2L, "서비스가 좋아요");
+
+        assertTrue(index.search("불친절", null, 10).isEmpty());
+        assertEquals(List.of(1L), index.search("서비스", null, 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void ignoresOlderVersionsAndRemovesWithoutContent() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        index.index(1L, 10L, 0L, "국물이 진해요");
+        index.index(2L, 10L, 0L, "국물이 싱거워요");
+
+        index.update(1L, 10L, 2L, "국물이 진해요", "국물이 짜요");
+        // 늦게 도착한 예전 수정은 무시
+        index.update(1L, 10L, 1L, "국물이 진해요", "국물이 식었어요");
+        // 색인에 없던 리뷰의 수정은 새로 색인
+        index.update(3L, 20L, 1L, "면이 불었어요", "면이 쫄깃해요");
+
+        assertEquals(List.of(1L), index.search("짜요", null, 10));
+        assertTrue(index.search("식었어요", null, 10).isEmpty());
+        assertEquals(List.of(3L), index.search("쫄깃", 20L, 10));
+
+        index.removeAll(List.of(1L, 3L));
+
+        assertEquals(List.of(2L), index.search("국물", null, 10));
+        assertTrue(index.search("쫄깃", null, 10).isEmpty());
+        assertEquals(Map.of(2L, 0L), index.versions());
+    }
+
+    @Test
+    void restoresFromSnapshot() throws IOException {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        for (long id = 1; id <= 1_000; id++) {
+            index.index(id, id % 3, 0L, id % 2 == 0 ? "국물이 진해요" : "면이 불었어요");
+        }
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        index.writeTo(snapshot);
+
+        ReviewSearchIndex restored = new ReviewSearchIndex();
+        restored.readFrom(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        assertEquals(index.versions(), restored.versions());
+        assertEquals(index.search("국물", 1L, 100), restored.search("국물", 1L, 100));
+        assertEquals(index.postingBytes(), restored.postingBytes());
+    }
+}
@@ -0,0 +1,98 @@
+package com.reservation.search;
+
+import com.reservation.dto.store.StoreDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StoreSearchIndexTest {
+
+    @Test
+    void tokenizesHangulIntoBigrams() {
+        assertEquals(List.of("강남", "남역", "맛집"), TextTokenizer.tokenize("강남역 맛집"));
+        assertEquals(List.of("bbq", "치킨", "2", "호점"), TextTokenizer.tokenize("BBQ치킨 2호점"));
+    }
+
+    @Test
+    void ranksStoreNameMatchesAboveDescriptionMatches() {
+        StoreSearchIndex index = new StoreSearchIndex();
+        index.index(store(1L, "강남 국밥", "서울 강남구", "든든한 국밥"));
+        index.index(store(2L, "홍대 파스타", "서울 마포구", "국밥 아님"));
+        index.index(store(3L, "부산 밀면", "부산 해운대구", "시원한 밀면"));
+
+        List<StoreDto> result = index.search("국밥", 10);
+
+        assertEquals(List.of(1L, 2L), result.stream().map(StoreDto::getId).toList());
+    }
+
+    @Test
+    void expandsLastTokenAsPrefix() {
+        StoreSearchIndex index = new StoreSearchIndex();
+        index.index(store(1L, "Pasta House", "Seoul", null));
+        index.index(store(2L, "Pizza Hut", "Seoul", null));
+
+        assertEquals(List.of(1L), index.search("seoul pas", 10).stream().map(StoreDto::getId).toList());
+        assertEquals(2, index.search("p", 10).size());
+    }
+
+    @Test
+    void choosesPrefixExpansionsByDocumentFrequency() {
+        StoreSearchIndex index = new StoreSearchIndex();
+        // "k" 로 시작하는 단어 60개 중 사전 순으로 마지막인 k50 ~ k59 만 매장 두 곳에 등장
+        long id = 1;
+        for (int i = 0; i < 60; i++) {
+            String term = String.format("k%02d", i);
+            index.index(store(id++, term, "seoul", null));
+            if (i >= 50) {
+                index.index(store(id++, "other " + term, "busan", null));
+            }
+        }
+
+        // 확장 한도(50)를 넘어도 문서 빈도가 높은 단어와 사전 순으로 앞선 단어가 항상 선택됨
+        List<String> names = index.search("k", 100).stream().map(StoreDto::getStoreName).toList();
+        assertEquals(60, names.size());
+        assertTrue(names.contains("other k59"));
+        assertTrue(names.contains("k39"));
+        assertFalse(names.contains("k40"));
+
+        // 같은 색인 내용이면 색인 순서와 무관하게 같은 결과
+        StoreSearchIndex reversed = new StoreSearchIndex();
+        id = 1;
+        for (int i = 59; i >= 0; i--) {
+            String term = String.format("k%02d", i);
+            reversed.index(store(id++, term, "seoul", null));
+            if (i >= 50) {
+                reversed.index(store(id++, "other " + term, "busan", null));
+            }
+        }
+        assertEquals(names.stream().sorted().toList(),
+                reversed.search("k", 100).stream().map(StoreDto::getStoreName).sorted().toList());
+    }
+
+    @Test
+    void updatesIncrementally() {
+        StoreSearchIndex index = new StoreSearchIndex();
+        index.index(store(1L, "강남 국밥", "서울", null));
+
+        index.index(store(1L, "강남 냉면", "서울", null));
+        assertTrue(index.search("국밥", 10).isEmpty());
+        assertEquals(1, index.search("냉면", 10).size());
+
+        index.remove(1L);
+        assertTrue(index.search("냉면", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    private static StoreDto store(Long id, String storeName, String location, String description) {
+        return StoreDto.builder()
+                .id(id)
+                .storeName(storeName)
+                .location(location)
+                .description(description)
+                .build();
+    }
+}
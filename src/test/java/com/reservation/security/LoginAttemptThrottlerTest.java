@@ -0,0 +1,49 @@
+package com.reservation.security;
+
+import com.reservation.exception.ApplicationException;
+import org.junit.jupiter.api.Test;
+
+import static com.reservation.type.ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginAttemptThrottlerTest {
+
+    @Test
+    void successfulLoginsDoNotCount() {
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(3, 5, 60, 1_000);
+
+        // 같은 IP 에서 여러 사용자가 정상 로그인 (검사만 하고 실패는 기록하지 않음)
+        for (int i = 0; i < 100; i++) {
+            throttler.checkAttempt("member-" + (i % 10), "10.0.0.1");
+        }
+    }
+
+    @Test
+    void blocksAfterFailuresReachLimit() {
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(3, 5, 60, 1_000);
+
+        for (int i = 0; i < 3; i++) {
+            throttler.checkAttempt("Alice", "10.0.0.1");
+            throttler.recordFailure("Alice", "10.0.0.1");
+        }
+
+        // 대소문자 / 공백만 다른 이름도 같은 사용자로 거절, 다른 사용자는 영향 없음
+        ApplicationException e = assertThrows(ApplicationException.class, () -> throttler.checkAttempt(" alice ", "10.0.0.2"));
+        assertEquals(TOO_MANY_LOGIN_ATTEMPTS, e.getErrorCode());
+        assertDoesNotThrow(() -> throttler.checkAttempt("bob", "10.0.0.1"));
+    }
+
+    @Test
+    void blocksIpAfterFailuresAcrossUsernames() {
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(3, 5, 60, 1_000);
+
+        for (int i = 0; i < 5; i++) {
+            throttler.recordFailure("member-" + i, "10.0.0.1");
+        }
+
+        assertThrows(ApplicationException.class, () -> throttler.checkAttempt("member-99", "10.0.0.1"));
+        assertDoesNotThrow(() -> throttler.checkAttempt("member-99", "10.0.0.2"));
+    }
+}
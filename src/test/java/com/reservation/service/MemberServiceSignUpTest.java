@@ -0,0 +1,105 @@
+package com.reservation.service;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.dto.member.SignUpDto;
+import com.reservation.exception.ApplicationException;
+import com.reservation.repository.MemberRepository;
+import com.reservation.type.MemberType;
+import com.reservation.util.BloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static com.reservation.type.ErrorCode.ALREADY_EXIST_USER;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사용자 이름 Bloom 필터와 무관하게 중복 가입은 항상 거절
+ * - 필터 초기화 전 : 항상 DB 확인
+ * - 필터 초기화 후 : 필터에 있는 이름은 DB 확인, 필터가 모르는 이름(다른 인스턴스에서 가입)은 유니크 인덱스가 거절
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberServiceSignUpTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    // @Async / @Transactional 프록시를 거치지 않고 같은 스레드에서 필터 초기화
+    private MemberService target;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        target = AopTestUtils.getTargetObject(memberService);
+        // 기동 시 비동기 초기화가 끝난 뒤에 필터를 비워야 나중에 덮어쓰지 않음
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (usernameFilter() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNotNull(usernameFilter());
+
+        memberRepository.deleteAllInBatch();
+        ReflectionTestUtils.setField(target, "usernameFilter", null);
+    }
+
+    @Test
+    void rejectsDuplicateBeforeWarmUp() {
+        memberService.signUp(request("before-warm-up"));
+
+        assertRejected("before-warm-up");
+        assertEquals(1, memberRepository.count());
+    }
+
+    @Test
+    void rejectsDuplicateAfterWarmUp() {
+        memberRepository.save(member("existing"));
+        target.warmUpUsernameFilter();
+
+        assertRejected("existing");
+
+        // 초기화 후 가입한 이름도 필터에 추가되어 DB 확인
+        memberService.signUp(request("after-warm-up"));
+        assertRejected("after-warm-up");
+        assertEquals(2, memberRepository.count());
+    }
+
+    @Test
+    void uniqueIndexRejectsNameMissingFromFilter() {
+        target.warmUpUsernameFilter();
+        // 다른 인스턴스에서 가입한 이름은 이 인스턴스의 필터에 없음
+        memberRepository.save(member("other-instance"));
+        assertFalse(usernameFilter().mightContain("other-instance"));
+
+        assertRejected("other-instance");
+        assertEquals(1, memberRepository.count());
+    }
+
+    private void assertRejected(String username) {
+        ApplicationException e = assertThrows(ApplicationException.class, () -> memberService.signUp(request(username)));
+        assertEquals(ALREADY_EXIST_USER, e.getErrorCode());
+    }
+
+    private BloomFilter usernameFilter() {
+        return (BloomFilter) ReflectionTestUtils.getField(target, "usernameFilter");
+    }
+
+    private static SignUpDto.Request request(String username) {
+        return new SignUpDto.Request(username, "password", "010-0000-0000", MemberType.USER);
+    }
+
+    private static MemberEntity member(String username) {
+        return MemberEntity.builder()
+                .username(username)
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .memberType(MemberType.USER)
+                .build();
+    }
+}
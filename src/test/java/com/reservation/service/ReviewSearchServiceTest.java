@@ -0,0 +1,102 @@
+package com.reservation.service;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.ReviewEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.search.ReviewSearchIndex;
+import com.reservation.type.MemberType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 저장된 색인 파일 복원 후 다른 인스턴스가 남긴 변경 반영
+ * - 블록 단위 ID 발급으로 더 작은 ID 가 나중에 커밋된 리뷰
+ * - 다른 인스턴스에서 수정 / 삭제된 리뷰
+ */
+@DataJpaTest(properties = "spring.jpa.database=h2")
+class ReviewSearchServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @TempDir
+    private Path snapshotDir;
+
+    private MemberEntity member;
+    private StoreEntity store;
+
+    @BeforeEach
+    void setUp() {
+        member = entityManager.persist(MemberEntity.builder()
+                .username("reviewer")
+                .password("password")
+                .phoneNumber("010-1234-5678")
+                .memberType(MemberType.USER)
+                .build());
+        store = entityManager.persist(StoreEntity.builder()
+                .storeName("매장")
+                .location("서울")
+                .build());
+        for (long id = 100; id <= 2_000; id += 100) {
+            persistReview(id, "국물이 진해요 " + id);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void restoredSnapshotPicksUpChangesMadeWhileDown() {
+        ReviewSearchService before = searchService();
+        before.warmUpIndex();
+        before.saveSnapshot();
+
+        // 색인 파일 저장 후 다른 인스턴스에서 커밋된 변경
+        persistReview(50L, "면이 쫄깃해요");
+        ReviewEntity edited = entityManager.find(ReviewEntity.class, 200L);
+        edited.setContent("국물이 짜요");
+        entityManager.remove(entityManager.find(ReviewEntity.class, 300L));
+        entityManager.flush();
+        entityManager.clear();
+
+        ReviewSearchService after = searchService();
+        after.warmUpIndex();
+        ReviewSearchIndex index = (ReviewSearchIndex) ReflectionTestUtils.getField(after, "reviewSearchIndex");
+
+        assertEquals(List.of(50L), index.search("쫄깃", null, 10));
+        assertEquals(List.of(200L), index.search("짜요", null, 10));
+        assertTrue(index.search("진해요 200", null, 10).isEmpty());
+        assertTrue(index.search("진해요 300", null, 10).isEmpty());
+        assertEquals(reviewRepository.count(), index.size());
+    }
+
+    private ReviewSearchService searchService() {
+        ReviewSearchService service = new ReviewSearchService(reviewRepository);
+        ReflectionTestUtils.setField(service, "snapshotPath", snapshotDir.resolve("review-search.idx").toString());
+        return service;
+    }
+
+    private void persistReview(long id, String content) {
+        entityManager.persist(ReviewEntity.builder()
+                .id(id)
+                .content(content)
+                .rating(5)
+                .member(member)
+                .store(store)
+                .build());
+    }
+}
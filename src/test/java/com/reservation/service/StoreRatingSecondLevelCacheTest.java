@@ -0,0 +1,93 @@
+package com.reservation.service;
+
+import com.reservation.domain.MemberEntity;
+import com.reservation.domain.StoreEntity;
+import com.reservation.dto.review.ReviewRegisterDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRatingRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.type.MemberType;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 리뷰 등록의 평점 집계 반영(네이티브 INSERT ... ON DUPLICATE KEY UPDATE)이 매장 / 회원 2차 캐시를 비우지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StoreRatingSecondLevelCacheTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRatingRepository storeRatingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MemberEntity member;
+    private StoreEntity store;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository.deleteAllInBatch();
+        storeRatingRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+
+        member = memberRepository.save(MemberEntity.builder()
+                .username("l2-member")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .memberType(MemberType.USER)
+                .build());
+        store = storeRepository.save(StoreEntity.builder().storeName("l2-store").location("seoul").build());
+    }
+
+    @Test
+    void storeCacheHitsSurviveReviewPost() {
+        Cache cache = entityManagerFactory.getCache();
+        storeRepository.findById(store.getId());
+        memberRepository.findById(member.getId());
+        assertTrue(cache.contains(StoreEntity.class, store.getId()));
+        assertTrue(cache.contains(MemberEntity.class, member.getId()));
+
+        reviewService.createReview(ReviewRegisterDto.builder()
+                .memberId(member.getId())
+                .storeId(store.getId())
+                .content("맛있어요")
+                .rating(5)
+                .build());
+
+        assertTrue(cache.contains(StoreEntity.class, store.getId()));
+        assertTrue(cache.contains(MemberEntity.class, member.getId()));
+
+        CacheRegionStatistics storeRegion = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics().getDomainDataRegionStatistics(StoreEntity.CACHE_REGION);
+        long hits = storeRegion.getHitCount();
+        storeRepository.findById(store.getId());
+        assertEquals(hits + 1, storeRegion.getHitCount());
+    }
+}
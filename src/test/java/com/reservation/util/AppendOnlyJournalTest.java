@@ -0,0 +1,129 @@
+package com.reservation.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AppendOnlyJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordsThatWereNotCompleted() throws IOException {
+        Path path = directory.resolve("journal");
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            journal.append(bytes("first"));
+            journal.append(bytes("second"));
+        }
+
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            assertEquals(List.of("first", "second"), strings(journal.replayed()));
+            assertEquals(2, journal.pending());
+            journal.append(bytes("third"));
+        }
+
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            assertEquals(List.of("first", "second", "third"), strings(journal.replayed()));
+        }
+    }
+
+    @Test
+    void emptiesFileOnceEveryRecordIsCompleted() throws IOException {
+        Path path = directory.resolve("journal");
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            journal.append(bytes("first"));
+            journal.append(bytes("second"));
+            journal.completed(1);
+            assertTrue(Files.size(path) > 0);
+            journal.completed(1);
+            assertEquals(0, Files.size(path));
+            journal.append(bytes("third"));
+        }
+
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            assertEquals(List.of("third"), strings(journal.replayed()));
+        }
+    }
+
+    @Test
+    void dropsTornTailRecord() throws IOException {
+        Path path = directory.resolve("journal");
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            journal.append(bytes("first"));
+            journal.append(bytes("second"));
+        }
+        long intact = Files.size(path);
+        // 기록 중 중단된 레코드 (길이만 쓰이고 내용 일부만 남음)
+        Files.write(path, new byte[]{0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            assertEquals(List.of("first", "second"), strings(journal.replayed()));
+            assertEquals(intact, Files.size(path));
+            journal.append(bytes("third"));
+        }
+
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            assertEquals(List.of("first", "second", "third"), strings(journal.replayed()));
+        }
+    }
+
+    @Test
+    void concurrentAppendsAreAllReplayed() throws Exception {
+        Path path = directory.resolve("journal");
+        int threads = 8;
+        int perThread = 50;
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    results.add(executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            journal.append(bytes(thread + "-" + i));
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(threads * perThread, journal.pending());
+        }
+
+        try (AppendOnlyJournal journal = AppendOnlyJournal.open(path)) {
+            Set<String> replayed = new HashSet<>(strings(journal.replayed()));
+            assertEquals(threads * perThread, replayed.size());
+            assertTrue(replayed.contains("0-0"));
+            assertTrue(replayed.contains((threads - 1) + "-" + (perThread - 1)));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> strings(List<byte[]> records) {
+        return records.stream().map(record -> new String(record, StandardCharsets.UTF_8)).toList();
+    }
+}
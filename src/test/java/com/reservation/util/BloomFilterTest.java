@@ -0,0 +1,50 @@
+package com.reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    private static final int KEYS = 100_000;
+    private static final double TARGET_RATE = 0.01;
+
+    @Test
+    void neverReportsInsertedKeyAsAbsent() {
+        BloomFilter filter = new BloomFilter(KEYS, TARGET_RATE);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("member-" + i);
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertTrue(filter.mightContain("member-" + i), "member-" + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(KEYS, TARGET_RATE);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("member-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // 예상 키 수만큼 넣었을 때 오탐률은 목표치 근처 (표본 10만 건이면 편차 0.1%p 안팎)
+        double rate = (double) falsePositives / KEYS;
+        assertTrue(rate > TARGET_RATE / 2 && rate < TARGET_RATE * 1.5, "false positive rate " + rate);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1000, TARGET_RATE);
+
+        assertFalse(filter.mightContain("member-0"));
+        assertFalse(filter.mightContain(""));
+    }
+}
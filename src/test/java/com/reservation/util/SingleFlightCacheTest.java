@@ -0,0 +1,186 @@
+package com.reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void concurrentMissesRunLoaderOnce() throws Exception {
+        SingleFlightCache<Long, String> cache = cache(10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(1L, key -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    await(release);
+                    return "store-" + key;
+                })));
+            }
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("store-1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 로더는 한 번만 실행되고 나머지는 그 결과를 기다림
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(threads - 1, cache.stats().hitCount());
+    }
+
+    @Test
+    void loaderExceptionReachesWaitersAndIsNotCached() throws Exception {
+        SingleFlightCache<Long, String> cache = cache(10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> cache.get(1L, key -> {
+                loading.countDown();
+                await(release);
+                throw new IllegalStateException("db down");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // 적재 중에 들어온 요청은 같은 예외를 받음
+            AtomicReference<Throwable> waiterError = new AtomicReference<>();
+            Thread waiter = new Thread(() -> {
+                try {
+                    cache.get(1L, key -> "unexpected");
+                } catch (Throwable e) {
+                    waiterError.set(e);
+                }
+            });
+            waiter.start();
+            while (cache.stats().hitCount() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            waiter.join();
+            assertInstanceOf(IllegalStateException.class, waiterError.get());
+            ExecutionException e = assertThrows(ExecutionException.class, first::get);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 실패는 캐시하지 않으므로 다음 조회는 다시 적재
+        assertEquals("store-1", cache.get(1L, key -> "store-" + key));
+    }
+
+    @Test
+    void nullIsNotCached() {
+        SingleFlightCache<Long, String> cache = cache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("store-1", cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return "store-" + key;
+        }));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    void evictsEntriesNotReadSinceInsertFirst() {
+        SingleFlightCache<Long, String> cache = cache(2);
+        cache.put(1L, "store-1");
+        cache.put(2L, "store-2");
+        cache.get(1L, key -> "unexpected");
+
+        // 크기를 넘으면 조회된 1 은 한 번 더 기회를 받고, 조회되지 않은 2 가 제거됨
+        cache.put(3L, "store-3");
+
+        assertEquals(2, cache.stats().size());
+        assertNull(cache.getIfPresent(2L));
+        assertEquals("store-1", cache.getIfPresent(1L));
+        assertEquals("store-3", cache.getIfPresent(3L));
+    }
+
+    @Test
+    void reloadsAfterTtl() {
+        SingleFlightCache<Long, String> cache = cache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key -> "v" + loads.incrementAndGet());
+        clock.addAndGet(TTL.toNanos() - 1);
+        assertEquals("v1", cache.get(1L, key -> "v" + loads.incrementAndGet()));
+
+        clock.addAndGet(1);
+        assertEquals("v2", cache.get(1L, key -> "v" + loads.incrementAndGet()));
+        assertEquals(2, loads.get());
+
+        // put 으로 저장한 항목도 같은 ttl 적용
+        cache.put(2L, "stored");
+        clock.addAndGet(TTL.toNanos());
+        assertNull(cache.getIfPresent(2L));
+    }
+
+    @Test
+    void skipsPutWhenInvalidatedAfterStamp() {
+        SingleFlightCache<Long, String> cache = cache(10);
+
+        long stamp = cache.invalidationStamp();
+        assertTrue(cache.putUnlessInvalidated(1L, "v1", stamp));
+        assertEquals("v1", cache.getIfPresent(1L));
+
+        // 캐시 밖에서 읽는 사이 수정 커밋 후 invalidate 된 경우, 읽어온 옛 값은 저장하지 않음
+        long staleStamp = cache.invalidationStamp();
+        cache.invalidate(1L);
+        assertFalse(cache.putUnlessInvalidated(1L, "stale", staleStamp));
+        assertNull(cache.getIfPresent(1L));
+
+        assertTrue(cache.putUnlessInvalidated(1L, "v2", cache.invalidationStamp()));
+        assertEquals("v2", cache.getIfPresent(1L));
+    }
+
+    private SingleFlightCache<Long, String> cache(int maximumSize) {
+        return new SingleFlightCache<>("test", maximumSize, TTL, clock::get);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
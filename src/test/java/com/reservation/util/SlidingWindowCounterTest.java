@@ -0,0 +1,83 @@
+package com.reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW = 60_000;
+    private static final int LIMIT = 10;
+
+    @Test
+    void countsAttemptsWithinWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 1024, WINDOW);
+        long now = WINDOW * 100;
+
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i, counter.increment("user", now + i));
+        }
+        assertEquals(5, counter.estimate("user", now + 10));
+        assertEquals(0, counter.estimate("other", now + 10));
+    }
+
+    @Test
+    void previousWindowDecaysAndExpires() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 1024, WINDOW);
+        long start = WINDOW * 100;
+
+        for (int i = 0; i < 10; i++) {
+            counter.increment("user", start);
+        }
+
+        // 다음 윈도우 중간에는 이전 윈도우 횟수의 절반만 반영
+        assertEquals(5, counter.estimate("user", start + WINDOW + WINDOW / 2));
+        // 두 윈도우가 지나면 완전히 만료
+        assertEquals(0, counter.estimate("user", start + WINDOW * 2));
+    }
+
+    @Test
+    void widthKeepsErrorBoundUnderHalfLimit() {
+        int width = SlidingWindowCounter.widthFor(1_000_000, LIMIT);
+        assertEquals(1 << 20, width);
+        assertTrue(Math.E * 1_000_000 / width <= LIMIT / 2.0);
+
+        assertEquals(1024, SlidingWindowCounter.widthFor(1_000_000, 1_000_000_000));
+        assertEquals(1 << 22, SlidingWindowCounter.widthFor(1_000_000, 1));
+    }
+
+    @Test
+    void memoryStaysBoundedUnderMillionDistinctKeys() {
+        int width = SlidingWindowCounter.widthFor(1_000_000, LIMIT);
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, width, WINDOW);
+        long footprint = counter.footprintBytes();
+        long start = WINDOW * 100;
+
+        for (int i = 0; i < 1_000_000; i++) {
+            counter.increment("user-" + i, start + (long) i * (WINDOW - 1) / 1_000_000);
+        }
+
+        // 키 개수와 무관하게 셀 메모리 고정 (4 x width x 8 바이트)
+        assertEquals(footprint, counter.footprintBytes());
+        assertEquals(4L * width * Long.BYTES, footprint);
+
+        // 대량 유입이 진행 중인 윈도우 안에서도 처음 보는 키의 추정치는 한도의 절반 이하
+        long sprayEnd = start + WINDOW - 1;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(counter.estimate("fresh-" + i, sprayEnd) <= LIMIT / 2);
+        }
+        // 정상 사용자는 적어도 한도의 절반까지는 거절되지 않음
+        for (int i = 1; i <= LIMIT / 2; i++) {
+            assertTrue(counter.increment("legit-user", sprayEnd) <= LIMIT);
+        }
+
+        // 용량 초과 시 근사 집계: 과소 집계 없이 반복 시도 키는 계속 한도를 넘음
+        for (int i = 0; i < 20; i++) {
+            counter.increment("attacker", start + WINDOW - 1);
+        }
+        assertTrue(counter.estimate("attacker", start + WINDOW - 1) >= 20);
+
+        // 윈도우가 지나면 대량 유입 흔적이 사라져 새로운 키는 정상 집계
+        assertEquals(1, counter.increment("fresh-user", start + WINDOW * 3));
+    }
+}